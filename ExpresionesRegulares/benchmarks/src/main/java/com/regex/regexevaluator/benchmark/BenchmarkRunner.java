@@ -0,0 +1,33 @@
+package com.regex.regexevaluator.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Punto de entrada de benchmarks.jar. Ejecuta los benchmarks con el perfilador de
+ * GC (asignación de memoria por operación) y guarda los resultados en JSON para
+ * comparar entre versiones.
+ *
+ * Uso: java -jar benchmarks.jar [filtro] [archivo-resultado.json]
+ */
+public class BenchmarkRunner {
+
+    private static final String RESULTADO_POR_DEFECTO = "jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String filtro = args.length > 0 ? args[0] : RegexValidatorBenchmark.class.getSimpleName();
+        String resultado = args.length > 1 ? args[1] : RESULTADO_POR_DEFECTO;
+
+        Options opciones = new OptionsBuilder()
+                .include(filtro)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultado)
+                .build();
+        new Runner(opciones).run();
+    }
+}
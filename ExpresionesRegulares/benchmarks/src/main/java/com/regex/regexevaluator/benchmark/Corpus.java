@@ -0,0 +1,142 @@
+package com.regex.regexevaluator.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entradas de prueba para los benchmarks, agrupadas por regla y por tipo:
+ * "valido" (entradas reales que deben aceptarse), "invalido" (errores típicos de
+ * digitación) y "adversario" (entradas largas diseñadas para forzar el retroceso
+ * del motor de expresiones regulares).
+ */
+public final class Corpus {
+
+    public static final String VALIDO = "valido";
+    public static final String INVALIDO = "invalido";
+    public static final String ADVERSARIO = "adversario";
+
+    private static final Map<String, String[]> ENTRADAS = new HashMap<>();
+
+    static {
+        registrar("placa",
+                new String[]{"ABC123", "XYZ987", "MDE001", "BOG450"},
+                new String[]{"abc123", "AB1234", "ABC12", "ABC1234", "ABC-123"},
+                new String[]{"A".repeat(64), "ABC" + "1".repeat(64), "ABC12" + "3".repeat(32) + "!"});
+        registrar("codigo-postal",
+                new String[]{"050001", "050021", "055411", "059999"},
+                new String[]{"060001", "05001", "0500012", "O50001", "50001"},
+                new String[]{"05" + "0".repeat(64), "0".repeat(128), "05" + "1".repeat(32) + "x"});
+        registrar("num-fijo",
+                new String[]{"6041234567", "6044440000", "6049876543"},
+                new String[]{"6011234567", "604123456", "60412345678", "604-123-4567"},
+                new String[]{"604" + "9".repeat(64), "6".repeat(128), "604" + "1".repeat(32) + "a"});
+        registrar("num-celular",
+                new String[]{"3001234567", "3157654321", "3209998877"},
+                new String[]{"2001234567", "300123456", "30012345678", "300 123 4567"},
+                new String[]{"3" + "0".repeat(64), "3".repeat(128), "3" + "1".repeat(32) + "#"});
+        registrar("email",
+                new String[]{"juan.perez@example.com", "maria_lopez+news@correo.com.co", "a@b.io"},
+                new String[]{"juan.perez@", "@example.com", "juan perez@example.com", "juan@example"},
+                new String[]{"a@" + "a.".repeat(512) + "!", "a".repeat(1024) + "@" + "b".repeat(1024),
+                        "x@" + "-".repeat(1024) + ".c"});
+        registrar("fecha",
+                new String[]{"01/01/2023", "31/12/1999", "15/06/2024", "29/02/2024"},
+                new String[]{"32/01/2023", "01/13/2023", "1/1/2023", "01-01-2023", "31/04/2023", "29/02/2023"},
+                new String[]{"01/01/" + "2".repeat(64), "0".repeat(128), "31/12/" + "9".repeat(32) + "x"});
+        registrar("hora-24",
+                new String[]{"14:30:00", "00:00:00", "23:59:59"},
+                new String[]{"24:00:00", "12:60:00", "9:30:00", "12:30"},
+                new String[]{"23:59:" + "5".repeat(64), "2".repeat(128), "12:30:" + "0".repeat(32) + "x"});
+        registrar("hora-12",
+                new String[]{"02:30:00 AM", "12:00:00 PM", "11:59:59 PM"},
+                new String[]{"13:00:00 PM", "00:30:00 AM", "02:30:00", "02:30:00 am"},
+                new String[]{"12:00:00 " + "A".repeat(64), "1".repeat(128), "11:59:59 " + "P".repeat(32) + "x"});
+        registrar("variable-java",
+                new String[]{"contador", "_total", "valorMaximo2"},
+                new String[]{"2valor", "mi-variable", "int contador = 0;", ""},
+                new String[]{"a".repeat(1024) + "-", "_".repeat(1024) + " ", "v" + "9".repeat(1024) + "!"});
+        registrar("url",
+                new String[]{"https://www.example.com/ruta/recurso", "http://udea.edu.co", "www.google.com"},
+                new String[]{"htp://example.com", "example", "http://", "https://example.c"},
+                new String[]{"http://a.com/" + "a/".repeat(64) + "!", "http://a.com/" + " ".repeat(128) + "!",
+                        "www." + "a-".repeat(128) + ".co" + "/a.".repeat(64) + "?"});
+        registrar("isbn",
+                new String[]{"978-3-16-148410-0", "0-306-40615-2", "ISBN 9780306406157"},
+                new String[]{"978-3-16-148410", "ISBN", "12345", "97831614841000000"},
+                new String[]{"9".repeat(256), "-".repeat(256) + "1", "ISBN " + "1 ".repeat(128) + "X"});
+        registrar("codigo-barras",
+                new String[]{"7701234567897", "7709876543217", "7700000000019"},
+                new String[]{"7701234567890", "7801234567890", "770123456789", "770-1234567890"},
+                new String[]{"770" + "0".repeat(64), "7".repeat(128), "770" + "1".repeat(32) + "x"});
+        registrar("nombre-apellido",
+                new String[]{"Juan Pérez", "María José Núñez", "Ángela Muñoz"},
+                new String[]{"Juan  Pérez", "Juan3", " Juan", "Juan-Pérez"},
+                new String[]{"a ".repeat(512) + "1", "ñ".repeat(1024) + "!", "Á".repeat(512) + " " + "é".repeat(512) + "-"});
+        registrar("contrasena",
+                new String[]{"Segura123!", "P@ssw0rdFuerte", "Abcdef1$"},
+                new String[]{"segura123!", "SEGURA123!", "Segura!!", "Seg1!"},
+                new String[]{"a".repeat(1024), "Aa1" + "x".repeat(1024), "Aa1!" + "b".repeat(1024) + " "});
+        registrar("ciclo-for",
+                new String[]{"for(k=1; k<N;k++)", "for (int i = 0; i < 10; i++) {", "for(;;)"},
+                new String[]{"For(k=1; k<N;k++)", "for k=1; k<N; k++", "while(true)", "for(k=1)"},
+                new String[]{"for(" + ";".repeat(512), "for(" + "a".repeat(1024), "for (" + "; ".repeat(512)});
+        registrar("numero-double",
+                new String[]{"3.14159", "-0.5", "6.022e23", "+42"},
+                new String[]{"3.14.15", "1e", ".", "3,14"},
+                new String[]{"1".repeat(1024) + "x", "." + "5".repeat(1024) + "e", "-" + "9".repeat(512) + "e+"});
+        registrar("ley-decreto-articulo",
+                new String[]{"Ley 1581 de 2012", "Decreto 456", "Artículo 7", "Ley 100 de 1993, artículo 5"},
+                new String[]{"ley 1581 de 2012", "Ley de 2012", "Decreto", "Resolución 123"},
+                new String[]{"Ley " + "1".repeat(512) + " de", "Ley 1" + " ".repeat(512) + "x",
+                        "Decreto 1" + ", ".repeat(256) + "artículo"});
+        registrar("referencia-ieee",
+                new String[]{"[1] A. Author, \"Title of Book\", City, State: Publisher, 2020.",
+                        "[12] J. Smith, B. Jones, \"Data Structures\", Boston, MA: Pearson, 2015."},
+                new String[]{"[1] Author, \"Title\", City, State: Publisher, 2020.",
+                        "1 A. Author, \"Title\", City, State: Publisher, 2020.",
+                        "[1] A. Author, Title, City, State: Publisher, 2020."},
+                new String[]{"[1] A. B, \"T\", " + "a ".repeat(256) + ":",
+                        "[1] A. B" + ", C. D".repeat(128) + "!",
+                        "[1] A. B, \"T\", C, D: " + "e ".repeat(256) + "2020"});
+        registrar("referencia-apa",
+                new String[]{"Perez, J. (2020). Titulo del libro. Editorial Universidad.",
+                        "Smith, A. B. (2019). Clean code. Prentice Hall, Inc.."},
+                new String[]{"Perez J. (2020). Titulo. Editorial.", "Perez, J. 2020. Titulo. Editorial.",
+                        "Perez, J. (20). Titulo. Editorial."},
+                new String[]{"Doe, J. (2020). " + "a. ".repeat(256) + "!", "Doe, J." + " J.".repeat(256) + " (",
+                        "Doe, J. (2020). T. " + "a ".repeat(256) + "1"});
+        registrar("precio-producto",
+                new String[]{"$1.000", "$25.990,50", "1500", "$999.999.999,99"},
+                new String[]{"$1,000.00", "1.00", "$", "$12.34.56"},
+                new String[]{"$" + "1".repeat(1024) + ",", "$1" + ".000".repeat(256) + ",123", "$" + "9".repeat(512) + "x"});
+        registrar("diptongo-hiato",
+                new String[]{"teatro", "ciudad", "piano", "reina", "poeta", "día", "búho", "buey"},
+                new String[]{"casa", "perro", "libro", "sol", "queso", "guitarra"},
+                new String[]{"b".repeat(1024), "c".repeat(1024) + "a", "ta".repeat(512)});
+    }
+
+    private Corpus() {
+    }
+
+    private static void registrar(String regla, String[] validos, String[] invalidos, String[] adversarios) {
+        ENTRADAS.put(regla + "/" + VALIDO, validos);
+        ENTRADAS.put(regla + "/" + INVALIDO, invalidos);
+        ENTRADAS.put(regla + "/" + ADVERSARIO, adversarios);
+    }
+
+    /**
+     * Devuelve las entradas de una regla para el tipo de corpus indicado.
+     *
+     * @param regla El identificador de la regla (ej. "placa").
+     * @param tipo "valido", "invalido" o "adversario".
+     * @return Las entradas registradas.
+     * @throws IllegalArgumentException si la combinación no existe.
+     */
+    public static String[] obtener(String regla, String tipo) {
+        String[] entradas = ENTRADAS.get(regla + "/" + tipo);
+        if (entradas == null) {
+            throw new IllegalArgumentException("No hay corpus para " + regla + "/" + tipo);
+        }
+        return entradas.clone();
+    }
+}
@@ -0,0 +1,125 @@
+package com.regex.regexevaluator.benchmark;
+
+import com.regex.regexevaluator.model.DigitColumnFormat;
+import com.regex.regexevaluator.model.DigitColumnValidator;
+import com.regex.regexevaluator.model.FastMatchers;
+import com.regex.regexevaluator.model.ProductCodeValidator;
+import com.regex.regexevaluator.model.RegexRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compara la validación de una columna de registros numéricos de ancho fijo con la
+ * validación cadena por cadena. Los resultados se expresan por registro.
+ *
+ * La columna tiene {@link #REGISTROS} registros seguidos; la mitad cumple el formato
+ * y la otra mitad tiene un byte cambiado en una posición al azar.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@OperationsPerInvocation(DigitColumnBenchmark.REGISTROS)
+public class DigitColumnBenchmark {
+
+    static final int REGISTROS = 65_536;
+
+    @Param({"num-celular", "codigo-postal", "codigo-barras"})
+    public String regla;
+
+    private DigitColumnFormat formato;
+    private byte[] columna;
+    private String[] cadenas;
+    private Pattern patron;
+    private final DigitColumnValidator vectorial = DigitColumnValidator.crear();
+    private final DigitColumnValidator escalar = DigitColumnValidator.escalar();
+    private final long[] resultado = new long[REGISTROS / Long.SIZE];
+
+    @Setup
+    public void generarColumna() {
+        formato = DigitColumnFormat.porId(regla);
+        patron = RegexRule.porId(regla).getPatron();
+        int ancho = formato.getAncho();
+        String prefijo = switch (formato) {
+            case COD_POSTAL -> "05";
+            case NUM_FIJO -> "604";
+            case NUM_CELULAR -> "3";
+            case CODIGO_BARRAS -> "770";
+        };
+        Random aleatorio = new Random(42);
+        columna = new byte[REGISTROS * ancho];
+        cadenas = new String[REGISTROS];
+        for (int i = 0; i < REGISTROS; i++) {
+            int desde = i * ancho;
+            for (int j = 0; j < ancho; j++) {
+                columna[desde + j] = j < prefijo.length() ? (byte) prefijo.charAt(j) : (byte) ('0' + aleatorio.nextInt(10));
+            }
+            if (formato == DigitColumnFormat.CODIGO_BARRAS) {
+                int suma = 0;
+                for (int j = 0; j < 12; j++) {
+                    suma += (columna[desde + j] - '0') * (j % 2 == 0 ? 1 : 3);
+                }
+                columna[desde + 12] = (byte) ('0' + (10 - suma % 10) % 10);
+            }
+            if (aleatorio.nextBoolean()) {
+                columna[desde + aleatorio.nextInt(ancho)] = (byte) 'x';
+            }
+            cadenas[i] = new String(columna, desde, ancho, StandardCharsets.US_ASCII);
+        }
+    }
+
+    @Benchmark
+    public void regexPorCadena(Blackhole bh) {
+        for (String cadena : cadenas) {
+            bh.consume(patron.matcher(cadena).matches() && conControl(cadena));
+        }
+    }
+
+    @Benchmark
+    public void fastMatchersPorCadena(Blackhole bh) {
+        for (String cadena : cadenas) {
+            bh.consume(switch (formato) {
+                case COD_POSTAL -> FastMatchers.esCodPostal(cadena);
+                case NUM_FIJO -> FastMatchers.esNumFijo(cadena);
+                case NUM_CELULAR -> FastMatchers.esNumCelular(cadena);
+                case CODIGO_BARRAS -> FastMatchers.esCodigoBarras(cadena) && conControl(cadena);
+            });
+        }
+    }
+
+    /** Los códigos de barras también verifican el dígito de control, como las columnas. */
+    private boolean conControl(String cadena) {
+        return formato != DigitColumnFormat.CODIGO_BARRAS || ProductCodeValidator.esControlEan13Valido(cadena);
+    }
+
+    @Benchmark
+    public int columnaEscalar() {
+        Arrays.fill(resultado, 0L);
+        return escalar.validar(columna, 0, REGISTROS, formato, resultado);
+    }
+
+    @Benchmark
+    public int columnaVectorial() {
+        Arrays.fill(resultado, 0L);
+        return vectorial.validar(columna, 0, REGISTROS, formato, resultado);
+    }
+}
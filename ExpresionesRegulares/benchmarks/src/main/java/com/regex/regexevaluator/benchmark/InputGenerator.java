@@ -0,0 +1,316 @@
+package com.regex.regexevaluator.benchmark;
+
+import com.regex.regexevaluator.model.DateTimeParser;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Genera entradas sintéticas para todas las reglas a partir de una semilla, con los
+ * mismos tres tipos de {@link Corpus}: "valido" (entradas que cumplen la regla, con
+ * valores variados y dígitos de control correctos), "invalido" (una entrada válida con
+ * un error de digitación: un carácter cambiado, borrado, insertado o dos caracteres
+ * intercambiados; casi nunca sigue siendo válida) y "adversario" (las plantillas de
+ * retroceso del corpus, con longitudes al azar).
+ *
+ * Con la misma semilla se obtiene siempre la misma secuencia de entradas. No es seguro
+ * entre hilos: cada hilo debe usar su propio generador (ver {@link #paraHilo}).
+ */
+public final class InputGenerator {
+
+    private static final String MAYUSCULAS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String MINUSCULAS = "abcdefghijklmnopqrstuvwxyz";
+    private static final String DIGITOS = "0123456789";
+    private static final String ESPECIALES = "@$!%*?&";
+    /** Caracteres con los que se introducen los errores de digitación. */
+    private static final String TECLADO = MINUSCULAS + MAYUSCULAS + DIGITOS + " .,-_/:@()$";
+    private static final String[] NOMBRES = {"Juan", "María", "José", "Ángela", "Andrés", "Sofía", "Camilo",
+            "Valentina", "Sebastián", "Lucía", "Martín", "Isabel"};
+    private static final String[] APELLIDOS = {"Pérez", "Gómez", "Núñez", "Muñoz", "Rodríguez", "López",
+            "Martínez", "García", "Hernández", "Ramírez", "Castaño", "Ospina"};
+    private static final String[] APELLIDOS_ASCII = {"Smith", "Jones", "Perez", "Gomez", "Garcia", "Lopez",
+            "Author", "Turing", "Knuth", "Hopper"};
+    private static final String[] TITULOS = {"Data Structures", "Clean Code", "Title of Book",
+            "Introduccion a la programacion", "Compiladores", "Redes de computadores"};
+    private static final String[] CIUDADES = {"Boston", "New York", "Medellin", "Bogota", "Madrid"};
+    private static final String[] REGIONES = {"MA", "NY", "Antioquia", "Cundinamarca", "State"};
+    private static final String[] EDITORIALES = {"Pearson", "Prentice Hall", "Editorial Universidad",
+            "Addison Wesley", "Alfaomega"};
+    private static final String[] DOMINIOS = {"example", "correo", "udea", "empresa", "google", "sitio-web"};
+    private static final String[] TLDS = {"com", "co", "org", "edu.co", "io", "net"};
+    private static final String[] PALABRAS = {"teatro", "ciudad", "piano", "reina", "poeta", "día", "búho", "buey",
+            "país", "aéreo", "Uruguay", "pingüino", "cuidado", "oído", "reúne", "guion", "leer",
+            "averiguáis", "leíais", "prohibir", "caída", "hielo", "cuota", "baúl", "rey"};
+    private static final String[] CONDICIONES = {"i < n", "k<N", "j <= 10", "i < lista.size()"};
+
+    /** Generadores de entradas válidas, por regla. */
+    private static final Map<String, Function<SplittableRandom, String>> VALIDOS = new LinkedHashMap<>();
+    /** Generadores de entradas adversarias, por regla; reciben la longitud de la parte repetida. */
+    private static final Map<String, Adversario> ADVERSARIOS = new LinkedHashMap<>();
+
+    /** Plantilla adversaria: una parte repetida entre un prefijo y un sufijo. */
+    private record Adversario(Function<Integer, String> plantilla, int repeticionesMaximas) {
+    }
+
+    static {
+        VALIDOS.put("placa", r -> letras(r, MAYUSCULAS, 3) + letras(r, DIGITOS, 3));
+        VALIDOS.put("codigo-postal", r -> "05" + letras(r, DIGITOS, 4));
+        VALIDOS.put("num-fijo", r -> "604" + letras(r, DIGITOS, 7));
+        VALIDOS.put("num-celular", r -> "3" + letras(r, DIGITOS, 9));
+        VALIDOS.put("email", InputGenerator::email);
+        VALIDOS.put("fecha", InputGenerator::fecha);
+        VALIDOS.put("hora-24", r -> String.format(Locale.ROOT, "%02d:%02d:%02d",
+                r.nextInt(24), r.nextInt(60), r.nextInt(60)));
+        VALIDOS.put("hora-12", r -> String.format(Locale.ROOT, "%02d:%02d:%02d %s",
+                1 + r.nextInt(12), r.nextInt(60), r.nextInt(60), r.nextBoolean() ? "AM" : "PM"));
+        VALIDOS.put("variable-java", r -> letras(r, MINUSCULAS + MAYUSCULAS + "_", 1)
+                + letras(r, MINUSCULAS + MAYUSCULAS + DIGITOS + "_", r.nextInt(16)));
+        VALIDOS.put("url", InputGenerator::url);
+        VALIDOS.put("isbn", InputGenerator::isbn);
+        VALIDOS.put("codigo-barras", r -> conControlEan13("770" + letras(r, DIGITOS, 9)));
+        VALIDOS.put("nombre-apellido", r -> uno(r, NOMBRES) + (r.nextBoolean() ? " " + uno(r, NOMBRES) : "")
+                + " " + uno(r, APELLIDOS) + (r.nextBoolean() ? " " + uno(r, APELLIDOS) : ""));
+        VALIDOS.put("contrasena", InputGenerator::contrasena);
+        VALIDOS.put("ciclo-for", r -> r.nextBoolean()
+                ? "for (int i = 0; " + uno(r, CONDICIONES) + "; i++) {"
+                : "for(k=" + r.nextInt(10) + "; " + uno(r, CONDICIONES) + ";k++)");
+        VALIDOS.put("numero-double", InputGenerator::numeroDouble);
+        VALIDOS.put("ley-decreto-articulo", r -> uno(r, new String[]{"Ley", "Decreto", "Artículo"}) + " "
+                + (1 + r.nextInt(2000)) + (r.nextBoolean() ? " de " + (1950 + r.nextInt(75)) : "")
+                + (r.nextInt(4) == 0 ? ", artículo " + (1 + r.nextInt(300)) : ""));
+        VALIDOS.put("referencia-ieee", InputGenerator::referenciaIeee);
+        VALIDOS.put("referencia-apa", InputGenerator::referenciaApa);
+        VALIDOS.put("precio-producto", InputGenerator::precio);
+        VALIDOS.put("diptongo-hiato", r -> uno(r, PALABRAS));
+
+        ADVERSARIOS.put("placa", new Adversario(n -> "ABC" + "1".repeat(n), 64));
+        ADVERSARIOS.put("codigo-postal", new Adversario(n -> "05" + "1".repeat(n) + "x", 64));
+        ADVERSARIOS.put("num-fijo", new Adversario(n -> "604" + "1".repeat(n) + "a", 64));
+        ADVERSARIOS.put("num-celular", new Adversario(n -> "3" + "0".repeat(n) + "#", 64));
+        ADVERSARIOS.put("email", new Adversario(n -> "a@" + "a.".repeat(n) + "!", 512));
+        ADVERSARIOS.put("fecha", new Adversario(n -> "31/12/" + "9".repeat(n) + "x", 64));
+        ADVERSARIOS.put("hora-24", new Adversario(n -> "23:59:" + "5".repeat(n), 64));
+        ADVERSARIOS.put("hora-12", new Adversario(n -> "11:59:59 " + "P".repeat(n) + "x", 64));
+        ADVERSARIOS.put("variable-java", new Adversario(n -> "v" + "9".repeat(n) + "!", 1024));
+        ADVERSARIOS.put("url", new Adversario(n -> "http://a.com/" + "a/".repeat(n) + "!", 64));
+        ADVERSARIOS.put("isbn", new Adversario(n -> "ISBN " + "1 ".repeat(n) + "X", 128));
+        ADVERSARIOS.put("codigo-barras", new Adversario(n -> "770" + "1".repeat(n) + "x", 64));
+        ADVERSARIOS.put("nombre-apellido", new Adversario(n -> "a ".repeat(n) + "1", 512));
+        ADVERSARIOS.put("contrasena", new Adversario(n -> "Aa1!" + "b".repeat(n) + " ", 1024));
+        ADVERSARIOS.put("ciclo-for", new Adversario(n -> "for (" + "; ".repeat(n), 512));
+        ADVERSARIOS.put("numero-double", new Adversario(n -> "-" + "9".repeat(n) + "e+", 512));
+        ADVERSARIOS.put("ley-decreto-articulo", new Adversario(n -> "Decreto 1" + ", ".repeat(n) + "artículo", 256));
+        ADVERSARIOS.put("referencia-ieee", new Adversario(n -> "[1] A. B" + ", C. D".repeat(n) + "!", 128));
+        ADVERSARIOS.put("referencia-apa", new Adversario(n -> "Doe, J. (2020). " + "a. ".repeat(n) + "!", 256));
+        ADVERSARIOS.put("precio-producto", new Adversario(n -> "$1" + ".000".repeat(n) + ",123", 256));
+        ADVERSARIOS.put("diptongo-hiato", new Adversario(n -> "ta".repeat(n), 512));
+    }
+
+    private final SplittableRandom aleatorio;
+
+    /**
+     * @param semilla La semilla; con la misma semilla se generan las mismas entradas.
+     */
+    public InputGenerator(long semilla) {
+        this.aleatorio = new SplittableRandom(semilla);
+    }
+
+    /**
+     * Crea el generador de un hilo, independiente del de los demás hilos pero
+     * reproducible a partir de la misma semilla.
+     *
+     * @param semilla La semilla de la ejecución.
+     * @param hilo El número del hilo (desde 0).
+     */
+    public static InputGenerator paraHilo(long semilla, int hilo) {
+        return new InputGenerator(semilla + 0x9E3779B97F4A7C15L * (hilo + 1));
+    }
+
+    /** @return Los identificadores de las reglas para las que hay generadores. */
+    public static Set<String> getReglas() {
+        return Collections.unmodifiableSet(VALIDOS.keySet());
+    }
+
+    /**
+     * Genera una entrada.
+     *
+     * @param regla El identificador de la regla (ej. "placa").
+     * @param tipo {@link Corpus#VALIDO}, {@link Corpus#INVALIDO} o {@link Corpus#ADVERSARIO}.
+     * @return La entrada generada.
+     * @throws IllegalArgumentException si la regla o el tipo no existen.
+     */
+    public String generar(String regla, String tipo) {
+        Function<SplittableRandom, String> valido = VALIDOS.get(regla);
+        if (valido == null) {
+            throw new IllegalArgumentException("No hay generador para la regla " + regla);
+        }
+        return switch (tipo) {
+            case Corpus.VALIDO -> valido.apply(aleatorio);
+            case Corpus.INVALIDO -> conError(valido.apply(aleatorio));
+            case Corpus.ADVERSARIO -> {
+                Adversario adversario = ADVERSARIOS.get(regla);
+                int maximo = adversario.repeticionesMaximas();
+                yield adversario.plantilla().apply(maximo / 4 + aleatorio.nextInt(maximo - maximo / 4 + 1));
+            }
+            default -> throw new IllegalArgumentException("Tipo de entrada desconocido: " + tipo);
+        };
+    }
+
+    /** Introduce un error de digitación en una entrada válida. */
+    private String conError(String valida) {
+        StringBuilder s = new StringBuilder(valida);
+        int posicion = aleatorio.nextInt(s.length());
+        char tecla = TECLADO.charAt(aleatorio.nextInt(TECLADO.length()));
+        switch (aleatorio.nextInt(4)) {
+            case 0 -> s.setCharAt(posicion, tecla == s.charAt(posicion) ? '#' : tecla);
+            case 1 -> s.deleteCharAt(posicion);
+            case 2 -> s.insert(posicion, tecla);
+            default -> {
+                int siguiente = posicion + 1 < s.length() ? posicion + 1 : Math.max(0, posicion - 1);
+                char c = s.charAt(posicion);
+                s.setCharAt(posicion, s.charAt(siguiente));
+                s.setCharAt(siguiente, c);
+                if (s.toString().equals(valida)) {
+                    s.append('#');
+                }
+            }
+        }
+        return s.toString();
+    }
+
+    private static String email(SplittableRandom r) {
+        String local = letras(r, MINUSCULAS, 1 + r.nextInt(8))
+                + (r.nextBoolean()
+                ? uno(r, new String[]{".", "_", "+"}) + letras(r, MINUSCULAS + DIGITOS, 1 + r.nextInt(6))
+                : "");
+        return local + "@" + uno(r, DOMINIOS) + "." + uno(r, TLDS);
+    }
+
+    private static String fecha(SplittableRandom r) {
+        int anio = 1900 + r.nextInt(200);
+        int mes = 1 + r.nextInt(12);
+        int dia = 1 + r.nextInt(DateTimeParser.diasDelMes(mes, anio));
+        return String.format(Locale.ROOT, "%02d/%02d/%04d", dia, mes, anio);
+    }
+
+    private static String url(SplittableRandom r) {
+        String inicio = uno(r, new String[]{"http://", "https://", "www.", "https://www."});
+        StringBuilder url = new StringBuilder(inicio).append(uno(r, DOMINIOS)).append('.').append(uno(r, TLDS));
+        for (int i = r.nextInt(3); i > 0; i--) {
+            url.append('/').append(letras(r, MINUSCULAS, 1 + r.nextInt(8)));
+        }
+        return url.toString();
+    }
+
+    private static String isbn(SplittableRandom r) {
+        if (r.nextBoolean()) {
+            String cuerpo = (r.nextBoolean() ? "978" : "979") + letras(r, DIGITOS, 9);
+            String codigo = conControlEan13(cuerpo);
+            return r.nextBoolean() ? codigo
+                    : codigo.substring(0, 3) + "-" + codigo.charAt(3) + "-" + codigo.substring(4, 6) + "-"
+                    + codigo.substring(6, 12) + "-" + codigo.charAt(12);
+        }
+        String cuerpo = letras(r, DIGITOS, 9);
+        int suma = 0;
+        for (int i = 0; i < 9; i++) {
+            suma += (10 - i) * (cuerpo.charAt(i) - '0');
+        }
+        int control = (11 - suma % 11) % 11;
+        String codigo = cuerpo + (control == 10 ? "X" : String.valueOf(control));
+        return r.nextBoolean() ? codigo
+                : codigo.charAt(0) + "-" + codigo.substring(1, 4) + "-" + codigo.substring(4, 9)
+                + "-" + codigo.charAt(9);
+    }
+
+    /** Agrega a 12 dígitos el dígito de control EAN-13. */
+    private static String conControlEan13(String doceDigitos) {
+        int suma = 0;
+        for (int i = 0; i < 12; i++) {
+            suma += (doceDigitos.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return doceDigitos + (10 - suma % 10) % 10;
+    }
+
+    private static String contrasena(SplittableRandom r) {
+        StringBuilder s = new StringBuilder()
+                .append(letras(r, MINUSCULAS, 1))
+                .append(letras(r, MAYUSCULAS, 1))
+                .append(letras(r, DIGITOS, 1))
+                .append(letras(r, ESPECIALES, 1))
+                .append(letras(r, MINUSCULAS + MAYUSCULAS + DIGITOS + ESPECIALES, 4 + r.nextInt(9)));
+        // Se mezclan los caracteres para que las clases no aparezcan siempre en el mismo orden.
+        for (int i = s.length() - 1; i > 0; i--) {
+            int j = r.nextInt(i + 1);
+            char c = s.charAt(i);
+            s.setCharAt(i, s.charAt(j));
+            s.setCharAt(j, c);
+        }
+        return s.toString();
+    }
+
+    private static String numeroDouble(SplittableRandom r) {
+        String signo = uno(r, new String[]{"", "", "-", "+"});
+        String numero = switch (r.nextInt(3)) {
+            case 0 -> letras(r, DIGITOS, 1 + r.nextInt(6));
+            case 1 -> letras(r, DIGITOS, r.nextInt(4)) + "." + letras(r, DIGITOS, 1 + r.nextInt(6));
+            default -> letras(r, DIGITOS, 1) + "." + letras(r, DIGITOS, 1 + r.nextInt(4)) + "e"
+                    + uno(r, new String[]{"", "-", "+"}) + (1 + r.nextInt(300));
+        };
+        return signo + numero;
+    }
+
+    private static String referenciaIeee(SplittableRandom r) {
+        StringBuilder s = new StringBuilder("[").append(1 + r.nextInt(99)).append("] ");
+        int autores = 1 + r.nextInt(3);
+        for (int i = 0; i < autores; i++) {
+            s.append(i > 0 ? ", " : "").append(letras(r, MAYUSCULAS, 1)).append(". ")
+                    .append(uno(r, APELLIDOS_ASCII));
+        }
+        return s.append(", \"").append(uno(r, TITULOS)).append("\", ").append(uno(r, CIUDADES)).append(", ")
+                .append(uno(r, REGIONES)).append(": ").append(uno(r, EDITORIALES)).append(", ")
+                .append(1950 + r.nextInt(75)).append('.').toString();
+    }
+
+    private static String referenciaApa(SplittableRandom r) {
+        StringBuilder s = new StringBuilder(uno(r, APELLIDOS_ASCII)).append(", ")
+                .append(letras(r, MAYUSCULAS, 1)).append('.');
+        if (r.nextBoolean()) {
+            s.append(' ').append(letras(r, MAYUSCULAS, 1)).append('.');
+        }
+        return s.append(" (").append(1950 + r.nextInt(75)).append("). ").append(uno(r, TITULOS)).append(". ")
+                .append(uno(r, EDITORIALES)).append(r.nextInt(4) == 0 ? ", Inc.." : ".").toString();
+    }
+
+    private static String precio(SplittableRandom r) {
+        StringBuilder s = new StringBuilder(r.nextBoolean() ? "$" : "");
+        if (r.nextBoolean()) {
+            s.append(1 + r.nextInt(999));
+            for (int i = r.nextInt(3); i > 0; i--) {
+                s.append('.').append(letras(r, DIGITOS, 3));
+            }
+        } else {
+            s.append(1 + r.nextInt(100_000));
+        }
+        if (r.nextInt(3) == 0) {
+            s.append(',').append(letras(r, DIGITOS, 1 + r.nextInt(2)));
+        }
+        return s.toString();
+    }
+
+    private static String letras(SplittableRandom r, String alfabeto, int cantidad) {
+        char[] resultado = new char[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            resultado[i] = alfabeto.charAt(r.nextInt(alfabeto.length()));
+        }
+        return new String(resultado);
+    }
+
+    private static String uno(SplittableRandom r, String[] opciones) {
+        return opciones[r.nextInt(opciones.length)];
+    }
+}
@@ -0,0 +1,410 @@
+package com.regex.regexevaluator.benchmark;
+
+import com.regex.regexevaluator.controller.LatencyHistogram;
+import com.regex.regexevaluator.controller.RegexController;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * Generador de carga y prueba de resistencia (soak): valida entradas de
+ * {@link InputGenerator} con las reglas del {@link RegexController}, en N hilos y a una
+ * tasa objetivo, durante el tiempo indicado. Cada intervalo informa el rendimiento, las
+ * latencias p50/p99/p99.9 y máxima, las recolecciones de basura, la memoria asignada
+ * por segundo y el heap ocupado tras la última recolección (si crece en una prueba
+ * larga, hay una fuga); al final, el resumen total y por regla.
+ *
+ * Con una tasa objetivo la carga es de lazo abierto: cada hilo tiene un horario fijo de
+ * operaciones y la latencia se mide desde el instante programado, no desde el inicio
+ * real, para que un bloqueo (ej. una pausa de GC) cuente en todas las operaciones que
+ * retrasa. Sin tasa (0), cada hilo valida tan rápido como puede.
+ *
+ * Uso: java -cp benchmarks.jar com.regex.regexevaluator.benchmark.LoadHarness
+ * [--reglas todas|r1,r2] [--hilos N] [--tasa ops/s] [--duracion 60s] [--calentamiento 10s]
+ * [--informe 10s] [--semilla N] [--mezcla validos,invalidos,adversarios] [--sin-metricas]
+ */
+public class LoadHarness {
+
+    /** Entradas generadas por hilo antes de empezar; se recorren en ciclo. */
+    private static final int ENTRADAS_POR_HILO = 1 << 16;
+    /**
+     * Antes del instante programado, el hilo duerme hasta este margen y espera activamente
+     * el resto: parkNanos puede despertar decenas de microsegundos tarde, y ese retraso se
+     * sumaría a la latencia medida. Solo se hace si hay un núcleo por hilo de carga; si no,
+     * los hilos que esperan activamente le quitan el procesador a los que validan.
+     */
+    private static final long MARGEN_ESPERA_NS = 100_000;
+    private static final String DIPTONGO_HIATO = "diptongo-hiato";
+    private static final String[] TIPOS = {Corpus.VALIDO, Corpus.INVALIDO, Corpus.ADVERSARIO};
+
+    /**
+     * Opciones de la ejecución.
+     *
+     * @param reglas Las reglas a validar; cada entrada elige una al azar.
+     * @param hilos Número de hilos que generan carga.
+     * @param tasa Operaciones por segundo entre todos los hilos, o 0 para no limitarla.
+     * @param duracion Duración de la medición, sin contar el calentamiento.
+     * @param calentamiento Tiempo de carga inicial que no se incluye en el resumen.
+     * @param informe Cada cuánto se imprime una línea de resultados.
+     * @param semilla Semilla de las entradas; con la misma se repite la misma carga.
+     * @param mezcla Pesos de las entradas válidas, inválidas y adversarias.
+     * @param metricas false para desactivar las métricas por regla del controlador.
+     */
+    public record Config(List<String> reglas, int hilos, double tasa, Duration duracion, Duration calentamiento,
+                         Duration informe, long semilla, int[] mezcla, boolean metricas) {
+
+        public Config {
+            if (reglas.isEmpty() || hilos < 1 || tasa < 0 || duracion.isNegative() || calentamiento.isNegative()
+                    || informe.isZero() || informe.isNegative()) {
+                throw new IllegalArgumentException("Se necesita al menos una regla, un hilo, una tasa no negativa "
+                        + "y un intervalo de informe positivo.");
+            }
+            if (mezcla.length != TIPOS.length || mezcla[0] < 0 || mezcla[1] < 0 || mezcla[2] < 0
+                    || mezcla[0] + mezcla[1] + mezcla[2] == 0) {
+                throw new IllegalArgumentException("La mezcla son tres pesos no negativos (ej. 70,25,5).");
+            }
+            reglas = List.copyOf(reglas);
+            mezcla = mezcla.clone();
+        }
+
+        /** @return La configuración por defecto: todas las reglas, un hilo por núcleo y sin límite de tasa. */
+        public static Config porDefecto() {
+            return new Config(new ArrayList<>(InputGenerator.getReglas()), Runtime.getRuntime().availableProcessors(),
+                    0, Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofSeconds(10), 42,
+                    new int[]{70, 25, 5}, true);
+        }
+    }
+
+    /** Contadores de un intervalo o de toda la ejecución. */
+    private static final class Ventana {
+        private final LatencyHistogram latencias = new LatencyHistogram();
+        private final LongAdder operaciones = new LongAdder();
+        private final LongAdder coincidencias = new LongAdder();
+        private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+        void registrar(long nanos, boolean coincide) {
+            latencias.registrar(nanos);
+            operaciones.increment();
+            if (coincide) {
+                coincidencias.increment();
+            }
+            maximo.accumulate(nanos);
+        }
+
+        void reiniciar() {
+            latencias.reiniciar();
+            operaciones.reset();
+            coincidencias.reset();
+            maximo.reset();
+        }
+    }
+
+    private final Config config;
+    private final String[] reglas;
+    private final List<Predicate<String>> validaciones = new ArrayList<>();
+    private final Ventana intervalo = new Ventana();
+    private final Ventana total = new Ventana();
+    private final Ventana[] porRegla;
+    private final List<Thread> hilos = new ArrayList<>();
+    private volatile boolean detener;
+    /** Mientras es true, los resultados no se acumulan en el total ni por regla. */
+    private volatile boolean calentando;
+
+    /**
+     * @param controller El controlador con las reglas a probar.
+     * @param config Las opciones de la ejecución.
+     * @throws IllegalArgumentException si alguna regla no existe o no tiene generador.
+     */
+    public LoadHarness(RegexController controller, Config config) {
+        this.config = config;
+        this.reglas = config.reglas().toArray(new String[0]);
+        this.porRegla = new Ventana[reglas.length];
+        for (int i = 0; i < reglas.length; i++) {
+            if (!InputGenerator.getReglas().contains(reglas[i])) {
+                throw new IllegalArgumentException("No hay generador para la regla " + reglas[i]);
+            }
+            validaciones.add(reglas[i].equals(DIPTONGO_HIATO)
+                    ? palabra -> !controller.analizarVocales(palabra).isEmpty()
+                    : controller.obtenerValidacion(reglas[i]));
+            porRegla[i] = new Ventana();
+        }
+        controller.getMetricas().setActivas(config.metricas());
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadHarness carga;
+        try {
+            carga = new LoadHarness(new RegexController(), interpretar(args));
+        } catch (RuntimeException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: LoadHarness [--reglas todas|r1,r2] [--hilos N] [--tasa ops/s] [--duracion 60s]"
+                    + " [--calentamiento 10s] [--informe 10s] [--semilla N] [--mezcla 70,25,5] [--sin-metricas]");
+            System.err.println("Reglas disponibles: " + String.join(", ", InputGenerator.getReglas()));
+            System.exit(1);
+            return;
+        }
+        carga.ejecutar();
+    }
+
+    /**
+     * Genera las entradas, inicia los hilos y escribe los informes en la salida estándar
+     * hasta que termina la duración configurada.
+     */
+    public void ejecutar() throws InterruptedException {
+        System.out.printf(Locale.ROOT, "Reglas: %s%nHilos: %d  tasa: %s  duración: %s (+%s de calentamiento)"
+                        + "  semilla: %d  mezcla: %d/%d/%d%n",
+                String.join(",", reglas), config.hilos(),
+                config.tasa() > 0 ? String.format(Locale.ROOT, "%.0f ops/s", config.tasa()) : "sin límite",
+                texto(config.duracion()), texto(config.calentamiento()), config.semilla(),
+                config.mezcla()[0], config.mezcla()[1], config.mezcla()[2]);
+        for (int h = 0; h < config.hilos(); h++) {
+            Thread hilo = new Thread(new Generador(h), "carga-" + h);
+            hilo.setDaemon(true);
+            hilos.add(hilo);
+        }
+        calentando = config.calentamiento().toNanos() > 0;
+        MedidorGc gc = new MedidorGc(hilos);
+        long inicio = System.nanoTime();
+        hilos.forEach(Thread::start);
+        if (calentando) {
+            Thread.sleep(config.calentamiento().toMillis());
+            calentando = false;
+            System.out.println("Calentamiento terminado.");
+        }
+        intervalo.reiniciar();
+        gc.intervalo();
+        MedidorGc gcTotal = new MedidorGc(hilos);
+        long inicioMedicion = System.nanoTime();
+        long fin = inicioMedicion + config.duracion().toNanos();
+        long siguienteInforme = inicioMedicion;
+        while (System.nanoTime() < fin) {
+            long anterior = siguienteInforme;
+            siguienteInforme = Math.min(fin, siguienteInforme + config.informe().toNanos());
+            LockSupport.parkNanos(siguienteInforme - System.nanoTime());
+            informar(String.format(Locale.ROOT, "[%6.0f s]", (System.nanoTime() - inicio) / 1e9),
+                    intervalo, System.nanoTime() - anterior, gc.intervalo());
+            intervalo.reiniciar();
+        }
+        // La memoria asignada por un hilo solo se puede consultar mientras sigue vivo.
+        String gcMedicion = gcTotal.intervalo();
+        long medido = System.nanoTime() - inicioMedicion;
+        detener = true;
+        for (Thread hilo : hilos) {
+            hilo.join();
+        }
+        System.out.println();
+        informar("Total     ", total, medido, gcMedicion);
+        System.out.printf(Locale.ROOT, "%-22s %12s %8s %10s %10s %10s %10s%n",
+                "Regla", "Operaciones", "Válidas", "p50", "p99", "p99.9", "Máx.");
+        for (int i = 0; i < reglas.length; i++) {
+            Ventana v = porRegla[i];
+            long operaciones = v.operaciones.sum();
+            System.out.printf(Locale.ROOT, "%-22s %12d %7.1f%% %10s %10s %10s %10s%n", reglas[i], operaciones,
+                    operaciones == 0 ? 0 : 100.0 * v.coincidencias.sum() / operaciones,
+                    nanos(v.latencias.percentil(50)), nanos(v.latencias.percentil(99)),
+                    nanos(v.latencias.percentil(99.9)), nanos(v.maximo.get()));
+        }
+    }
+
+    private static void informar(String etiqueta, Ventana v, long nanos, String gc) {
+        long operaciones = v.operaciones.sum();
+        System.out.printf(Locale.ROOT, "%s %,12.0f ops/s  p50 %9s  p99 %9s  p99.9 %9s  máx %9s  %s%n",
+                etiqueta, operaciones * 1e9 / Math.max(1, nanos),
+                nanos(v.latencias.percentil(50)), nanos(v.latencias.percentil(99)),
+                nanos(v.latencias.percentil(99.9)), nanos(v.maximo.get()), gc);
+    }
+
+    /** Genera la carga de un hilo sobre sus propias entradas pregeneradas. */
+    private final class Generador implements Runnable {
+        private final int[] reglaDe = new int[ENTRADAS_POR_HILO];
+        private final String[] entradas = new String[ENTRADAS_POR_HILO];
+
+        Generador(int hilo) {
+            InputGenerator generador = InputGenerator.paraHilo(config.semilla(), hilo);
+            SplittableRandom eleccion = new SplittableRandom(config.semilla() ^ hilo);
+            int[] mezcla = config.mezcla();
+            int pesoTotal = mezcla[0] + mezcla[1] + mezcla[2];
+            for (int i = 0; i < ENTRADAS_POR_HILO; i++) {
+                reglaDe[i] = eleccion.nextInt(reglas.length);
+                int peso = eleccion.nextInt(pesoTotal);
+                String tipo = peso < mezcla[0] ? TIPOS[0] : peso < mezcla[0] + mezcla[1] ? TIPOS[1] : TIPOS[2];
+                entradas[i] = generador.generar(reglas[reglaDe[i]], tipo);
+            }
+        }
+
+        @Override
+        public void run() {
+            // Tiempo entre operaciones de este hilo; 0 sin límite de tasa.
+            long periodo = config.tasa() > 0 ? (long) (config.hilos() * 1e9 / config.tasa()) : 0;
+            long margen = config.hilos() <= Runtime.getRuntime().availableProcessors() ? MARGEN_ESPERA_NS : 0;
+            long programado = System.nanoTime();
+            for (int i = 0; !detener; i = (i + 1) & (ENTRADAS_POR_HILO - 1)) {
+                long inicio;
+                if (periodo > 0) {
+                    programado += periodo;
+                    long espera;
+                    while ((espera = programado - System.nanoTime()) > 0 && !detener) {
+                        if (espera > margen) {
+                            LockSupport.parkNanos(espera - margen);
+                        } else {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    inicio = programado;
+                } else {
+                    inicio = System.nanoTime();
+                }
+                int regla = reglaDe[i];
+                boolean coincide = validaciones.get(regla).test(entradas[i]);
+                long latencia = System.nanoTime() - inicio;
+                intervalo.registrar(latencia, coincide);
+                if (!calentando) {
+                    total.registrar(latencia, coincide);
+                    porRegla[regla].registrar(latencia, coincide);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recolecciones, memoria asignada por los hilos de carga y heap ocupado tras la
+     * última recolección, desde la consulta anterior.
+     */
+    private static final class MedidorGc {
+        private final List<Thread> hilos;
+        private final com.sun.management.ThreadMXBean memoriaHilos;
+        private long recolecciones;
+        private long milisegundosGc;
+        private long asignados;
+        private long desde = System.nanoTime();
+
+        MedidorGc(List<Thread> hilos) {
+            this.hilos = hilos;
+            this.memoriaHilos = ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t
+                    && t.isThreadAllocatedMemorySupported() ? t : null;
+            intervalo();
+        }
+
+        /** @return El texto con los datos desde la llamada anterior. */
+        String intervalo() {
+            long cuenta = 0;
+            long milisegundos = 0;
+            for (GarbageCollectorMXBean recolector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                cuenta += Math.max(0, recolector.getCollectionCount());
+                milisegundos += Math.max(0, recolector.getCollectionTime());
+            }
+            long bytes = bytesAsignados();
+            long ahora = System.nanoTime();
+            String texto = String.format(Locale.ROOT, "GC %d (%d ms)  asignación %s/s  heap tras GC %s",
+                    cuenta - recolecciones, milisegundos - milisegundosGc,
+                    bytes < 0 ? "?" : megabytes((bytes - asignados) * 1e9 / Math.max(1, ahora - desde)),
+                    megabytes(heapTrasGc()));
+            recolecciones = cuenta;
+            milisegundosGc = milisegundos;
+            asignados = bytes;
+            desde = ahora;
+            return texto;
+        }
+
+        private long bytesAsignados() {
+            if (memoriaHilos == null) {
+                return -1;
+            }
+            long suma = 0;
+            for (Thread hilo : hilos) {
+                suma += Math.max(0, memoriaHilos.getThreadAllocatedBytes(hilo.threadId()));
+            }
+            return suma;
+        }
+
+        private static long heapTrasGc() {
+            long usado = 0;
+            for (MemoryPoolMXBean area : ManagementFactory.getMemoryPoolMXBeans()) {
+                MemoryUsage trasGc = area.getCollectionUsage();
+                if (area.getType() == MemoryType.HEAP && trasGc != null) {
+                    usado += trasGc.getUsed();
+                }
+            }
+            return usado;
+        }
+    }
+
+    private static Config interpretar(String[] args) {
+        Config d = Config.porDefecto();
+        List<String> reglas = d.reglas();
+        int hilos = d.hilos();
+        double tasa = d.tasa();
+        Duration duracion = d.duracion();
+        Duration calentamiento = d.calentamiento();
+        Duration informe = d.informe();
+        long semilla = d.semilla();
+        int[] mezcla = d.mezcla();
+        boolean metricas = d.metricas();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--reglas" -> reglas = args[++i].equals("todas") ? reglas : List.of(args[i].split(","));
+                case "--hilos" -> hilos = Integer.parseInt(args[++i]);
+                case "--tasa" -> tasa = Double.parseDouble(args[++i]);
+                case "--duracion" -> duracion = duracion(args[++i]);
+                case "--calentamiento" -> calentamiento = duracion(args[++i]);
+                case "--informe" -> informe = duracion(args[++i]);
+                case "--semilla" -> semilla = Long.parseLong(args[++i]);
+                case "--mezcla" -> {
+                    String[] pesos = args[++i].split(",");
+                    mezcla = new int[pesos.length];
+                    for (int p = 0; p < pesos.length; p++) {
+                        mezcla[p] = Integer.parseInt(pesos[p].trim());
+                    }
+                }
+                case "--sin-metricas" -> metricas = false;
+                default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+            }
+        }
+        return new Config(reglas, hilos, tasa, duracion, calentamiento, informe, semilla, mezcla, metricas);
+    }
+
+    /** Interpreta "90s", "15m", "2h" o un número de segundos. */
+    private static Duration duracion(String texto) {
+        Map<Character, Duration> unidades = new LinkedHashMap<>();
+        unidades.put('s', Duration.ofSeconds(1));
+        unidades.put('m', Duration.ofMinutes(1));
+        unidades.put('h', Duration.ofHours(1));
+        Duration unidad = unidades.get(texto.charAt(texto.length() - 1));
+        if (unidad == null) {
+            return Duration.ofSeconds(Long.parseLong(texto));
+        }
+        return unidad.multipliedBy(Long.parseLong(texto.substring(0, texto.length() - 1)));
+    }
+
+    private static String texto(Duration duracion) {
+        return duracion.toSeconds() + " s";
+    }
+
+    private static String nanos(long nanos) {
+        if (nanos < 10_000) {
+            return nanos + " ns";
+        }
+        if (nanos < 10_000_000) {
+            return String.format(Locale.ROOT, "%.1f µs", nanos / 1e3);
+        }
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+    }
+
+    private static String megabytes(double bytes) {
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024 * 1024));
+    }
+}
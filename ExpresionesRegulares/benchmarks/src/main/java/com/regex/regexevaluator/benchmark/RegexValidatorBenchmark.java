@@ -0,0 +1,228 @@
+package com.regex.regexevaluator.benchmark;
+
+import com.regex.regexevaluator.model.RegexValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks de cada regla de {@link RegexValidator}. Cada método recorre todas las
+ * entradas del corpus seleccionado, de modo que el resultado se mide por lote de entradas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexValidatorBenchmark {
+
+    @Param({Corpus.VALIDO, Corpus.INVALIDO, Corpus.ADVERSARIO})
+    public String corpus;
+
+    private final RegexValidator validator = new RegexValidator();
+    private String[] placa;
+    private String[] codPostal;
+    private String[] numFijo;
+    private String[] numCelular;
+    private String[] email;
+    private String[] fecha;
+    private String[] hora24;
+    private String[] hora12;
+    private String[] variableJava;
+    private String[] url;
+    private String[] isbn;
+    private String[] codigoBarras;
+    private String[] nombreApellido;
+    private String[] contrasena;
+    private String[] cicloFor;
+    private String[] numeroDouble;
+    private String[] leyDecretoArticulo;
+    private String[] referenciaIeee;
+    private String[] referenciaApa;
+    private String[] precioProducto;
+    private String[] diptongoHiato;
+
+    @Setup
+    public void cargarCorpus() {
+        placa = Corpus.obtener("placa", corpus);
+        codPostal = Corpus.obtener("codigo-postal", corpus);
+        numFijo = Corpus.obtener("num-fijo", corpus);
+        numCelular = Corpus.obtener("num-celular", corpus);
+        email = Corpus.obtener("email", corpus);
+        fecha = Corpus.obtener("fecha", corpus);
+        hora24 = Corpus.obtener("hora-24", corpus);
+        hora12 = Corpus.obtener("hora-12", corpus);
+        variableJava = Corpus.obtener("variable-java", corpus);
+        url = Corpus.obtener("url", corpus);
+        isbn = Corpus.obtener("isbn", corpus);
+        codigoBarras = Corpus.obtener("codigo-barras", corpus);
+        nombreApellido = Corpus.obtener("nombre-apellido", corpus);
+        contrasena = Corpus.obtener("contrasena", corpus);
+        cicloFor = Corpus.obtener("ciclo-for", corpus);
+        numeroDouble = Corpus.obtener("numero-double", corpus);
+        leyDecretoArticulo = Corpus.obtener("ley-decreto-articulo", corpus);
+        referenciaIeee = Corpus.obtener("referencia-ieee", corpus);
+        referenciaApa = Corpus.obtener("referencia-apa", corpus);
+        precioProducto = Corpus.obtener("precio-producto", corpus);
+        diptongoHiato = Corpus.obtener("diptongo-hiato", corpus);
+    }
+
+    @Benchmark
+    public void placa(Blackhole bh) {
+        for (String entrada : placa) {
+            bh.consume(validator.esPlacaDeCarroValida(entrada));
+        }
+    }
+
+    @Benchmark
+    public void codPostal(Blackhole bh) {
+        for (String entrada : codPostal) {
+            bh.consume(validator.esCodPostalValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void numFijo(Blackhole bh) {
+        for (String entrada : numFijo) {
+            bh.consume(validator.esNumFijoValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void numCelular(Blackhole bh) {
+        for (String entrada : numCelular) {
+            bh.consume(validator.esNumCelularValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void email(Blackhole bh) {
+        for (String entrada : email) {
+            bh.consume(validator.esEmailValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void fecha(Blackhole bh) {
+        for (String entrada : fecha) {
+            bh.consume(validator.esFechaValida(entrada));
+        }
+    }
+
+    @Benchmark
+    public void hora24(Blackhole bh) {
+        for (String entrada : hora24) {
+            bh.consume(validator.esHoraValida24(entrada));
+        }
+    }
+
+    @Benchmark
+    public void hora12(Blackhole bh) {
+        for (String entrada : hora12) {
+            bh.consume(validator.esHoraValida12(entrada));
+        }
+    }
+
+    @Benchmark
+    public void variableJava(Blackhole bh) {
+        for (String entrada : variableJava) {
+            bh.consume(validator.esVarJava(entrada));
+        }
+    }
+
+    @Benchmark
+    public void url(Blackhole bh) {
+        for (String entrada : url) {
+            bh.consume(validator.esURLValida(entrada));
+        }
+    }
+
+    @Benchmark
+    public void isbn(Blackhole bh) {
+        for (String entrada : isbn) {
+            bh.consume(validator.validarTipoISBN(entrada));
+        }
+    }
+
+    @Benchmark
+    public void codigoBarras(Blackhole bh) {
+        for (String entrada : codigoBarras) {
+            bh.consume(validator.esCodigoBarrasColombiaValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void nombreApellido(Blackhole bh) {
+        for (String entrada : nombreApellido) {
+            bh.consume(validator.esNombreApellidoValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void contrasena(Blackhole bh) {
+        for (String entrada : contrasena) {
+            bh.consume(validator.esContrasenaSegura(entrada));
+        }
+    }
+
+    @Benchmark
+    public void cicloFor(Blackhole bh) {
+        for (String entrada : cicloFor) {
+            bh.consume(validator.esCicloForValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void numeroDouble(Blackhole bh) {
+        for (String entrada : numeroDouble) {
+            bh.consume(validator.esNumeroDoubleValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void leyDecretoArticulo(Blackhole bh) {
+        for (String entrada : leyDecretoArticulo) {
+            bh.consume(validator.esLeyDecretoArticuloValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void referenciaIeee(Blackhole bh) {
+        for (String entrada : referenciaIeee) {
+            bh.consume(validator.esReferenciaIeeeValida(entrada));
+        }
+    }
+
+    @Benchmark
+    public void referenciaApa(Blackhole bh) {
+        for (String entrada : referenciaApa) {
+            bh.consume(validator.esReferenciaApaValida(entrada));
+        }
+    }
+
+    @Benchmark
+    public void precioProducto(Blackhole bh) {
+        for (String entrada : precioProducto) {
+            bh.consume(validator.esPrecioProductoValido(entrada));
+        }
+    }
+
+    @Benchmark
+    public void diptongoHiato(Blackhole bh) {
+        for (String entrada : diptongoHiato) {
+            bh.consume(validator.clasificarDiptongoHiato(entrada));
+        }
+    }
+}
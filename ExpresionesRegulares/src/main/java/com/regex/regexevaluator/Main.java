@@ -1,12 +1,152 @@
 package com.regex.regexevaluator;
 
+import com.regex.regexevaluator.controller.CachingRegexController;
+import com.regex.regexevaluator.controller.CatalogWatcher;
 import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.controller.ResultCache;
+import com.regex.regexevaluator.model.RuleCatalog;
+import com.regex.regexevaluator.model.engine.RuleSnapshot;
+import com.regex.regexevaluator.views.BatchView;
 import com.regex.regexevaluator.views.ClientView;
+import com.regex.regexevaluator.views.HttpServerView;
+import com.regex.regexevaluator.views.PipeView;
+import com.regex.regexevaluator.views.TrainingView;
+
+import javax.management.JMException;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Main {
-    public static void main(String[] args) {
+    private static final int PUERTO_POR_DEFECTO = 8080;
+    private static final Duration TTL_CACHE = Duration.ofMinutes(10);
+
+    public static void main(String[] args) throws IOException {
+        // Antes de crear el controlador, que compila el catálogo incluido.
+        args = usarInstantanea(args);
         RegexController controller = new RegexController();
+        args = usarCatalogo(controller, args);
+        if (args.length > 1 && args[0].equals("--generar-instantanea")) {
+            generarInstantanea(controller, Path.of(args[1]));
+            return;
+        }
+        if (args.length > 0 && args[0].equals("--entrenar")) {
+            System.exit(new TrainingView(controller).ejecutar(args));
+        }
+        if (args.length > 0 && args[0].equals("--lote")) {
+            System.exit(new BatchView(controller).ejecutar(args));
+        }
+        if (args.length > 0 && args[0].equals("--pipe")) {
+            // Sin los búferes de System.in y System.out: PipeView usa los suyos, más grandes.
+            System.exit(new PipeView(controller, new FileInputStream(FileDescriptor.in),
+                    new FileOutputStream(FileDescriptor.out)).ejecutar(args));
+        }
+        if (args.length > 0 && args[0].equals("--servidor")) {
+            int puerto = PUERTO_POR_DEFECTO;
+            int capacidadCache = 0;
+            try {
+                if (args.length > 1 && !args[1].startsWith("--")) {
+                    puerto = Integer.parseInt(args[1]);
+                }
+                for (int i = 1; i < args.length - 1; i++) {
+                    if (args[i].equals("--cache")) {
+                        capacidadCache = Integer.parseInt(args[i + 1]);
+                    }
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("Error: número inválido: " + e.getMessage());
+                System.err.println("Uso: --servidor [puerto] [--cache capacidad]");
+                System.exit(1);
+            }
+            try {
+                controller.getMetricas().registrarJmx();
+            } catch (JMException e) {
+                System.err.println("No se pudieron publicar las métricas por JMX: " + e.getMessage());
+            }
+            HttpServerView servidor = capacidadCache > 0
+                    ? new HttpServerView(new CachingRegexController(controller,
+                            new ResultCache.Config(capacidadCache, ResultCache.Politica.TINY_LFU, TTL_CACHE)))
+                    : new HttpServerView(controller);
+            System.out.println("Servidor de validación escuchando en el puerto " + servidor.iniciar(puerto));
+            return;
+        }
         ClientView view = new ClientView(controller);
         view.iniciar();
     }
+
+    /**
+     * Si los argumentos incluyen "--instantanea archivo", instala esa instantánea de reglas
+     * compiladas. Si no se puede leer o es de otra versión se avisa y se sigue sin ella:
+     * las reglas se compilan como siempre.
+     * @return Los argumentos restantes, sin la opción de la instantánea.
+     */
+    private static String[] usarInstantanea(String[] args) {
+        List<String> restantes = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--instantanea") && i + 1 < args.length) {
+                Path archivo = Path.of(args[++i]);
+                try {
+                    RuleSnapshot.instalar(RuleSnapshot.leer(archivo));
+                } catch (NoSuchFileException e) {
+                    System.err.println("No se usará la instantánea " + archivo + ": el archivo no existe.");
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println("No se usará la instantánea " + archivo + ": " + e.getMessage());
+                }
+            } else {
+                restantes.add(args[i]);
+            }
+        }
+        return restantes.toArray(new String[0]);
+    }
+
+    /**
+     * Compila las reglas propias, las del catálogo vigente y el autómata del clasificador,
+     * y las guarda para usarlas con --instantanea.
+     */
+    private static void generarInstantanea(RegexController controller, Path archivo) throws IOException {
+        long inicio = System.nanoTime();
+        RuleSnapshot instantanea = controller.generarInstantanea();
+        instantanea.escribir(archivo);
+        System.err.printf("Instantánea generada en %s: %d expresiones y un autómata de %d estados en %d ms%n",
+                archivo, instantanea.tamano(), instantanea.getNumEstadosAutomata(),
+                (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Si los argumentos incluyen "--catalogo archivo", carga ese catálogo en lugar del
+     * incluido y lo vigila para recargarlo cuando cambie. Si el catálogo no existe o
+     * tiene errores se indica el motivo (con el archivo y la línea) y el programa termina.
+     * @return Los argumentos restantes, sin la opción del catálogo.
+     */
+    private static String[] usarCatalogo(RegexController controller, String[] args) throws IOException {
+        List<String> restantes = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--catalogo") && i + 1 < args.length) {
+                Path archivo = Path.of(args[++i]);
+                long inicio = System.nanoTime();
+                try {
+                    RuleCatalog catalogo = RuleCatalog.cargar(archivo);
+                    controller.setCatalogo(catalogo);
+                    System.err.printf("Catálogo cargado: %d reglas en %d ms%n",
+                            catalogo.tamano(), (System.nanoTime() - inicio) / 1_000_000);
+                } catch (NoSuchFileException e) {
+                    System.err.println("No se pudo cargar el catálogo " + archivo + ": el archivo no existe.");
+                    System.exit(1);
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println("No se pudo cargar el catálogo " + archivo + ": " + e.getMessage());
+                    System.exit(1);
+                }
+                new CatalogWatcher(controller, archivo).iniciar();
+            } else {
+                restantes.add(args[i]);
+            }
+        }
+        return restantes.toArray(new String[0]);
+    }
 }
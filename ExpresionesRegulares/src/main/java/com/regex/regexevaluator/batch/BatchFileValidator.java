@@ -0,0 +1,99 @@
+package com.regex.regexevaluator.batch;
+
+import com.regex.regexevaluator.model.ByteValidation;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+/**
+ * Valida archivos CSV o de una entrada por línea contra una regla. El archivo se
+ * mapea en memoria por bloques, de modo que el consumo de heap no depende de su tamaño.
+ * Las filas se copian sin modificar a "nombre.validos" o "nombre.invalidos" y los
+ * conteos se escriben en "nombre.resumen".
+ */
+public class BatchFileValidator {
+
+    /** Tamaño de cada bloque mapeado; también es la longitud máxima de una línea. */
+    static final int TAMANO_BLOQUE = 64 * 1024 * 1024;
+    static final int TAMANO_BUFFER_SALIDA = 1024 * 1024;
+
+    private final Predicate<String> validacion;
+    private final ByteValidation validacionBytes;
+    private final int columna;
+    private final char separador;
+    private final boolean conEncabezado;
+
+    /**
+     * @param validacion La regla a aplicar (ej. controller.obtenerValidacion("placa")).
+     * @param columna Índice de la columna a validar (desde 0), o -1 para validar la línea completa.
+     * @param separador Separador de columnas (ej. ',').
+     * @param conEncabezado true si la primera línea es un encabezado; se copia a ambas salidas.
+     */
+    public BatchFileValidator(Predicate<String> validacion, int columna, char separador, boolean conEncabezado) {
+        this(validacion, null, columna, separador, conEncabezado);
+    }
+
+    /**
+     * @param validacion La regla a aplicar (ej. controller.obtenerValidacion("placa")).
+     * @param validacionBytes La misma regla sobre bytes (ej. controller.obtenerValidacionAscii("placa")),
+     *                        o null; si existe, los campos se validan sin decodificarlos a String.
+     * @param columna Índice de la columna a validar (desde 0), o -1 para validar la línea completa.
+     * @param separador Separador de columnas (ej. ',').
+     * @param conEncabezado true si la primera línea es un encabezado; se copia a ambas salidas.
+     */
+    public BatchFileValidator(Predicate<String> validacion, ByteValidation validacionBytes, int columna,
+                              char separador, boolean conEncabezado) {
+        this.validacion = validacion;
+        this.validacionBytes = validacionBytes;
+        this.columna = columna;
+        this.separador = separador;
+        this.conEncabezado = conEncabezado;
+    }
+
+    /**
+     * Valida todas las filas del archivo de entrada.
+     *
+     * @param entrada El archivo a validar.
+     * @param directorioSalida Directorio donde se escriben los archivos de resultado.
+     * @return Los conteos de filas válidas e inválidas.
+     * @throws IOException si falla la lectura o escritura de archivos.
+     */
+    public BatchResult validar(Path entrada, Path directorioSalida) throws IOException {
+        LineValidator validador = new LineValidator(validacion, validacionBytes, columna, separador);
+        try (MappedLineReader lector = new MappedLineReader(entrada, TAMANO_BLOQUE);
+             OutputStream validos = abrirSalida(directorioSalida, entrada, ".validos");
+             OutputStream invalidos = abrirSalida(directorioSalida, entrada, ".invalidos")) {
+            boolean primerBloque = true;
+            ByteBuffer bloque;
+            while ((bloque = lector.siguienteBloque()) != null) {
+                if (primerBloque && conEncabezado) {
+                    validador.copiarEncabezado(bloque, validos, invalidos);
+                }
+                primerBloque = false;
+                validador.procesar(bloque, validos, invalidos);
+            }
+        }
+        BatchResult resultado = new BatchResult(validador.getValidos(), validador.getInvalidos());
+        escribirResumen(directorioSalida, entrada, resultado);
+        return resultado;
+    }
+
+    static OutputStream abrirSalida(Path directorio, Path entrada, String extension) throws IOException {
+        Files.createDirectories(directorio);
+        Path archivo = directorio.resolve(entrada.getFileName() + extension);
+        return new BufferedOutputStream(Files.newOutputStream(archivo), TAMANO_BUFFER_SALIDA);
+    }
+
+    static void escribirResumen(Path directorio, Path entrada, BatchResult resultado) throws IOException {
+        String resumen = "total=" + resultado.total() + "\n"
+                + "validos=" + resultado.validos() + "\n"
+                + "invalidos=" + resultado.invalidos() + "\n";
+        Files.writeString(directorio.resolve(entrada.getFileName() + ".resumen"), resumen, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,14 @@
+package com.regex.regexevaluator.batch;
+
+/**
+ * Conteos de una validación por lotes.
+ *
+ * @param validos Número de filas que cumplen la regla.
+ * @param invalidos Número de filas que no la cumplen.
+ */
+public record BatchResult(long validos, long invalidos) {
+
+    public long total() {
+        return validos + invalidos;
+    }
+}
@@ -0,0 +1,182 @@
+package com.regex.regexevaluator.batch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import com.regex.regexevaluator.model.ByteValidation;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+/**
+ * Valida línea por línea un bloque de bytes en UTF-8, extrayendo la columna elegida
+ * y copiando cada línea a la salida de válidos o de inválidos.
+ * No es seguro entre hilos: reutiliza un arreglo interno para copiar cada línea.
+ */
+final class LineValidator {
+
+    private static final int TAMANO_INICIAL_LINEA = 8 * 1024;
+
+    private final Predicate<String> validacion;
+    private final ByteValidation validacionBytes;
+    private final int columna;
+    private final byte separador;
+    private byte[] linea = new byte[TAMANO_INICIAL_LINEA];
+    private long validos;
+    private long invalidos;
+
+    /**
+     * @param validacion La regla a aplicar.
+     * @param validacionBytes La misma regla sobre bytes, o null si solo existe sobre cadenas.
+     *                        Si existe, los campos se validan sin decodificarlos.
+     * @param columna Índice de la columna (desde 0), o -1 para validar la línea completa.
+     * @param separador Separador de columnas (carácter ASCII).
+     */
+    LineValidator(Predicate<String> validacion, ByteValidation validacionBytes, int columna, char separador) {
+        if (separador > 0x7F) {
+            throw new IllegalArgumentException("El separador debe ser un carácter ASCII.");
+        }
+        this.validacion = validacion;
+        this.validacionBytes = validacionBytes;
+        this.columna = columna;
+        this.separador = (byte) separador;
+    }
+
+    /**
+     * Copia la primera línea del bloque (el encabezado) a ambas salidas y deja la
+     * posición del bloque al inicio de la siguiente línea.
+     */
+    void copiarEncabezado(ByteBuffer bloque, OutputStream salidaValidos, OutputStream salidaInvalidos) throws IOException {
+        int longitud = leerLinea(bloque);
+        if (longitud >= 0) {
+            escribirLinea(salidaValidos, longitud);
+            escribirLinea(salidaInvalidos, longitud);
+        }
+    }
+
+    /**
+     * Valida todas las líneas desde la posición actual del bloque hasta su límite.
+     */
+    void procesar(ByteBuffer bloque, OutputStream salidaValidos, OutputStream salidaInvalidos) throws IOException {
+        int longitud;
+        while ((longitud = leerLinea(bloque)) >= 0) {
+            if (esValida(longitud)) {
+                validos++;
+                escribirLinea(salidaValidos, longitud);
+            } else {
+                invalidos++;
+                escribirLinea(salidaInvalidos, longitud);
+            }
+        }
+    }
+
+    long getValidos() {
+        return validos;
+    }
+
+    long getInvalidos() {
+        return invalidos;
+    }
+
+    /**
+     * Copia la siguiente línea del bloque (sin "\n" ni "\r" final) al arreglo interno.
+     *
+     * @return La longitud de la línea, o -1 si el bloque no tiene más líneas.
+     */
+    private int leerLinea(ByteBuffer bloque) {
+        int inicio = bloque.position();
+        int limite = bloque.limit();
+        if (inicio >= limite) {
+            return -1;
+        }
+        int fin = inicio;
+        while (fin < limite && bloque.get(fin) != '\n') {
+            fin++;
+        }
+        bloque.position(fin < limite ? fin + 1 : fin);
+        if (fin > inicio && bloque.get(fin - 1) == '\r') {
+            fin--;
+        }
+        int longitud = fin - inicio;
+        if (longitud > linea.length) {
+            linea = new byte[Math.max(longitud, linea.length * 2)];
+        }
+        bloque.get(inicio, linea, 0, longitud);
+        return longitud;
+    }
+
+    private boolean esValida(int longitud) {
+        if (validacionBytes == null) {
+            String campo = extraerCampo(longitud);
+            return campo != null && validacion.test(campo);
+        }
+        if (columna < 0) {
+            return validacionBytes.test(linea, 0, longitud);
+        }
+        int inicio = inicioDeCampo(longitud);
+        if (inicio < 0) {
+            return false;
+        }
+        int fin = finDeCampo(inicio, longitud);
+        // Las reglas sobre bytes no aceptan comillas, así que un campo con comillas
+        // escapadas ("") falla igual que su versión decodificada.
+        if (fin - inicio >= 2 && linea[inicio] == '"' && linea[fin - 1] == '"') {
+            return validacionBytes.test(linea, inicio + 1, fin - inicio - 2);
+        }
+        return validacionBytes.test(linea, inicio, fin - inicio);
+    }
+
+    /**
+     * @return La posición donde empieza la columna configurada, o -1 si la línea no la tiene.
+     */
+    private int inicioDeCampo(int longitud) {
+        int i = 0;
+        for (int campo = 0; campo < columna; campo++) {
+            i = finDeCampo(i, longitud);
+            if (i >= longitud) {
+                return -1;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Extrae la columna configurada de la línea actual. Respeta los campos entre
+     * comillas dobles, que pueden contener el separador y comillas escapadas ("").
+     *
+     * @return El valor de la columna, o null si la línea no tiene esa columna.
+     */
+    private String extraerCampo(int longitud) {
+        if (columna < 0) {
+            return new String(linea, 0, longitud, StandardCharsets.UTF_8);
+        }
+        int inicio = inicioDeCampo(longitud);
+        if (inicio < 0) {
+            return null;
+        }
+        int fin = finDeCampo(inicio, longitud);
+        if (fin - inicio >= 2 && linea[inicio] == '"' && linea[fin - 1] == '"') {
+            String valor = new String(linea, inicio + 1, fin - inicio - 2, StandardCharsets.UTF_8);
+            return valor.indexOf('"') >= 0 ? valor.replace("\"\"", "\"") : valor;
+        }
+        return new String(linea, inicio, fin - inicio, StandardCharsets.UTF_8);
+    }
+
+    private int finDeCampo(int inicio, int longitud) {
+        boolean entreComillas = false;
+        int i = inicio;
+        while (i < longitud && (entreComillas || linea[i] != separador)) {
+            if (linea[i] == '"') {
+                entreComillas = !entreComillas;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    private void escribirLinea(OutputStream salida, int longitud) throws IOException {
+        salida.write(linea, 0, longitud);
+        salida.write('\n');
+    }
+}
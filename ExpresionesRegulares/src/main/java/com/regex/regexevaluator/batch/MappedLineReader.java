@@ -0,0 +1,67 @@
+package com.regex.regexevaluator.batch;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Recorre un archivo mapeándolo en memoria por bloques. Cada bloque termina en un
+ * salto de línea (salvo el último del archivo), así ninguna línea queda partida
+ * entre dos bloques y el archivo nunca se carga completo en el heap.
+ */
+final class MappedLineReader implements Closeable {
+
+    private final FileChannel canal;
+    private final long tamanoArchivo;
+    private final int tamanoBloque;
+    private long posicion;
+
+    /**
+     * @param archivo El archivo a leer.
+     * @param tamanoBloque Tamaño máximo en bytes de cada bloque; debe ser mayor que la línea más larga.
+     */
+    MappedLineReader(Path archivo, int tamanoBloque) throws IOException {
+        this.canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        this.tamanoArchivo = canal.size();
+        this.tamanoBloque = tamanoBloque;
+    }
+
+    /**
+     * Mapea el siguiente bloque de líneas completas.
+     *
+     * @return El bloque, o null si ya se leyó todo el archivo.
+     * @throws IOException si una línea no cabe en un bloque o falla la lectura.
+     */
+    ByteBuffer siguienteBloque() throws IOException {
+        if (posicion >= tamanoArchivo) {
+            return null;
+        }
+        int longitud = (int) Math.min(tamanoArchivo - posicion, tamanoBloque);
+        MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, posicion, longitud);
+
+        int fin = longitud;
+        if (posicion + longitud < tamanoArchivo) {
+            // Se retrocede hasta el último salto de línea para no partir una línea.
+            fin = longitud - 1;
+            while (fin >= 0 && mapa.get(fin) != '\n') {
+                fin--;
+            }
+            if (fin < 0) {
+                throw new IOException("La línea en la posición " + posicion
+                        + " supera el tamaño de bloque de " + tamanoBloque + " bytes.");
+            }
+            fin++;
+        }
+        posicion += fin;
+        return mapa.slice(0, fin);
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+}
@@ -0,0 +1,211 @@
+package com.regex.regexevaluator.batch;
+
+import com.regex.regexevaluator.model.ByteValidation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+
+/**
+ * Versión paralela de {@link BatchFileValidator}. El archivo se divide en bloques de
+ * líneas completas que se validan en un ForkJoinPool o en hilos virtuales; un solo
+ * hilo escribe los resultados, en el orden original si así se configura.
+ * El número de bloques en proceso está acotado, por lo que la memoria usada no
+ * depende del tamaño del archivo: cuando se alcanza el límite, la lectura espera
+ * a que se escriba un bloque terminado.
+ */
+public class ParallelBatchValidator {
+
+    /**
+     * Opciones de ejecución en paralelo.
+     *
+     * @param hilos Número de hilos del ForkJoinPool (se ignora con hilos virtuales).
+     * @param hilosVirtuales true para validar cada bloque en un hilo virtual.
+     * @param mantenerOrden true para escribir las filas en el orden del archivo de entrada.
+     * @param tamanoBloque Tamaño en bytes de cada bloque de trabajo.
+     * @param bloquesEnVuelo Máximo de bloques leídos y aún no escritos.
+     */
+    public record Config(int hilos, boolean hilosVirtuales, boolean mantenerOrden, int tamanoBloque, int bloquesEnVuelo) {
+
+        public static final int TAMANO_BLOQUE_POR_DEFECTO = 4 * 1024 * 1024;
+
+        public Config {
+            if (hilos < 1 || tamanoBloque < 1 || bloquesEnVuelo < 1) {
+                throw new IllegalArgumentException("Los hilos, el tamaño de bloque y los bloques en vuelo deben ser positivos.");
+            }
+        }
+
+        /**
+         * @return Una configuración con un hilo por núcleo y dos bloques en vuelo por hilo.
+         */
+        public static Config porDefecto(boolean hilosVirtuales, boolean mantenerOrden) {
+            int nucleos = Runtime.getRuntime().availableProcessors();
+            return new Config(nucleos, hilosVirtuales, mantenerOrden, TAMANO_BLOQUE_POR_DEFECTO, 2 * nucleos);
+        }
+    }
+
+    /** Resultado de validar un bloque: las filas ya separadas y sus conteos. */
+    private record ResultadoBloque(ByteArrayOutputStream validos, ByteArrayOutputStream invalidos,
+                                   long nValidos, long nInvalidos) {
+    }
+
+    private final Predicate<String> validacion;
+    private final ByteValidation validacionBytes;
+    private final int columna;
+    private final char separador;
+    private final boolean conEncabezado;
+    private final Config config;
+
+    /**
+     * @param validacion La regla a aplicar; debe ser segura entre hilos.
+     * @param columna Índice de la columna a validar (desde 0), o -1 para validar la línea completa.
+     * @param separador Separador de columnas (ej. ',').
+     * @param conEncabezado true si la primera línea es un encabezado; se copia a ambas salidas.
+     * @param config Opciones de ejecución en paralelo.
+     */
+    public ParallelBatchValidator(Predicate<String> validacion, int columna, char separador,
+                                  boolean conEncabezado, Config config) {
+        this(validacion, null, columna, separador, conEncabezado, config);
+    }
+
+    /**
+     * @param validacion La regla a aplicar; debe ser segura entre hilos.
+     * @param validacionBytes La misma regla sobre bytes, o null; si existe, los campos se
+     *                        validan sin decodificarlos a String.
+     * @param columna Índice de la columna a validar (desde 0), o -1 para validar la línea completa.
+     * @param separador Separador de columnas (ej. ',').
+     * @param conEncabezado true si la primera línea es un encabezado; se copia a ambas salidas.
+     * @param config Opciones de ejecución en paralelo.
+     */
+    public ParallelBatchValidator(Predicate<String> validacion, ByteValidation validacionBytes, int columna,
+                                  char separador, boolean conEncabezado, Config config) {
+        this.validacion = validacion;
+        this.validacionBytes = validacionBytes;
+        this.columna = columna;
+        this.separador = separador;
+        this.conEncabezado = conEncabezado;
+        this.config = config;
+    }
+
+    /**
+     * Valida todas las filas del archivo de entrada en paralelo.
+     *
+     * @param entrada El archivo a validar.
+     * @param directorioSalida Directorio donde se escriben los archivos de resultado.
+     * @return Los conteos de filas válidas e inválidas.
+     * @throws IOException si falla la lectura, la escritura o la validación de un bloque.
+     */
+    public BatchResult validar(Path entrada, Path directorioSalida) throws IOException {
+        ExecutorService ejecutor = config.hilosVirtuales()
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : new ForkJoinPool(config.hilos());
+        long[] conteos = new long[2];
+        try (MappedLineReader lector = new MappedLineReader(entrada, config.tamanoBloque());
+             OutputStream validos = BatchFileValidator.abrirSalida(directorioSalida, entrada, ".validos");
+             OutputStream invalidos = BatchFileValidator.abrirSalida(directorioSalida, entrada, ".invalidos")) {
+            if (config.mantenerOrden()) {
+                validarEnOrden(lector, ejecutor, validos, invalidos, conteos);
+            } else {
+                validarSinOrden(lector, ejecutor, validos, invalidos, conteos);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Validación interrumpida.");
+        } finally {
+            ejecutor.shutdownNow();
+        }
+        BatchResult resultado = new BatchResult(conteos[0], conteos[1]);
+        BatchFileValidator.escribirResumen(directorioSalida, entrada, resultado);
+        return resultado;
+    }
+
+    /** Escribe los bloques en el orden de lectura, esperando siempre al más antiguo. */
+    private void validarEnOrden(MappedLineReader lector, ExecutorService ejecutor, OutputStream validos,
+                                OutputStream invalidos, long[] conteos) throws IOException, InterruptedException {
+        ArrayDeque<Future<ResultadoBloque>> pendientes = new ArrayDeque<>();
+        ByteBuffer bloque;
+        boolean primerBloque = true;
+        while ((bloque = lector.siguienteBloque()) != null) {
+            if (primerBloque && conEncabezado) {
+                copiarEncabezado(bloque, validos, invalidos);
+            }
+            primerBloque = false;
+            if (pendientes.size() >= config.bloquesEnVuelo()) {
+                escribir(esperar(pendientes.poll()), validos, invalidos, conteos);
+            }
+            ByteBuffer trabajo = bloque;
+            pendientes.add(ejecutor.submit(() -> validarBloque(trabajo)));
+        }
+        while (!pendientes.isEmpty()) {
+            escribir(esperar(pendientes.poll()), validos, invalidos, conteos);
+        }
+    }
+
+    /** Escribe los bloques a medida que terminan, sin importar el orden de lectura. */
+    private void validarSinOrden(MappedLineReader lector, ExecutorService ejecutor, OutputStream validos,
+                                 OutputStream invalidos, long[] conteos) throws IOException, InterruptedException {
+        CompletionService<ResultadoBloque> terminados = new ExecutorCompletionService<>(ejecutor);
+        int enVuelo = 0;
+        ByteBuffer bloque;
+        boolean primerBloque = true;
+        while ((bloque = lector.siguienteBloque()) != null) {
+            if (primerBloque && conEncabezado) {
+                copiarEncabezado(bloque, validos, invalidos);
+            }
+            primerBloque = false;
+            if (enVuelo >= config.bloquesEnVuelo()) {
+                escribir(esperar(terminados.take()), validos, invalidos, conteos);
+                enVuelo--;
+            }
+            ByteBuffer trabajo = bloque;
+            terminados.submit(() -> validarBloque(trabajo));
+            enVuelo++;
+        }
+        for (; enVuelo > 0; enVuelo--) {
+            escribir(esperar(terminados.take()), validos, invalidos, conteos);
+        }
+    }
+
+    private void copiarEncabezado(ByteBuffer bloque, OutputStream validos, OutputStream invalidos) throws IOException {
+        new LineValidator(validacion, validacionBytes, columna, separador).copiarEncabezado(bloque, validos, invalidos);
+    }
+
+    private ResultadoBloque validarBloque(ByteBuffer bloque) throws IOException {
+        LineValidator validador = new LineValidator(validacion, validacionBytes, columna, separador);
+        ByteArrayOutputStream validos = new ByteArrayOutputStream(bloque.remaining());
+        ByteArrayOutputStream invalidos = new ByteArrayOutputStream(bloque.remaining() / 4);
+        validador.procesar(bloque, validos, invalidos);
+        return new ResultadoBloque(validos, invalidos, validador.getValidos(), validador.getInvalidos());
+    }
+
+    private static ResultadoBloque esperar(Future<ResultadoBloque> futuro) throws IOException, InterruptedException {
+        try {
+            return futuro.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Error al validar un bloque.", e.getCause());
+        }
+    }
+
+    private static void escribir(ResultadoBloque resultado, OutputStream validos, OutputStream invalidos,
+                                 long[] conteos) throws IOException {
+        resultado.validos().writeTo(validos);
+        resultado.invalidos().writeTo(invalidos);
+        conteos[0] += resultado.nValidos();
+        conteos[1] += resultado.nInvalidos();
+    }
+}
@@ -0,0 +1,111 @@
+package com.regex.regexevaluator.controller;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Capa opcional que memoriza los resultados de {@link RegexController} en una
+ * {@link ResultCache}. Sirve cuando las mismas entradas se validan muchas veces
+ * (placas, correos, teléfonos). Las reglas de formato fijo se validan en unos pocos
+ * nanosegundos, menos de lo que cuesta buscar en la caché, así que por defecto se
+ * envían directo al controlador; lo mismo ocurre con entradas muy largas, que
+ * ocuparían memoria sin probabilidad real de repetirse. Los aciertos de la caché no
+ * llegan al controlador, por lo que no se cuentan en sus métricas por regla. Cuando
+ * se recarga el catálogo o cambia la política de contraseñas, los resultados
+ * anteriores dejan de usarse (ver {@link RegexController#getVersionReglas()}).
+ */
+public class CachingRegexController {
+
+    /** Reglas que se validan con {@link com.regex.regexevaluator.model.FastMatchers}. */
+    public static final Set<String> REGLAS_FORMATO_FIJO = Set.of(
+            "placa", "codigo-postal", "num-fijo", "num-celular", "fecha", "hora-24", "hora-12", "codigo-barras");
+
+    /** Longitud máxima de una entrada para guardarse en la caché. */
+    public static final int LONGITUD_MAXIMA_POR_DEFECTO = 256;
+
+    private final RegexController controller;
+    private final ResultCache cache;
+    private final Set<String> reglasSinCache;
+    private final int longitudMaxima;
+
+    /**
+     * Crea la capa de caché omitiendo las reglas de formato fijo.
+     * @param controller El controlador que valida las entradas que no están en caché.
+     * @param config Capacidad, política de expulsión y tiempo de vida.
+     */
+    public CachingRegexController(RegexController controller, ResultCache.Config config) {
+        this(controller, config, REGLAS_FORMATO_FIJO, LONGITUD_MAXIMA_POR_DEFECTO);
+    }
+
+    /**
+     * @param controller El controlador que valida las entradas que no están en caché.
+     * @param config Capacidad, política de expulsión y tiempo de vida.
+     * @param reglasSinCache Reglas que se validan siempre sin pasar por la caché.
+     * @param longitudMaxima Entradas más largas se validan sin guardarse.
+     */
+    public CachingRegexController(RegexController controller, ResultCache.Config config,
+                                  Set<String> reglasSinCache, int longitudMaxima) {
+        this.controller = controller;
+        this.cache = new ResultCache(config);
+        this.reglasSinCache = Set.copyOf(reglasSinCache);
+        this.longitudMaxima = longitudMaxima;
+    }
+
+    /**
+     * Valida una entrada consultando primero la caché.
+     * @param idRegla El identificador de la regla (ej. "email").
+     * @param entrada La cadena a validar.
+     * @return true si la entrada cumple la regla.
+     * @throws IllegalArgumentException si la regla no existe.
+     */
+    public boolean validar(String idRegla, String entrada) {
+        return obtenerValidacion(idRegla).test(entrada);
+    }
+
+    /**
+     * Devuelve la función de validación de una regla, con la caché delante si aplica.
+     * La función queda ligada a la versión de las reglas de este momento: para usar un
+     * catálogo o una política de contraseñas nuevos hay que volver a pedirla.
+     * @param idRegla El identificador de la regla.
+     * @return La función de validación, segura entre hilos.
+     * @throws IllegalArgumentException si la regla no existe.
+     */
+    public Predicate<String> obtenerValidacion(String idRegla) {
+        // La versión se lee antes que la validación: si las reglas cambian entre ambas,
+        // los resultados de la regla nueva quedan con la versión anterior, nunca al revés.
+        long version = controller.getVersionReglas();
+        Predicate<String> validacion = controller.obtenerValidacion(idRegla);
+        if (reglasSinCache.contains(idRegla)) {
+            return validacion;
+        }
+        return entrada -> {
+            if (entrada.length() > longitudMaxima) {
+                return validacion.test(entrada);
+            }
+            Boolean guardado = cache.obtener(idRegla, version, entrada);
+            if (guardado != null) {
+                return guardado;
+            }
+            boolean resultado = validacion.test(entrada);
+            cache.guardar(idRegla, version, entrada, resultado);
+            return resultado;
+        };
+    }
+
+    public RegexController getController() {
+        return controller;
+    }
+
+    public ResultCache getCache() {
+        return cache;
+    }
+
+    /**
+     * @return Una línea con el tamaño, la tasa de aciertos y las expulsiones de la caché.
+     */
+    public String resumen() {
+        return String.format("Caché: %d entradas, %d aciertos, %d fallos (%.1f%%), %d expulsiones, %d rechazos%n",
+                cache.getTamano(), cache.getAciertos(), cache.getFallos(), cache.getTasaAciertos() * 100,
+                cache.getExpulsiones(), cache.getRechazos());
+    }
+}
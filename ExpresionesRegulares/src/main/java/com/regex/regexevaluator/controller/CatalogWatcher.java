@@ -0,0 +1,103 @@
+package com.regex.regexevaluator.controller;
+
+import com.regex.regexevaluator.model.RuleCatalog;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vigila un archivo de catálogo y lo recarga en el {@link RegexController} cada vez
+ * que cambia. El catálogo nuevo se compila por completo antes de reemplazar al
+ * anterior, así que las validaciones nunca esperan por la recarga; si tiene errores,
+ * se informa y se conserva el catálogo vigente.
+ */
+public final class CatalogWatcher implements AutoCloseable {
+
+    /**
+     * Espera sin nuevos eventos antes de recargar: los editores suelen truncar y
+     * reescribir el archivo en varios pasos, y no se debe cargar una versión a medias.
+     */
+    private static final long ESPERA_MS = 200;
+
+    private final RegexController controller;
+    private final Path archivo;
+    private final WatchService servicio;
+    private final Thread hilo;
+
+    /**
+     * @param controller El controlador cuyo catálogo se reemplaza.
+     * @param archivo El archivo de catálogo a vigilar.
+     * @throws IOException si no se puede vigilar el directorio del archivo.
+     */
+    public CatalogWatcher(RegexController controller, Path archivo) throws IOException {
+        this.controller = controller;
+        this.archivo = archivo.toAbsolutePath();
+        this.servicio = FileSystems.getDefault().newWatchService();
+        this.archivo.getParent().register(servicio,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.hilo = new Thread(this::vigilar, "catalogo-reglas");
+        this.hilo.setDaemon(true);
+    }
+
+    public void iniciar() {
+        hilo.start();
+    }
+
+    /**
+     * Compila el archivo y, si no tiene errores, lo instala como catálogo vigente.
+     * @return true si el catálogo se reemplazó.
+     */
+    public boolean recargar() {
+        try {
+            RuleCatalog nuevo = RuleCatalog.cargar(archivo);
+            controller.setCatalogo(nuevo);
+            System.err.println("Catálogo recargado: " + nuevo.tamano() + " reglas de " + archivo.getFileName());
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("No se recargó el catálogo: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private void vigilar() {
+        try {
+            while (true) {
+                boolean cambio = revisar(servicio.take());
+                WatchKey siguiente;
+                while ((siguiente = servicio.poll(ESPERA_MS, TimeUnit.MILLISECONDS)) != null) {
+                    cambio |= revisar(siguiente);
+                }
+                if (cambio) {
+                    recargar();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Fin de la vigilancia.
+        }
+    }
+
+    /** @return true si alguno de los eventos corresponde al archivo vigilado. */
+    private boolean revisar(WatchKey llave) {
+        boolean cambio = false;
+        for (WatchEvent<?> evento : llave.pollEvents()) {
+            if (evento.context() instanceof Path nombre && nombre.equals(archivo.getFileName())) {
+                cambio = true;
+            }
+        }
+        llave.reset();
+        return cambio;
+    }
+
+    @Override
+    public void close() throws IOException {
+        hilo.interrupt();
+        servicio.close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.regex.regexevaluator.controller;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estimador aproximado de frecuencias (count-min sketch) para la política TinyLFU de
+ * {@link ResultCache}. Usa cuatro funciones hash y contadores de 4 bits que saturan
+ * en 15, dieciséis por cada long; tras una muestra de accesos proporcional a la
+ * capacidad, todos los contadores se dividen a la mitad para que la historia antigua
+ * pierda peso.
+ */
+final class FrequencySketch {
+
+    private static final int MAXIMO_CONTADOR = 15;
+    /** Conserva los 3 bits bajos de cada contador tras desplazar la palabra un bit. */
+    private static final long MITAD = 0x7777_7777_7777_7777L;
+    private static final long[] SEMILLAS = {0x97cb3127L, 0xb0d3e8b9L, 0xd6b8a4c1L, 0x9e3779b9L};
+
+    private final AtomicLongArray palabras;
+    private final int mascara;
+    private final long tamanoMuestra;
+    private final AtomicLong adiciones = new AtomicLong();
+
+    FrequencySketch(int capacidad) {
+        int ancho = Integer.highestOneBit(Math.max(16, capacidad) * 4 - 1) << 1;
+        this.palabras = new AtomicLongArray(ancho / 16);
+        this.mascara = ancho - 1;
+        this.tamanoMuestra = 10L * Math.max(16, capacidad);
+    }
+
+    void incrementar(int hash) {
+        for (long semilla : SEMILLAS) {
+            int indice = indice(hash, semilla);
+            int palabra = indice >>> 4;
+            int desplazamiento = (indice & 15) << 2;
+            long actual;
+            do {
+                actual = palabras.get(palabra);
+            } while (((actual >>> desplazamiento) & MAXIMO_CONTADOR) < MAXIMO_CONTADOR
+                    && !palabras.compareAndSet(palabra, actual, actual + (1L << desplazamiento)));
+        }
+        if (adiciones.incrementAndGet() >= tamanoMuestra) {
+            envejecer();
+        }
+    }
+
+    int frecuencia(int hash) {
+        int minimo = MAXIMO_CONTADOR;
+        for (long semilla : SEMILLAS) {
+            int indice = indice(hash, semilla);
+            int contador = (int) (palabras.get(indice >>> 4) >>> ((indice & 15) << 2)) & MAXIMO_CONTADOR;
+            minimo = Math.min(minimo, contador);
+        }
+        return minimo;
+    }
+
+    private synchronized void envejecer() {
+        if (adiciones.get() < tamanoMuestra) {
+            return;
+        }
+        for (int i = 0; i < palabras.length(); i++) {
+            long actual;
+            do {
+                actual = palabras.get(i);
+            } while (!palabras.compareAndSet(i, actual, (actual >>> 1) & MITAD));
+        }
+        adiciones.set(tamanoMuestra / 2);
+    }
+
+    private int indice(int hash, long semilla) {
+        long h = (hash + semilla) * semilla;
+        h ^= h >>> 29;
+        return (int) h & mascara;
+    }
+}
@@ -0,0 +1,77 @@
+package com.regex.regexevaluator.controller;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias con cubetas log-lineales, al estilo de HdrHistogram: cada
+ * potencia de dos se divide en 32 cubetas, lo que da un error relativo menor al 3 %.
+ * El registro es libre de bloqueos (un incremento atómico) y no crea objetos.
+ */
+public final class LatencyHistogram {
+
+    private static final int BITS_SUBCUBETA = 5;
+    private static final int SUBCUBETAS = 1 << BITS_SUBCUBETA;
+    private static final int NUM_CUBETAS = SUBCUBETAS + (Long.SIZE - 1 - BITS_SUBCUBETA) * SUBCUBETAS;
+
+    private final AtomicLongArray cuentas = new AtomicLongArray(NUM_CUBETAS);
+
+    /**
+     * Registra un valor en nanosegundos; los negativos se cuentan como cero.
+     */
+    public void registrar(long nanos) {
+        cuentas.incrementAndGet(indice(Math.max(0, nanos)));
+    }
+
+    /**
+     * Calcula un percentil a partir de una copia de las cuentas actuales.
+     *
+     * @param percentil Valor entre 0 y 100 (ej. 99.9).
+     * @return El límite superior de la cubeta que contiene el percentil, o 0 si no hay datos.
+     */
+    public long percentil(double percentil) {
+        long[] copia = new long[NUM_CUBETAS];
+        long total = 0;
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            copia[i] = cuentas.get(i);
+            total += copia[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= objetivo) {
+                return limiteSuperior(i);
+            }
+        }
+        return limiteSuperior(NUM_CUBETAS - 1);
+    }
+
+    public void reiniciar() {
+        for (int i = 0; i < NUM_CUBETAS; i++) {
+            cuentas.set(i, 0);
+        }
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBCUBETAS) {
+            return (int) valor;
+        }
+        int magnitud = Long.SIZE - 1 - Long.numberOfLeadingZeros(valor);
+        int desplazamiento = magnitud - BITS_SUBCUBETA;
+        int sub = (int) (valor >>> desplazamiento) & (SUBCUBETAS - 1);
+        return SUBCUBETAS + desplazamiento * SUBCUBETAS + sub;
+    }
+
+    static long limiteSuperior(int indice) {
+        if (indice < SUBCUBETAS) {
+            return indice;
+        }
+        int desplazamiento = (indice - SUBCUBETAS) / SUBCUBETAS;
+        int sub = (indice - SUBCUBETAS) % SUBCUBETAS;
+        long inicio = (long) (SUBCUBETAS + sub) << desplazamiento;
+        return inicio + (1L << desplazamiento) - 1;
+    }
+}
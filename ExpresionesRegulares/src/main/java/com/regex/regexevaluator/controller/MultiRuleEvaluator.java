@@ -0,0 +1,220 @@
+package com.regex.regexevaluator.controller;
+
+import com.regex.regexevaluator.model.engine.RuleGuard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Predicate;
+
+/**
+ * Valida una entrada contra varias reglas candidatas (ej. un campo que puede ser un
+ * celular, un número fijo o un correo). Antes de la validación de cada regla se aplica
+ * su {@link RuleGuard}, que descarta la entrada por longitud, prefijo o primer carácter
+ * sin llegar al motor de expresiones.
+ *
+ * El orden de evaluación se adapta a los datos: en una de cada {@link #INTERVALO_MUESTREO}
+ * entradas se evalúan todas las reglas y se cuenta, por regla, cuántas entradas pasan el
+ * filtro y cuántas coinciden. Cada {@link #MUESTRAS_POR_REORDEN} muestras las reglas se
+ * ordenan por su tasa de coincidencia entre las entradas que pasan el filtro (las que
+ * casi siempre coinciden cuando llegan al motor van primero) y los contadores se dividen
+ * a la mitad, para que el orden siga los cambios del tráfico. Es seguro entre hilos.
+ */
+public class MultiRuleEvaluator {
+
+    /** Una de cada tantas entradas se evalúa contra todas las reglas para medir sus tasas. */
+    public static final int INTERVALO_MUESTREO = 64;
+    /** Muestras entre dos reordenamientos. */
+    public static final int MUESTRAS_POR_REORDEN = 256;
+
+    /**
+     * Contadores de una regla, ponderados hacia las muestras más recientes.
+     *
+     * @param id El identificador de la regla.
+     * @param rechazadasPorFiltro Entradas muestreadas descartadas por el filtro.
+     * @param evaluadas Entradas muestreadas que pasaron el filtro y llegaron a la validación.
+     * @param coincidencias Entradas muestreadas que cumplen la regla.
+     */
+    public record EstadisticaRegla(String id, long rechazadasPorFiltro, long evaluadas, long coincidencias) {
+
+        /** @return La fracción de las entradas evaluadas que coincidieron (0 si no hay ninguna). */
+        public double getTasaCoincidencia() {
+            return evaluadas == 0 ? 0 : (double) coincidencias / evaluadas;
+        }
+    }
+
+    private final String[] ids;
+    private final List<Predicate<String>> validaciones;
+    private final RuleGuard[] filtros;
+    private final AtomicLongArray rechazadas;
+    private final AtomicLongArray evaluadas;
+    private final AtomicLongArray coincidencias;
+    private final AtomicLong muestras = new AtomicLong();
+    /** Índices de las reglas en el orden de evaluación actual; se reemplaza completo. */
+    private volatile int[] orden;
+
+    /**
+     * @param ids Los identificadores de las reglas, en el orden inicial.
+     * @param validaciones La validación de cada regla; deben ser seguras entre hilos.
+     * @param filtros El filtro de cada regla ({@link RuleGuard#SIN_FILTRO} si no tiene).
+     */
+    MultiRuleEvaluator(List<String> ids, List<Predicate<String>> validaciones, List<RuleGuard> filtros) {
+        this.ids = ids.toArray(new String[0]);
+        this.validaciones = List.copyOf(validaciones);
+        this.filtros = filtros.toArray(new RuleGuard[0]);
+        this.rechazadas = new AtomicLongArray(this.ids.length);
+        this.evaluadas = new AtomicLongArray(this.ids.length);
+        this.coincidencias = new AtomicLongArray(this.ids.length);
+        int[] inicial = new int[this.ids.length];
+        Arrays.setAll(inicial, i -> i);
+        this.orden = inicial;
+    }
+
+    /**
+     * Busca una regla que acepte la entrada, probándolas en el orden actual. Si varias
+     * reglas la aceptan, la elegida depende del orden, que cambia con el tráfico; para
+     * obtenerlas todas está {@link #coincidencias(String)}.
+     *
+     * @param entrada La cadena a validar.
+     * @return El identificador de la primera regla que la acepta, o null si ninguna.
+     */
+    public String primeraCoincidencia(String entrada) {
+        if (ThreadLocalRandom.current().nextInt(INTERVALO_MUESTREO) == 0) {
+            return muestrear(entrada);
+        }
+        for (int i : orden) {
+            if (filtros[i].admite(entrada) && validaciones.get(i).test(entrada)) {
+                return ids[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param entrada La cadena a validar.
+     * @return true si alguna de las reglas acepta la entrada.
+     */
+    public boolean coincideAlguna(String entrada) {
+        return primeraCoincidencia(entrada) != null;
+    }
+
+    /**
+     * Evalúa todas las reglas; el filtro evita el motor en las que no pueden coincidir.
+     *
+     * @param entrada La cadena a validar.
+     * @return Los identificadores de las reglas que la aceptan, en el orden de creación.
+     */
+    public Set<String> coincidencias(String entrada) {
+        boolean registrar = ThreadLocalRandom.current().nextInt(INTERVALO_MUESTREO) == 0;
+        Set<String> reglas = new LinkedHashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            if (evaluar(i, entrada, registrar)) {
+                reglas.add(ids[i]);
+            }
+        }
+        if (registrar) {
+            contarMuestra();
+        }
+        return reglas;
+    }
+
+    /** @return Los identificadores de las reglas en el orden de evaluación actual. */
+    public List<String> getOrden() {
+        List<String> actual = new ArrayList<>(ids.length);
+        for (int i : orden) {
+            actual.add(ids[i]);
+        }
+        return Collections.unmodifiableList(actual);
+    }
+
+    /** @return Los contadores de cada regla, en el orden de creación. */
+    public List<EstadisticaRegla> getEstadisticas() {
+        List<EstadisticaRegla> estadisticas = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            estadisticas.add(new EstadisticaRegla(ids[i], rechazadas.get(i), evaluadas.get(i), coincidencias.get(i)));
+        }
+        return Collections.unmodifiableList(estadisticas);
+    }
+
+    /**
+     * Ordena las reglas por su tasa de coincidencia entre las entradas que pasan el filtro;
+     * a igual tasa, primero la que más coincide y luego la registrada antes. Las reglas sin
+     * entradas evaluadas van al final. Se llama sola cada {@link #MUESTRAS_POR_REORDEN} muestras.
+     */
+    public synchronized void reordenar() {
+        Integer[] indices = new Integer[ids.length];
+        double[] tasas = new double[ids.length];
+        long[] aciertos = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indices[i] = i;
+            long n = evaluadas.get(i);
+            aciertos[i] = coincidencias.get(i);
+            tasas[i] = n == 0 ? -1 : (double) aciertos[i] / n;
+        }
+        Arrays.sort(indices, Comparator.<Integer>comparingDouble(i -> -tasas[i]).thenComparingLong(i -> -aciertos[i]));
+        int[] nuevo = new int[ids.length];
+        for (int i = 0; i < nuevo.length; i++) {
+            nuevo[i] = indices[i];
+        }
+        orden = nuevo;
+    }
+
+    /** Evalúa todas las reglas en el orden actual, registrando sus contadores. */
+    private String muestrear(String entrada) {
+        String primera = null;
+        for (int i : orden) {
+            if (evaluar(i, entrada, true) && primera == null) {
+                primera = ids[i];
+            }
+        }
+        contarMuestra();
+        return primera;
+    }
+
+    private boolean evaluar(int i, String entrada, boolean registrar) {
+        if (!filtros[i].admite(entrada)) {
+            if (registrar) {
+                rechazadas.incrementAndGet(i);
+            }
+            return false;
+        }
+        boolean coincide = validaciones.get(i).test(entrada);
+        if (registrar) {
+            evaluadas.incrementAndGet(i);
+            if (coincide) {
+                coincidencias.incrementAndGet(i);
+            }
+        }
+        return coincide;
+    }
+
+    private void contarMuestra() {
+        if (muestras.incrementAndGet() >= MUESTRAS_POR_REORDEN) {
+            envejecer();
+        }
+    }
+
+    /**
+     * Reordena, divide los contadores a la mitad para que la historia antigua pierda peso
+     * y empieza a contar las muestras del siguiente reordenamiento.
+     */
+    private synchronized void envejecer() {
+        if (muestras.get() < MUESTRAS_POR_REORDEN) {
+            return;
+        }
+        reordenar();
+        for (int i = 0; i < ids.length; i++) {
+            rechazadas.getAndUpdate(i, v -> v >> 1);
+            evaluadas.getAndUpdate(i, v -> v >> 1);
+            coincidencias.getAndUpdate(i, v -> v >> 1);
+        }
+        muestras.set(0);
+    }
+}
@@ -1,56 +1,477 @@
 package com.regex.regexevaluator.controller;
 
+import com.regex.regexevaluator.model.AsciiRule;
+import com.regex.regexevaluator.model.ByteValidation;
+import com.regex.regexevaluator.model.CatalogRule;
+import com.regex.regexevaluator.model.DateTimeParser;
+import com.regex.regexevaluator.model.DigitColumnFormat;
+import com.regex.regexevaluator.model.DigitColumnValidator;
+import com.regex.regexevaluator.model.EvaluationMode;
+import com.regex.regexevaluator.model.PasswordEvaluator;
+import com.regex.regexevaluator.model.PasswordPolicy;
+import com.regex.regexevaluator.model.ProductCodeType;
+import com.regex.regexevaluator.model.ProductCodeValidator;
+import com.regex.regexevaluator.model.RegexRule;
 import com.regex.regexevaluator.model.RegexValidator;
+import com.regex.regexevaluator.model.RuleCatalog;
+import com.regex.regexevaluator.model.RuleClassifier;
+import com.regex.regexevaluator.model.TextMatch;
+import com.regex.regexevaluator.model.TextScanner;
+import com.regex.regexevaluator.model.VowelSequence;
+import com.regex.regexevaluator.model.VowelSequenceAnalyzer;
+import com.regex.regexevaluator.model.engine.EvaluationBudget;
+import com.regex.regexevaluator.model.engine.EvaluationResult;
+import com.regex.regexevaluator.model.engine.RuleGuard;
+import com.regex.regexevaluator.model.engine.RuleSnapshot;
 
-public class RegexController {
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+public final class RegexController {
+
+    /** Resultado de {@link #clasificarDiptongoHiato} para una palabra sin secuencias de vocales. */
+    public static final String SIN_SECUENCIA_VOCALICA = RegexValidator.SIN_SECUENCIA_VOCALICA;
+
+    private static final String ISBN_NO_VALIDO = "No válido";
+    private static final String DIPTONGO_HIATO = "diptongo-hiato";
+    private static final String CATALOGO_INCLUIDO = "/reglas.catalogo";
 
     private final RegexValidator validator;
+    private final Map<String, Predicate<String>> validaciones;
+    private final ValidationMetrics metricas;
+    private volatile TextScanner buscador;
+    private final DigitColumnValidator validadorColumnas = DigitColumnValidator.crear();
+    private volatile RuleClassifier clasificador;
+    private volatile RuleCatalog catalogo;
+    private final AtomicLong versionReglas = new AtomicLong();
 
     /**
-     * Constructor que inicializa el validador de expresiones regulares.
+     * Constructor que inicializa el validador de expresiones regulares y carga el
+     * catálogo de reglas incluido en la aplicación.
      */
     public RegexController() {
         this.validator = new RegexValidator();
+        this.validaciones = registrarValidaciones();
+        List<String> reglasMedidas = new ArrayList<>(validaciones.keySet());
+        reglasMedidas.add(DIPTONGO_HIATO);
+        this.metricas = new ValidationMetrics(reglasMedidas);
+        try {
+            setCatalogo(RuleCatalog.cargarRecurso(CATALOGO_INCLUIDO));
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el catálogo de reglas incluido.", e);
+        }
+    }
+
+    /**
+     * Asocia cada identificador de regla con el método de validación correspondiente,
+     * en el mismo orden del menú de la consola.
+     */
+    private Map<String, Predicate<String>> registrarValidaciones() {
+        Map<String, Predicate<String>> mapa = new LinkedHashMap<>();
+        mapa.put("placa", this::validarPlacaDeCarro);
+        mapa.put("codigo-postal", this::validarCodPostal);
+        mapa.put("num-fijo", this::validarNumFijo);
+        mapa.put("num-celular", this::validarNumCelular);
+        mapa.put("email", this::validarEmail);
+        mapa.put("fecha", this::validarFecha);
+        mapa.put("hora-24", this::validarHora24);
+        mapa.put("hora-12", this::validarHora12);
+        mapa.put("variable-java", this::validarVariableJava);
+        mapa.put("url", this::validarURL);
+        mapa.put("isbn", isbn -> !ISBN_NO_VALIDO.equals(validarTipoISBN(isbn)));
+        mapa.put("codigo-barras", this::validarCodigoBarrasColombia);
+        mapa.put("nombre-apellido", this::validarNombreApellido);
+        mapa.put("contrasena", this::validarContrasenaSegura);
+        mapa.put("ciclo-for", this::validarCicloFor);
+        mapa.put("numero-double", this::validarNumeroDouble);
+        mapa.put("ley-decreto-articulo", this::validarLeyDecretoArticulo);
+        mapa.put("referencia-ieee", this::validarReferenciaIeee);
+        mapa.put("referencia-apa", this::validarReferenciaApa);
+        mapa.put("precio-producto", this::validarPrecioProducto);
+        return Collections.unmodifiableMap(mapa);
+    }
+
+    /**
+     * Devuelve la función de validación asociada a un identificador de regla, ya sea
+     * una regla propia o una del catálogo. Para las del catálogo se devuelve la versión
+     * vigente al momento de la llamada: una validación en curso no se ve afectada si el
+     * catálogo se recarga mientras tanto.
+     * @param idRegla El identificador de la regla (ej. "placa", "email").
+     * @return La función de validación.
+     * @throws IllegalArgumentException si la regla no existe.
+     */
+    public Predicate<String> obtenerValidacion(String idRegla) {
+        Predicate<String> validacion = validaciones.get(idRegla);
+        if (validacion != null) {
+            return validacion;
+        }
+        CatalogRule regla = catalogo.obtener(idRegla);
+        if (regla == null) {
+            throw new IllegalArgumentException("Regla desconocida: " + idRegla);
+        }
+        return regla::coincide;
+    }
+
+    /**
+     * Devuelve la validación sobre bytes de una regla que solo acepta caracteres ASCII
+     * (placa, teléfonos, código postal, código de barras, fecha, horas, número double).
+     * Opera sobre los bytes en ASCII o UTF-8 sin decodificarlos y registra las mismas
+     * métricas que la validación sobre cadenas.
+     * @param idRegla El identificador de la regla.
+     * @return La validación, o null si la regla no se puede evaluar sobre bytes.
+     */
+    public ByteValidation obtenerValidacionAscii(String idRegla) {
+        AsciiRule regla = AsciiRule.porId(idRegla);
+        if (regla == null) {
+            return null;
+        }
+        return (datos, desde, longitud) -> metricas.registrar(idRegla, metricas.iniciar(),
+                regla.test(datos, desde, longitud));
+    }
+
+    /**
+     * Valida un fragmento de bytes en ASCII o UTF-8 sin crear objetos.
+     * @param idRegla El identificador de una regla ASCII (ej. "num-celular").
+     * @param datos El arreglo que contiene el fragmento.
+     * @param desde Posición del primer byte.
+     * @param longitud Número de bytes.
+     * @return true si el fragmento cumple la regla.
+     * @throws IllegalArgumentException si la regla no existe o no se evalúa sobre bytes.
+     */
+    public boolean validarAscii(String idRegla, byte[] datos, int desde, int longitud) {
+        long inicio = metricas.iniciar();
+        return metricas.registrar(idRegla, inicio, reglaAscii(idRegla).test(datos, desde, longitud));
+    }
+
+    /**
+     * Igual que {@link #validarAscii(String, byte[], int, int)}, sobre un fragmento de un
+     * buffer; no cambia su posición ni su límite.
+     */
+    public boolean validarAscii(String idRegla, ByteBuffer datos, int desde, int longitud) {
+        long inicio = metricas.iniciar();
+        return metricas.registrar(idRegla, inicio, reglaAscii(idRegla).test(datos, desde, longitud));
+    }
+
+    /**
+     * Valida una columna de registros numéricos de ancho fijo guardados uno tras otro
+     * (ej. celulares de 10 bytes sin separadores). Usa la Vector API si la JVM se inició
+     * con --add-modules jdk.incubator.vector; si no, la versión escalar. Las métricas
+     * por regla no se registran, porque su costo superaría al de cada registro.
+     * @param idRegla "codigo-postal", "num-fijo", "num-celular" o "codigo-barras".
+     * @param columna Los bytes de la columna.
+     * @param desde Posición del primer registro.
+     * @param registros Número de registros.
+     * @param resultado Mapa de bits de registros válidos, o null para solo contarlos.
+     * @return El número de registros válidos.
+     * @throws IllegalArgumentException si la regla no es un formato numérico de ancho fijo.
+     */
+    public int validarColumna(String idRegla, byte[] columna, int desde, int registros, long[] resultado) {
+        DigitColumnFormat formato = DigitColumnFormat.porId(idRegla);
+        if (formato == null) {
+            throw new IllegalArgumentException("La regla no es un formato numérico de ancho fijo: " + idRegla);
+        }
+        return validadorColumnas.validar(columna, desde, registros, formato, resultado);
+    }
+
+    /** @return "vectorial" o "escalar", según la implementación usada por {@link #validarColumna}. */
+    public String getMotorColumnas() {
+        return validadorColumnas.getNombre();
+    }
+
+    private static AsciiRule reglaAscii(String idRegla) {
+        AsciiRule regla = AsciiRule.porId(idRegla);
+        if (regla == null) {
+            throw new IllegalArgumentException("La regla no se evalúa sobre bytes ASCII: " + idRegla);
+        }
+        return regla;
+    }
+
+    /**
+     * @return Los identificadores de todas las reglas de validación disponibles,
+     *         primero las propias y luego las del catálogo.
+     */
+    public Set<String> getIdsReglas() {
+        RuleCatalog actual = catalogo;
+        if (actual.tamano() == 0) {
+            return validaciones.keySet();
+        }
+        Set<String> ids = new LinkedHashSet<>(validaciones.keySet());
+        for (CatalogRule regla : actual.getReglas()) {
+            ids.add(regla.getId());
+        }
+        return Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * @return El catálogo de reglas vigente.
+     */
+    public RuleCatalog getCatalogo() {
+        return catalogo;
+    }
+
+    /**
+     * Reemplaza el catálogo de reglas de forma atómica. Las validaciones en curso
+     * terminan con las reglas anteriores y las siguientes usan las nuevas.
+     * @param nuevo El catálogo ya compilado.
+     * @throws IllegalArgumentException si alguna regla del catálogo usa el identificador
+     *         de una regla propia; en ese caso se conserva el catálogo anterior.
+     */
+    public void setCatalogo(RuleCatalog nuevo) {
+        for (CatalogRule regla : nuevo.getReglas()) {
+            if (validaciones.containsKey(regla.getId()) || regla.getId().equals(DIPTONGO_HIATO)) {
+                throw new IllegalArgumentException("La regla del catálogo '" + regla.getId()
+                        + "' tiene el mismo identificador que una regla propia.");
+            }
+        }
+        catalogo = nuevo;
+        versionReglas.incrementAndGet();
+    }
+
+    /**
+     * @return Un número que aumenta cada vez que se instala un catálogo o se cambia la
+     *         política de contraseñas, para que una caché de resultados no devuelva los
+     *         que se calcularon con las reglas anteriores. Se incrementa después del
+     *         cambio: quien lee la versión nueva ya ve las reglas nuevas.
+     */
+    public long getVersionReglas() {
+        return versionReglas.get();
+    }
+
+    /**
+     * @return Las métricas de llamadas y latencia por regla.
+     */
+    public ValidationMetrics getMetricas() {
+        return metricas;
+    }
+
+    /**
+     * Cambia el motor de una regla basada en una expresión regular.
+     * @param idRegla El identificador de la regla (ej. "url").
+     * @param modo BACKTRACKING (java.util.regex) o LINEAL (tiempo lineal garantizado).
+     * @throws IllegalArgumentException si la regla no existe o no admite el modo pedido.
+     */
+    public void setModoEvaluacion(String idRegla, EvaluationMode modo) {
+        validator.setModo(reglaRegex(idRegla), modo);
+    }
+
+    /**
+     * Valida una entrada con un límite de pasos o de tiempo, para no quedar bloqueado
+     * con entradas diseñadas para forzar el retroceso.
+     * @param idRegla El identificador de la regla (ej. "email").
+     * @param entrada La cadena a validar.
+     * @param presupuesto Los pasos y el tiempo máximos.
+     * @return COINCIDE, NO_COINCIDE o TIEMPO_AGOTADO.
+     */
+    public EvaluationResult validarConPresupuesto(String idRegla, CharSequence entrada, EvaluationBudget presupuesto) {
+        return validator.evaluar(reglaRegex(idRegla), entrada, presupuesto);
+    }
+
+    /**
+     * Crea un evaluador que valida una entrada contra varias reglas candidatas. Antes de
+     * cada validación descarta las entradas que no cumplen la longitud, el prefijo o el
+     * primer carácter de la regla, y reordena las reglas según su tasa de coincidencia.
+     * @param idsReglas Las reglas candidatas, en el orden inicial de evaluación.
+     * @return El evaluador; se puede compartir entre hilos.
+     * @throws IllegalArgumentException si alguna regla no existe o está repetida.
+     */
+    public MultiRuleEvaluator crearEvaluadorMultiple(List<String> idsReglas) {
+        if (new LinkedHashSet<>(idsReglas).size() != idsReglas.size()) {
+            throw new IllegalArgumentException("Hay reglas repetidas: " + idsReglas);
+        }
+        List<Predicate<String>> reglas = new ArrayList<>(idsReglas.size());
+        List<RuleGuard> filtros = new ArrayList<>(idsReglas.size());
+        RuleCatalog actual = catalogo;
+        for (String id : idsReglas) {
+            Predicate<String> propia = validaciones.get(id);
+            if (propia != null) {
+                reglas.add(propia);
+                filtros.add(filtroPropio(id));
+                continue;
+            }
+            // La validación y el filtro se toman de la misma versión del catálogo.
+            CatalogRule delCatalogo = actual.obtener(id);
+            if (delCatalogo == null) {
+                throw new IllegalArgumentException("Regla desconocida: " + id);
+            }
+            reglas.add(delCatalogo::coincide);
+            filtros.add(delCatalogo.getFiltro());
+        }
+        return new MultiRuleEvaluator(idsReglas, reglas, filtros);
+    }
+
+    /**
+     * @return El filtro deducido de la expresión de la regla, o {@link RuleGuard#SIN_FILTRO}
+     *         si su validación no es una expresión (ISBN) o no depende solo de ella (la
+     *         contraseña, que sigue la política configurada).
+     */
+    private static RuleGuard filtroPropio(String idRegla) {
+        RegexRule regla = RegexRule.porId(idRegla);
+        return regla == null || regla == RegexRule.CONTRASENA ? RuleGuard.SIN_FILTRO : regla.getFiltro();
+    }
+
+    private RegexRule reglaRegex(String idRegla) {
+        RegexRule regla = RegexRule.porId(idRegla);
+        if (regla == null) {
+            throw new IllegalArgumentException("La regla no se evalúa con una única expresión: " + idRegla);
+        }
+        return regla;
     }
 
-    public boolean validarPlacaDeCarro(String placa) {
-        return validator.esPlacaDeCarroValida(placa);
+    /**
+     * Clasifica una entrada contra todas las reglas en una sola pasada.
+     * El autómata combinado se construye la primera vez que se usa.
+     * @param entrada La cadena a clasificar.
+     * @return Los identificadores de las reglas con las que coincide.
+     */
+    public Set<String> clasificar(String entrada) {
+        return obtenerClasificador().clasificar(entrada);
+    }
+
+    private RuleClassifier obtenerClasificador() {
+        RuleClassifier actual = clasificador;
+        if (actual == null) {
+            synchronized (this) {
+                actual = clasificador;
+                if (actual == null) {
+                    actual = new RuleClassifier(validaciones);
+                    clasificador = actual;
+                }
+            }
+        }
+        return actual;
     }
 
-    public boolean validarCodPostal(String codPostal) {
-        return validator.esCodPostalValido(codPostal);
+    /**
+     * Compila en una instantánea las expresiones propias, las del catálogo vigente y el
+     * autómata del clasificador. Guardada con {@link RuleSnapshot#escribir} e instalada
+     * al iniciar, evita analizar las expresiones y construir los autómatas en cada proceso.
+     * @return La instantánea.
+     */
+    public RuleSnapshot generarInstantanea() {
+        List<Pattern> patrones = new ArrayList<>();
+        for (RegexRule regla : RegexRule.values()) {
+            patrones.add(regla.getPatron());
+        }
+        for (CatalogRule regla : catalogo.getReglas()) {
+            patrones.add(regla.getPatron());
+        }
+        List<Pattern> automata = new ArrayList<>();
+        for (String id : obtenerClasificador().getReglasEnAutomata()) {
+            automata.add(RegexRule.porId(id).getPatron());
+        }
+        return RuleSnapshot.compilar(patrones, automata);
     }
 
-    public boolean validarNumFijo(String numFijo) {
-        return validator.esNumFijoValido(numFijo);
+    /**
+     * Extrae de un texto, leído como flujo, todos los teléfonos, correos, placas, citas
+     * legales, precios y demás fragmentos que cumplen alguna regla. El buscador, que
+     * compila sus propias expresiones, se crea la primera vez que se usa.
+     * @param texto El texto a recorrer hasta el final.
+     * @param destino Recibe cada fragmento, con su regla y su posición, en orden de aparición.
+     * @throws IOException si falla la lectura.
+     */
+    public void extraer(Reader texto, Consumer<TextMatch> destino) throws IOException {
+        TextScanner actual = buscador;
+        if (actual == null) {
+            synchronized (this) {
+                actual = buscador;
+                if (actual == null) {
+                    actual = new TextScanner();
+                    buscador = actual;
+                }
+            }
+        }
+        actual.buscar(texto, destino);
     }
 
-    public boolean validarNumCelular(String numCelular) {
-        return validator.esNumCelularValido(numCelular);
+    public boolean validarPlacaDeCarro(CharSequence placa) {
+        return metricas.medir("placa", placa, validator::esPlacaDeCarroValida);
     }
 
-    public boolean validarEmail(String email) {
-        return validator.esEmailValido(email);
+    public boolean validarCodPostal(CharSequence codPostal) {
+        return metricas.medir("codigo-postal", codPostal, validator::esCodPostalValido);
     }
 
-    public boolean validarFecha(String fecha) {
-        return validator.esFechaValida(fecha);
+    public boolean validarNumFijo(CharSequence numFijo) {
+        return metricas.medir("num-fijo", numFijo, validator::esNumFijoValido);
     }
 
-    public boolean validarHora24(String hora) {
-        return validator.esHoraValida24(hora);
+    public boolean validarNumCelular(CharSequence numCelular) {
+        return metricas.medir("num-celular", numCelular, validator::esNumCelularValido);
     }
 
-    public boolean validarHora12(String hora) {
-        return validator.esHoraValida12(hora);
+    public boolean validarEmail(CharSequence email) {
+        return metricas.medir("email", email, validator::esEmailValido);
     }
 
-    public boolean validarVariableJava(String variable) {
-        return validator.esVarJava(variable);
+    public boolean validarFecha(CharSequence fecha) {
+        return metricas.medir("fecha", fecha, validator::esFechaValida);
     }
 
-    public boolean validarURL(String url) {
-        return validator.esURLValida(url);
+    public boolean validarHora24(CharSequence hora) {
+        return metricas.medir("hora-24", hora, validator::esHoraValida24);
+    }
+
+    public boolean validarHora12(CharSequence hora) {
+        return metricas.medir("hora-12", hora, validator::esHoraValida12);
+    }
+
+    /**
+     * Valida una fecha dd/mm/aaaa y devuelve su valor, para no volver a interpretarla.
+     * @param fecha La cadena a validar.
+     * @return Los días desde el 01/01/1970 (ver LocalDate.ofEpochDay), o
+     *         {@link DateTimeParser#FECHA_INVALIDA} si no es una fecha válida.
+     */
+    public long interpretarFecha(CharSequence fecha) {
+        long inicio = metricas.iniciar();
+        long dia = DateTimeParser.diaEpoca(fecha);
+        metricas.registrar("fecha", inicio, dia != DateTimeParser.FECHA_INVALIDA);
+        return dia;
+    }
+
+    /**
+     * Valida una hora de 24 horas y devuelve su valor, para no volver a interpretarla.
+     * @param hora La cadena a validar (hh:mm:ss).
+     * @return El segundo del día (ver LocalTime.ofSecondOfDay), o {@link DateTimeParser#HORA_INVALIDA}.
+     */
+    public int interpretarHora24(CharSequence hora) {
+        long inicio = metricas.iniciar();
+        int segundo = DateTimeParser.segundoDelDia24(hora);
+        metricas.registrar("hora-24", inicio, segundo != DateTimeParser.HORA_INVALIDA);
+        return segundo;
+    }
+
+    /**
+     * Valida una hora de 12 horas y devuelve su valor, para no volver a interpretarla.
+     * @param hora La cadena a validar (hh:mm:ss AM|PM).
+     * @return El segundo del día en formato de 24 horas, o {@link DateTimeParser#HORA_INVALIDA}.
+     */
+    public int interpretarHora12(CharSequence hora) {
+        long inicio = metricas.iniciar();
+        int segundo = DateTimeParser.segundoDelDia12(hora);
+        metricas.registrar("hora-12", inicio, segundo != DateTimeParser.HORA_INVALIDA);
+        return segundo;
+    }
+
+    public boolean validarVariableJava(CharSequence variable) {
+        return metricas.medir("variable-java", variable, validator::esVarJava);
+    }
+
+    public boolean validarURL(CharSequence url) {
+        return metricas.medir("url", url, validator::esURLValida);
     }
 
     /**
@@ -58,44 +479,79 @@ public class RegexController {
      * @param isbn La cadena a validar.
      * @return "ISBN-13", "ISBN-10", o "No válido".
      */
-    public String validarTipoISBN(String isbn) {
-        return validator.validarTipoISBN(isbn);
+    public String validarTipoISBN(CharSequence isbn) {
+        return metricas.medir("isbn", isbn, validator::validarTipoISBN, ISBN_NO_VALIDO);
+    }
+
+    /**
+     * Detecta el tipo de muchos códigos de producto (ISBN-10, ISBN-13 o EAN-13) verificando
+     * su dígito de control; los lotes grandes se reparten entre los núcleos disponibles.
+     * @param codigos Los códigos a validar.
+     * @return El tipo de cada código, en el mismo orden (INVALIDO si no es ninguno).
+     */
+    public ProductCodeType[] detectarCodigosProducto(List<? extends CharSequence> codigos) {
+        return ProductCodeValidator.detectarTodos(codigos);
     }
 
-    public boolean validarCodigoBarrasColombia(String codigoBarras) {
-        return validator.esCodigoBarrasColombiaValido(codigoBarras);
+    public boolean validarCodigoBarrasColombia(CharSequence codigoBarras) {
+        return metricas.medir("codigo-barras", codigoBarras, validator::esCodigoBarrasColombiaValido);
+    }
+
+    public boolean validarNombreApellido(CharSequence nombre) {
+        return metricas.medir("nombre-apellido", nombre, validator::esNombreApellidoValido);
+    }
+
+    public boolean validarContrasenaSegura(CharSequence contrasena) {
+        return metricas.medir("contrasena", contrasena, validator::esContrasenaSegura);
+    }
+
+    /**
+     * Evalúa una contraseña contra la política vigente e informa los criterios cumplidos.
+     * @param contrasena La contraseña a evaluar.
+     * @return Los criterios cumplidos y los que faltan.
+     */
+    public PasswordEvaluator.Resultado evaluarContrasena(CharSequence contrasena) {
+        long inicio = metricas.iniciar();
+        PasswordEvaluator.Resultado resultado = validator.evaluarContrasena(contrasena);
+        metricas.registrar("contrasena", inicio, resultado.esSegura());
+        return resultado;
     }
 
-    public boolean validarNombreApellido(String nombre) {
-        return validator.esNombreApellidoValido(nombre);
+    /**
+     * Cambia la política de contraseñas de la regla "contrasena" (criterios y tope de longitud).
+     * @param politica La nueva política.
+     */
+    public void setPoliticaContrasena(PasswordPolicy politica) {
+        validator.setPoliticaContrasena(politica);
+        versionReglas.incrementAndGet();
     }
 
-    public boolean validarContrasenaSegura(String contrasena) {
-        return validator.esContrasenaSegura(contrasena);
+    public PasswordPolicy getPoliticaContrasena() {
+        return validator.getPoliticaContrasena();
     }
 
-    public boolean validarCicloFor(String cicloFor) {
-        return validator.esCicloForValido(cicloFor);
+    public boolean validarCicloFor(CharSequence cicloFor) {
+        return metricas.medir("ciclo-for", cicloFor, validator::esCicloForValido);
     }
 
-    public boolean validarNumeroDouble(String numero) {
-        return validator.esNumeroDoubleValido(numero);
+    public boolean validarNumeroDouble(CharSequence numero) {
+        return metricas.medir("numero-double", numero, validator::esNumeroDoubleValido);
     }
 
-    public boolean validarLeyDecretoArticulo(String textoLegal) {
-        return validator.esLeyDecretoArticuloValido(textoLegal);
+    public boolean validarLeyDecretoArticulo(CharSequence textoLegal) {
+        return metricas.medir("ley-decreto-articulo", textoLegal, validator::esLeyDecretoArticuloValido);
     }
 
-    public boolean validarReferenciaIeee(String referencia) {
-        return validator.esReferenciaIeeeValida(referencia);
+    public boolean validarReferenciaIeee(CharSequence referencia) {
+        return metricas.medir("referencia-ieee", referencia, validator::esReferenciaIeeeValida);
     }
 
-    public boolean validarReferenciaApa(String referencia) {
-        return validator.esReferenciaApaValida(referencia);
+    public boolean validarReferenciaApa(CharSequence referencia) {
+        return metricas.medir("referencia-apa", referencia, validator::esReferenciaApaValida);
     }
 
-    public boolean validarPrecioProducto(String precio) {
-        return validator.esPrecioProductoValido(precio);
+    public boolean validarPrecioProducto(CharSequence precio) {
+        return metricas.medir("precio-producto", precio, validator::esPrecioProductoValido);
     }
 
     /**
@@ -103,7 +559,39 @@ public class RegexController {
      * @param palabra La palabra a analizar.
      * @return Una cadena indicando el tipo de secuencia vocálica.
      */
-    public String clasificarDiptongoHiato(String palabra) {
-        return validator.clasificarDiptongoHiato(palabra);
+    public String clasificarDiptongoHiato(CharSequence palabra) {
+        return metricas.medir(DIPTONGO_HIATO, palabra, validator::clasificarDiptongoHiato, SIN_SECUENCIA_VOCALICA);
+    }
+
+    /**
+     * Encuentra todos los diptongos, triptongos e hiatos de una palabra, con sus posiciones.
+     * @param palabra La palabra a analizar.
+     * @return Las secuencias en el orden en que aparecen (vacía si no hay ninguna).
+     */
+    public List<VowelSequence> analizarVocales(CharSequence palabra) {
+        long inicio = metricas.iniciar();
+        List<VowelSequence> secuencias = VowelSequenceAnalyzer.analizar(palabra);
+        metricas.registrar(DIPTONGO_HIATO, inicio, !secuencias.isEmpty());
+        return secuencias;
+    }
+
+    /**
+     * Analiza una lista de palabras (ej. un diccionario); las listas grandes se reparten
+     * entre los núcleos disponibles.
+     * @param palabras Las palabras a analizar.
+     * @return Las secuencias de cada palabra, en el mismo orden.
+     */
+    public List<List<VowelSequence>> analizarVocalesTodas(List<? extends CharSequence> palabras) {
+        return VowelSequenceAnalyzer.analizarTodos(palabras);
+    }
+
+    /**
+     * Cuenta los diptongos, triptongos e hiatos de una lista de palabras sin crear
+     * objetos por palabra.
+     * @param palabras Las palabras a analizar.
+     * @return El número de secuencias, indexado por el ordinal de VowelSequenceType.
+     */
+    public long[] contarSecuenciasVocalicas(List<? extends CharSequence> palabras) {
+        return VowelSequenceAnalyzer.contarTodos(palabras);
     }
 }
@@ -0,0 +1,198 @@
+package com.regex.regexevaluator.controller;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caché concurrente y acotada de resultados de validación, con llave (regla, versión
+ * de las reglas, entrada). Con la versión en la llave, un resultado calculado con un
+ * catálogo o una política de contraseñas anterior no se vuelve a usar: queda sin
+ * consultas y se expulsa con el uso.
+ * Se divide en segmentos con su propio candado para que los hilos no compitan por
+ * uno solo; cada segmento mantiene sus entradas en orden de uso (LRU). Con la política
+ * TINY_LFU, una entrada nueva solo desplaza a la menos usada si se ha pedido con más
+ * frecuencia que ella, lo que protege la caché de ráfagas de valores únicos.
+ */
+public final class ResultCache {
+
+    /** Política de expulsión cuando un segmento está lleno. */
+    public enum Politica {
+        /** Expulsa siempre la entrada usada hace más tiempo. */
+        LRU,
+        /** Admite la entrada nueva solo si es más frecuente que la que expulsaría. */
+        TINY_LFU
+    }
+
+    /**
+     * @param capacidad Número máximo de resultados guardados.
+     * @param politica Política de expulsión.
+     * @param ttl Tiempo de vida de cada resultado, o null para que no expiren.
+     */
+    public record Config(int capacidad, Politica politica, Duration ttl) {
+
+        public Config {
+            if (capacidad < 1) {
+                throw new IllegalArgumentException("La capacidad debe ser positiva.");
+            }
+        }
+    }
+
+    private static final int NUM_SEGMENTOS = 16;
+
+    private record Clave(String regla, long version, String entrada) {
+    }
+
+    private record Valor(boolean resultado, long expiraNanos) {
+    }
+
+    private final Segmento[] segmentos = new Segmento[NUM_SEGMENTOS];
+    private final FrequencySketch frecuencias;
+    private final Politica politica;
+    private final long ttlNanos;
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder expulsiones = new LongAdder();
+    private final LongAdder rechazos = new LongAdder();
+
+    public ResultCache(Config config) {
+        int porSegmento = Math.max(1, (config.capacidad() + NUM_SEGMENTOS - 1) / NUM_SEGMENTOS);
+        for (int i = 0; i < NUM_SEGMENTOS; i++) {
+            segmentos[i] = new Segmento(porSegmento);
+        }
+        this.politica = config.politica();
+        this.frecuencias = politica == Politica.TINY_LFU ? new FrequencySketch(config.capacidad()) : null;
+        this.ttlNanos = config.ttl() == null ? Long.MAX_VALUE : config.ttl().toNanos();
+    }
+
+    /**
+     * @param version La versión de las reglas, ver {@link RegexController#getVersionReglas()}.
+     * @return El resultado guardado, o null si no está o ya expiró.
+     */
+    public Boolean obtener(String regla, long version, String entrada) {
+        Clave clave = new Clave(regla, version, entrada);
+        int hash = dispersar(clave.hashCode());
+        if (frecuencias != null) {
+            frecuencias.incrementar(hash);
+        }
+        Valor valor = segmento(hash).obtener(clave);
+        if (valor == null) {
+            fallos.increment();
+            return null;
+        }
+        aciertos.increment();
+        return valor.resultado();
+    }
+
+    /**
+     * @param version La versión de las reglas con la que se calculó el resultado.
+     */
+    public void guardar(String regla, long version, String entrada, boolean resultado) {
+        Clave clave = new Clave(regla, version, entrada);
+        int hash = dispersar(clave.hashCode());
+        long expira = ttlNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttlNanos;
+        segmento(hash).guardar(clave, hash, new Valor(resultado, expira));
+    }
+
+    public long getAciertos() {
+        return aciertos.sum();
+    }
+
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    public long getExpulsiones() {
+        return expulsiones.sum();
+    }
+
+    /** @return Entradas nuevas que TinyLFU no admitió por ser menos frecuentes que la víctima. */
+    public long getRechazos() {
+        return rechazos.sum();
+    }
+
+    /** @return La proporción de consultas resueltas desde la caché, entre 0 y 1. */
+    public double getTasaAciertos() {
+        long a = getAciertos();
+        long total = a + getFallos();
+        return total == 0 ? 0 : (double) a / total;
+    }
+
+    public int getTamano() {
+        int tamano = 0;
+        for (Segmento s : segmentos) {
+            tamano += s.tamano();
+        }
+        return tamano;
+    }
+
+    private Segmento segmento(int hash) {
+        return segmentos[hash & (NUM_SEGMENTOS - 1)];
+    }
+
+    private static int dispersar(int h) {
+        h ^= h >>> 16;
+        h *= 0x45d9f3b;
+        return h ^ (h >>> 16);
+    }
+
+    /** Porción de la caché protegida por un candado, en orden de uso. */
+    private final class Segmento {
+        private final int capacidad;
+        private final ReentrantLock candado = new ReentrantLock();
+        private final LinkedHashMap<Clave, Valor> entradas;
+
+        Segmento(int capacidad) {
+            this.capacidad = capacidad;
+            this.entradas = new LinkedHashMap<>(capacidad * 4 / 3 + 1, 0.75f, true);
+        }
+
+        Valor obtener(Clave clave) {
+            candado.lock();
+            try {
+                Valor valor = entradas.get(clave);
+                if (valor != null && valor.expiraNanos() != Long.MAX_VALUE && System.nanoTime() - valor.expiraNanos() > 0) {
+                    entradas.remove(clave);
+                    return null;
+                }
+                return valor;
+            } finally {
+                candado.unlock();
+            }
+        }
+
+        void guardar(Clave clave, int hash, Valor valor) {
+            candado.lock();
+            try {
+                if (entradas.containsKey(clave) || entradas.size() < capacidad) {
+                    entradas.put(clave, valor);
+                    return;
+                }
+                Iterator<Map.Entry<Clave, Valor>> iterador = entradas.entrySet().iterator();
+                Map.Entry<Clave, Valor> victima = iterador.next();
+                if (politica == Politica.TINY_LFU
+                        && frecuencias.frecuencia(hash) <= frecuencias.frecuencia(dispersar(victima.getKey().hashCode()))) {
+                    rechazos.increment();
+                    return;
+                }
+                iterador.remove();
+                expulsiones.increment();
+                entradas.put(clave, valor);
+            } finally {
+                candado.unlock();
+            }
+        }
+
+        int tamano() {
+            candado.lock();
+            try {
+                return entradas.size();
+            } finally {
+                candado.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.regex.regexevaluator.controller;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores y latencias de una regla. Los contadores usan LongAdder para que
+ * muchos hilos puedan registrar a la vez sin competir por la misma variable.
+ */
+public final class RuleMetrics implements RuleMetricsMXBean {
+
+    private final String regla;
+    private final LongAdder coincidencias = new LongAdder();
+    private final LongAdder noCoincidencias = new LongAdder();
+    private final LongAdder nanosTotales = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+    private final LatencyHistogram histograma = new LatencyHistogram();
+
+    RuleMetrics(String regla) {
+        this.regla = regla;
+    }
+
+    void registrar(long nanos, boolean coincide) {
+        (coincide ? coincidencias : noCoincidencias).increment();
+        nanosTotales.add(nanos);
+        maximo.accumulate(nanos);
+        histograma.registrar(nanos);
+    }
+
+    public String getRegla() {
+        return regla;
+    }
+
+    @Override
+    public long getLlamadas() {
+        return coincidencias.sum() + noCoincidencias.sum();
+    }
+
+    @Override
+    public long getCoincidencias() {
+        return coincidencias.sum();
+    }
+
+    @Override
+    public long getNoCoincidencias() {
+        return noCoincidencias.sum();
+    }
+
+    @Override
+    public long getLatenciaMediaNanos() {
+        long llamadas = getLlamadas();
+        return llamadas == 0 ? 0 : nanosTotales.sum() / llamadas;
+    }
+
+    @Override
+    public long getLatenciaP50Nanos() {
+        return histograma.percentil(50);
+    }
+
+    @Override
+    public long getLatenciaP99Nanos() {
+        return histograma.percentil(99);
+    }
+
+    @Override
+    public long getLatenciaP999Nanos() {
+        return histograma.percentil(99.9);
+    }
+
+    @Override
+    public long getLatenciaMaximaNanos() {
+        return maximo.get();
+    }
+
+    @Override
+    public void reiniciar() {
+        coincidencias.reset();
+        noCoincidencias.reset();
+        nanosTotales.reset();
+        maximo.reset();
+        histograma.reiniciar();
+    }
+}
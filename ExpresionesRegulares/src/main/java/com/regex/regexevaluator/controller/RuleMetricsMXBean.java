@@ -0,0 +1,25 @@
+package com.regex.regexevaluator.controller;
+
+/**
+ * Vista JMX de las métricas de una regla.
+ */
+public interface RuleMetricsMXBean {
+
+    long getLlamadas();
+
+    long getCoincidencias();
+
+    long getNoCoincidencias();
+
+    long getLatenciaMediaNanos();
+
+    long getLatenciaP50Nanos();
+
+    long getLatenciaP99Nanos();
+
+    long getLatenciaP999Nanos();
+
+    long getLatenciaMaximaNanos();
+
+    void reiniciar();
+}
@@ -0,0 +1,128 @@
+package com.regex.regexevaluator.controller;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Métricas por regla de las validaciones del {@link RegexController}: llamadas,
+ * coincidencias y latencias. Se publican por JMX y como texto plano.
+ */
+public final class ValidationMetrics {
+
+    private static final String DOMINIO_JMX = "com.regex.regexevaluator";
+
+    private final Map<String, RuleMetrics> porRegla;
+    private volatile boolean activas = true;
+
+    /**
+     * @param reglas Los identificadores de las reglas que se van a medir.
+     */
+    ValidationMetrics(Collection<String> reglas) {
+        Map<String, RuleMetrics> mapa = new LinkedHashMap<>();
+        for (String regla : reglas) {
+            mapa.put(regla, new RuleMetrics(regla));
+        }
+        this.porRegla = Collections.unmodifiableMap(mapa);
+    }
+
+    /**
+     * Ejecuta una validación midiendo su latencia y su resultado.
+     */
+    boolean medir(String regla, CharSequence entrada, Predicate<CharSequence> validacion) {
+        if (!activas) {
+            return validacion.test(entrada);
+        }
+        long inicio = System.nanoTime();
+        boolean coincide = validacion.test(entrada);
+        porRegla.get(regla).registrar(System.nanoTime() - inicio, coincide);
+        return coincide;
+    }
+
+    /**
+     * Ejecuta una clasificación midiendo su latencia; cuenta como coincidencia
+     * cualquier resultado distinto del indicado como "sin coincidencia".
+     */
+    String medir(String regla, CharSequence entrada, Function<CharSequence, String> clasificacion, String sinCoincidencia) {
+        if (!activas) {
+            return clasificacion.apply(entrada);
+        }
+        long inicio = System.nanoTime();
+        String resultado = clasificacion.apply(entrada);
+        porRegla.get(regla).registrar(System.nanoTime() - inicio, !sinCoincidencia.equals(resultado));
+        return resultado;
+    }
+
+    /**
+     * Marca el inicio de una medición que se completa con {@link #registrar}.
+     * @return El instante actual, o 0 si la medición está desactivada.
+     */
+    long iniciar() {
+        return activas ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Registra el resultado y la latencia de una validación iniciada con {@link #iniciar()}.
+     * @return El mismo resultado recibido.
+     */
+    boolean registrar(String regla, long inicio, boolean coincide) {
+        if (inicio != 0) {
+            porRegla.get(regla).registrar(System.nanoTime() - inicio, coincide);
+        }
+        return coincide;
+    }
+
+    /**
+     * Activa o desactiva la medición; desactivada, las validaciones no consultan el reloj.
+     */
+    public void setActivas(boolean activas) {
+        this.activas = activas;
+    }
+
+    public boolean isActivas() {
+        return activas;
+    }
+
+    public RuleMetrics getMetricas(String regla) {
+        return porRegla.get(regla);
+    }
+
+    /**
+     * Registra un MXBean por regla con el nombre com.regex.regexevaluator:type=RuleMetrics,name=regla.
+     * @throws JMException si alguno ya está registrado o el nombre no es válido.
+     */
+    public void registrarJmx() throws JMException {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        for (RuleMetrics metricas : porRegla.values()) {
+            servidor.registerMBean(metricas, nombreJmx(metricas.getRegla()));
+        }
+    }
+
+    private static ObjectName nombreJmx(String regla) throws JMException {
+        return new ObjectName(DOMINIO_JMX + ":type=RuleMetrics,name=" + ObjectName.quote(regla));
+    }
+
+    /**
+     * @return Una línea por regla con sus contadores y latencias en microsegundos.
+     */
+    public String volcarTexto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-22s %12s %12s %12s %10s %10s %10s %10s %10s%n", "regla", "llamadas",
+                "coinciden", "no_coinc", "media_us", "p50_us", "p99_us", "p999_us", "max_us"));
+        for (RuleMetrics m : porRegla.values()) {
+            sb.append(String.format("%-22s %12d %12d %12d %10.1f %10.1f %10.1f %10.1f %10.1f%n", m.getRegla(),
+                    m.getLlamadas(), m.getCoincidencias(), m.getNoCoincidencias(),
+                    m.getLatenciaMediaNanos() / 1000.0, m.getLatenciaP50Nanos() / 1000.0,
+                    m.getLatenciaP99Nanos() / 1000.0, m.getLatenciaP999Nanos() / 1000.0,
+                    m.getLatenciaMaximaNanos() / 1000.0));
+        }
+        return sb.toString();
+    }
+}
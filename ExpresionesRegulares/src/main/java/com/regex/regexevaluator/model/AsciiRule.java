@@ -0,0 +1,84 @@
+package com.regex.regexevaluator.model;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reglas que solo aceptan caracteres ASCII y por eso se pueden validar sobre los
+ * bytes de la entrada (ASCII o UTF-8), sin decodificarlos ni crear objetos.
+ * Cada una acepta exactamente lo mismo que el método de {@link RegexValidator} con
+ * el mismo identificador.
+ */
+public enum AsciiRule implements ByteValidation {
+
+    PLACA("placa", FastMatchers::esPlaca),
+    COD_POSTAL("codigo-postal", FastMatchers::esCodPostal),
+    NUM_FIJO("num-fijo", FastMatchers::esNumFijo),
+    NUM_CELULAR("num-celular", FastMatchers::esNumCelular),
+    FECHA("fecha", (b, desde, longitud) -> DateTimeParser.diaEpoca(b, desde, longitud) != DateTimeParser.FECHA_INVALIDA),
+    HORA_24("hora-24", (b, desde, longitud) -> DateTimeParser.segundoDelDia24(b, desde, longitud) != DateTimeParser.HORA_INVALIDA),
+    HORA_12("hora-12", (b, desde, longitud) -> DateTimeParser.segundoDelDia12(b, desde, longitud) != DateTimeParser.HORA_INVALIDA),
+    CODIGO_BARRAS("codigo-barras", (b, desde, longitud) -> FastMatchers.esCodigoBarras(b, desde, longitud)
+            && ProductCodeValidator.esControlEan13Valido(b, desde)),
+    NUMERO_DOUBLE("numero-double", FastMatchers::esNumeroDouble);
+
+    /** Tamaño inicial del arreglo por hilo donde se copian los fragmentos de buffers directos. */
+    private static final int TAMANO_COPIA = 64;
+
+    private static final Map<String, AsciiRule> POR_ID = new HashMap<>();
+    private static final ThreadLocal<byte[]> COPIA = ThreadLocal.withInitial(() -> new byte[TAMANO_COPIA]);
+
+    static {
+        for (AsciiRule regla : values()) {
+            POR_ID.put(regla.id, regla);
+        }
+    }
+
+    private final String id;
+    private final ByteValidation validacion;
+
+    AsciiRule(String id, ByteValidation validacion) {
+        this.id = id;
+        this.validacion = validacion;
+    }
+
+    /**
+     * @param id El identificador de la regla (ej. "placa").
+     * @return La regla, o null si no se puede validar sobre bytes.
+     */
+    public static AsciiRule porId(String id) {
+        return POR_ID.get(id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean test(byte[] datos, int desde, int longitud) {
+        return validacion.test(datos, desde, longitud);
+    }
+
+    /**
+     * Valida un fragmento de un buffer sin cambiar su posición ni su límite. Si el
+     * buffer es directo, el fragmento se copia a un arreglo reutilizado por el hilo.
+     *
+     * @param datos El buffer que contiene el fragmento.
+     * @param desde Posición absoluta del primer byte.
+     * @param longitud Número de bytes del fragmento.
+     * @return true si el fragmento cumple la regla.
+     */
+    public boolean test(ByteBuffer datos, int desde, int longitud) {
+        if (datos.hasArray()) {
+            return validacion.test(datos.array(), datos.arrayOffset() + desde, longitud);
+        }
+        byte[] copia = COPIA.get();
+        if (copia.length < longitud) {
+            copia = new byte[Math.max(longitud, copia.length * 2)];
+            COPIA.set(copia);
+        }
+        datos.get(desde, copia, 0, longitud);
+        return validacion.test(copia, 0, longitud);
+    }
+}
@@ -0,0 +1,17 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Validación que opera directamente sobre un fragmento de bytes en ASCII o UTF-8,
+ * sin decodificarlo a {@link String}.
+ */
+@FunctionalInterface
+public interface ByteValidation {
+
+    /**
+     * @param datos El arreglo que contiene el fragmento.
+     * @param desde Posición del primer byte del fragmento.
+     * @param longitud Número de bytes del fragmento.
+     * @return true si el fragmento cumple la regla.
+     */
+    boolean test(byte[] datos, int desde, int longitud);
+}
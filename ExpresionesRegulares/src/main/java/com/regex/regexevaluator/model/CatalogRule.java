@@ -0,0 +1,99 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.model.engine.PikeVm;
+import com.regex.regexevaluator.model.engine.RuleGuard;
+import com.regex.regexevaluator.model.engine.RuleSnapshot;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Regla definida en el catálogo de datos en lugar de en el código. Se compila al
+ * cargarse el catálogo con el motor indicado y es inmutable y segura entre hilos.
+ */
+public final class CatalogRule {
+
+    private final String id;
+    private final String descripcion;
+    private final Pattern patron;
+    private final EvaluationMode motor;
+    private final List<String> validos;
+    private final List<String> invalidos;
+    private final ThreadLocal<Matcher> matcher;
+    private final PikeVm motorLineal;
+    private final RuleGuard filtro;
+
+    /**
+     * @param id Identificador único de la regla (ej. "placa-moto").
+     * @param descripcion Texto para mostrar en el menú.
+     * @param patron El patrón ya compilado.
+     * @param motor LINEAL para evaluar con la máquina de Pike, BACKTRACKING para java.util.regex.
+     * @param validos Ejemplos que deben cumplir la regla.
+     * @param invalidos Ejemplos que no deben cumplirla.
+     * @throws com.regex.regexevaluator.model.engine.UnsupportedRegexException si el motor es
+     *         LINEAL y la expresión no es regular.
+     */
+    public CatalogRule(String id, String descripcion, Pattern patron, EvaluationMode motor,
+                       List<String> validos, List<String> invalidos) {
+        this.id = id;
+        this.descripcion = descripcion;
+        this.patron = patron;
+        this.motor = motor;
+        this.validos = List.copyOf(validos);
+        this.invalidos = List.copyOf(invalidos);
+        this.motorLineal = motor == EvaluationMode.LINEAL ? RuleSnapshot.actual().motorLineal(patron) : null;
+        this.matcher = motorLineal == null ? ThreadLocal.withInitial(() -> patron.matcher("")) : null;
+        this.filtro = RuleSnapshot.actual().filtro(patron);
+    }
+
+    /**
+     * Verifica si la entrada completa cumple la regla.
+     *
+     * @param entrada La cadena a validar.
+     * @return true si toda la entrada coincide con la expresión.
+     */
+    public boolean coincide(CharSequence entrada) {
+        if (!filtro.admite(entrada)) {
+            return false;
+        }
+        if (motorLineal != null) {
+            return motorLineal.coincide(entrada);
+        }
+        Matcher m = matcher.get();
+        try {
+            return m.reset(entrada).matches();
+        } finally {
+            m.reset("");
+        }
+    }
+
+    /** @return Las condiciones baratas que cumple toda cadena aceptada por la regla. */
+    public RuleGuard getFiltro() {
+        return filtro;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    public Pattern getPatron() {
+        return patron;
+    }
+
+    public EvaluationMode getMotor() {
+        return motor;
+    }
+
+    public List<String> getValidos() {
+        return validos;
+    }
+
+    public List<String> getInvalidos() {
+        return invalidos;
+    }
+}
@@ -0,0 +1,163 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Valida e interpreta fechas dd/mm/aaaa y horas hh:mm:ss (24 h) o hh:mm:ss AM|PM (12 h)
+ * en una sola pasada, sin expresiones regulares y sin crear objetos.
+ *
+ * Además del formato, las fechas se verifican contra el calendario gregoriano (días
+ * por mes y años bisiestos), igual que {@link java.time.LocalDate}. El resultado es un
+ * valor primitivo que se puede usar directamente, sin volver a interpretar la cadena:
+ * el día de la época (días desde el 01/01/1970, ver {@link java.time.LocalDate#ofEpochDay})
+ * o el segundo del día (ver {@link java.time.LocalTime#ofSecondOfDay}).
+ */
+public final class DateTimeParser {
+
+    /** Valor que devuelven {@link #diaEpoca} para una fecha inválida. */
+    public static final long FECHA_INVALIDA = Long.MIN_VALUE;
+    /** Valor que devuelven los métodos de hora para una hora inválida. */
+    public static final int HORA_INVALIDA = -1;
+
+    /** Días desde el 01/01/0000 hasta el 01/01/1970. */
+    private static final long DIAS_0000_A_1970 = 719_528L;
+    private static final int SEGUNDOS_POR_HORA = 3600;
+
+    private DateTimeParser() {
+    }
+
+    /**
+     * Valida una fecha dd/mm/aaaa, incluido que el día exista en ese mes y año.
+     *
+     * @param fecha La cadena a interpretar (ej. "29/02/2024").
+     * @return Los días desde el 01/01/1970 (negativos antes de esa fecha), o
+     *         {@link #FECHA_INVALIDA} si la cadena no es una fecha válida.
+     */
+    public static long diaEpoca(CharSequence fecha) {
+        if (fecha.length() != 10 || fecha.charAt(2) != '/' || fecha.charAt(5) != '/') {
+            return FECHA_INVALIDA;
+        }
+        int dia = dosDigitos(fecha.charAt(0), fecha.charAt(1));
+        int mes = dosDigitos(fecha.charAt(3), fecha.charAt(4));
+        int siglo = dosDigitos(fecha.charAt(6), fecha.charAt(7));
+        int anio = dosDigitos(fecha.charAt(8), fecha.charAt(9));
+        return diaEpoca(dia, mes, siglo, anio);
+    }
+
+    /** Igual que {@link #diaEpoca(CharSequence)}, sobre los bytes [desde, desde + longitud). */
+    public static long diaEpoca(byte[] b, int desde, int longitud) {
+        if (longitud != 10 || b[desde + 2] != '/' || b[desde + 5] != '/') {
+            return FECHA_INVALIDA;
+        }
+        int dia = dosDigitos(b[desde], b[desde + 1]);
+        int mes = dosDigitos(b[desde + 3], b[desde + 4]);
+        int siglo = dosDigitos(b[desde + 6], b[desde + 7]);
+        int anio = dosDigitos(b[desde + 8], b[desde + 9]);
+        return diaEpoca(dia, mes, siglo, anio);
+    }
+
+    /**
+     * Valida una hora hh:mm:ss en formato de 24 horas.
+     *
+     * @param hora La cadena a interpretar (ej. "14:30:00").
+     * @return El segundo del día (0 a 86399), o {@link #HORA_INVALIDA}.
+     */
+    public static int segundoDelDia24(CharSequence hora) {
+        if (hora.length() != 8) {
+            return HORA_INVALIDA;
+        }
+        int horas = dosDigitos(hora.charAt(0), hora.charAt(1));
+        return horas < 0 || horas > 23 ? HORA_INVALIDA : segundoDelDia(horas, hora.charAt(2),
+                hora.charAt(3), hora.charAt(4), hora.charAt(5), hora.charAt(6), hora.charAt(7));
+    }
+
+    /** Igual que {@link #segundoDelDia24(CharSequence)}, sobre los bytes [desde, desde + longitud). */
+    public static int segundoDelDia24(byte[] b, int desde, int longitud) {
+        if (longitud != 8) {
+            return HORA_INVALIDA;
+        }
+        int horas = dosDigitos(b[desde], b[desde + 1]);
+        return horas < 0 || horas > 23 ? HORA_INVALIDA : segundoDelDia(horas, (char) b[desde + 2],
+                (char) b[desde + 3], (char) b[desde + 4], (char) b[desde + 5], (char) b[desde + 6], (char) b[desde + 7]);
+    }
+
+    /**
+     * Valida una hora hh:mm:ss AM|PM en formato de 12 horas (de 01 a 12).
+     *
+     * @param hora La cadena a interpretar (ej. "02:30:00 PM").
+     * @return El segundo del día en formato de 24 horas ("12:00:00 AM" es 0), o {@link #HORA_INVALIDA}.
+     */
+    public static int segundoDelDia12(CharSequence hora) {
+        if (hora.length() != 11 || hora.charAt(8) != ' ' || hora.charAt(10) != 'M') {
+            return HORA_INVALIDA;
+        }
+        int horas = horas12(dosDigitos(hora.charAt(0), hora.charAt(1)), hora.charAt(9));
+        return horas < 0 ? HORA_INVALIDA : segundoDelDia(horas, hora.charAt(2),
+                hora.charAt(3), hora.charAt(4), hora.charAt(5), hora.charAt(6), hora.charAt(7));
+    }
+
+    /** Igual que {@link #segundoDelDia12(CharSequence)}, sobre los bytes [desde, desde + longitud). */
+    public static int segundoDelDia12(byte[] b, int desde, int longitud) {
+        if (longitud != 11 || b[desde + 8] != ' ' || b[desde + 10] != 'M') {
+            return HORA_INVALIDA;
+        }
+        int horas = horas12(dosDigitos(b[desde], b[desde + 1]), (char) b[desde + 9]);
+        return horas < 0 ? HORA_INVALIDA : segundoDelDia(horas, (char) b[desde + 2],
+                (char) b[desde + 3], (char) b[desde + 4], (char) b[desde + 5], (char) b[desde + 6], (char) b[desde + 7]);
+    }
+
+    /** @return true si el año (gregoriano proléptico) es bisiesto. */
+    public static boolean esBisiesto(int anio) {
+        return (anio & 3) == 0 && (anio % 100 != 0 || anio % 400 == 0);
+    }
+
+    /** @return El número de días del mes (1 a 12) en ese año. */
+    public static int diasDelMes(int mes, int anio) {
+        return mes == 2 ? (esBisiesto(anio) ? 29 : 28) : 30 + ((mes + (mes >> 3)) & 1);
+    }
+
+    private static long diaEpoca(int dia, int mes, int siglo, int anioDelSiglo) {
+        if (dia < 1 || mes < 1 || mes > 12 || siglo < 0 || anioDelSiglo < 0) {
+            return FECHA_INVALIDA;
+        }
+        int anio = siglo * 100 + anioDelSiglo;
+        if (dia > diasDelMes(mes, anio)) {
+            return FECHA_INVALIDA;
+        }
+        // Mismo cálculo que LocalDate.toEpochDay, para años de 0 a 9999.
+        long total = 365L * anio + (anio + 3) / 4 - (anio + 99) / 100 + (anio + 399) / 400;
+        total += (367 * mes - 362) / 12;
+        total += dia - 1;
+        if (mes > 2) {
+            total -= esBisiesto(anio) ? 1 : 2;
+        }
+        return total - DIAS_0000_A_1970;
+    }
+
+    /** @return Las horas en formato de 24 horas, o -1 si las horas o el meridiano no son válidos. */
+    private static int horas12(int horas, char meridiano) {
+        if (horas < 1 || horas > 12) {
+            return -1;
+        }
+        return switch (meridiano) {
+            case 'A' -> horas % 12;
+            case 'P' -> horas % 12 + 12;
+            default -> -1;
+        };
+    }
+
+    /** Completa el segundo del día a partir de ":mm:ss". */
+    private static int segundoDelDia(int horas, char separador1, char m0, char m1, char separador2, char s0, char s1) {
+        int minutos = dosDigitos(m0, m1);
+        int segundos = dosDigitos(s0, s1);
+        if (separador1 != ':' || separador2 != ':' || minutos < 0 || minutos > 59 || segundos < 0 || segundos > 59) {
+            return HORA_INVALIDA;
+        }
+        return horas * SEGUNDOS_POR_HORA + minutos * 60 + segundos;
+    }
+
+    /** @return El valor de dos dígitos decimales, o -1 si alguno no es un dígito. */
+    private static int dosDigitos(int decena, int unidad) {
+        int d = decena - '0';
+        int u = unidad - '0';
+        return (d | u | (9 - d) | (9 - u)) < 0 ? -1 : d * 10 + u;
+    }
+}
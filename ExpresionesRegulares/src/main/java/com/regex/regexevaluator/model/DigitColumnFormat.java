@@ -0,0 +1,106 @@
+package com.regex.regexevaluator.model;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Formatos numéricos de ancho fijo que {@link DigitColumnValidator} puede validar
+ * sobre columnas de bytes: un prefijo fijo seguido solo de dígitos.
+ */
+public enum DigitColumnFormat {
+
+    COD_POSTAL("codigo-postal", 6, "05", false),
+    NUM_FIJO("num-fijo", 10, "604", false),
+    NUM_CELULAR("num-celular", 10, "3", false),
+    CODIGO_BARRAS("codigo-barras", 13, "770", true);
+
+    private final String id;
+    private final int ancho;
+    private final byte[] prefijo;
+    private final boolean controlEan13;
+
+    DigitColumnFormat(String id, int ancho, String prefijo, boolean controlEan13) {
+        this.id = id;
+        this.ancho = ancho;
+        this.prefijo = prefijo.getBytes(StandardCharsets.US_ASCII);
+        this.controlEan13 = controlEan13;
+    }
+
+    /**
+     * @param id El identificador de la regla (ej. "num-celular").
+     * @return El formato, o null si la regla no es un formato numérico de ancho fijo.
+     */
+    public static DigitColumnFormat porId(String id) {
+        for (DigitColumnFormat formato : values()) {
+            if (formato.id.equals(id)) {
+                return formato;
+            }
+        }
+        return null;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    /** @return El número de bytes de cada registro. */
+    public int getAncho() {
+        return ancho;
+    }
+
+    /**
+     * @return El byte mínimo aceptado en cada posición del registro (el prefijo o '0').
+     */
+    byte[] minimos() {
+        byte[] minimos = new byte[ancho];
+        for (int i = 0; i < ancho; i++) {
+            minimos[i] = i < prefijo.length ? prefijo[i] : (byte) '0';
+        }
+        return minimos;
+    }
+
+    /**
+     * @return El byte máximo aceptado en cada posición del registro (el prefijo o '9').
+     */
+    byte[] maximos() {
+        byte[] maximos = new byte[ancho];
+        for (int i = 0; i < ancho; i++) {
+            maximos[i] = i < prefijo.length ? prefijo[i] : (byte) '9';
+        }
+        return maximos;
+    }
+
+    /**
+     * Valida un registro byte por byte.
+     *
+     * @param datos La columna.
+     * @param desde Posición del primer byte del registro.
+     * @return true si el registro cumple el formato (y el dígito de control, si aplica).
+     */
+    boolean coincide(byte[] datos, int desde) {
+        for (int i = 0; i < prefijo.length; i++) {
+            if (datos[desde + i] != prefijo[i]) {
+                return false;
+            }
+        }
+        for (int i = prefijo.length; i < ancho; i++) {
+            byte b = datos[desde + i];
+            if (b < '0' || b > '9') {
+                return false;
+            }
+        }
+        return confirmar(datos, desde);
+    }
+
+    /** @return true si un registro con el formato correcto aún debe pasar {@link #confirmar}. */
+    boolean requiereConfirmacion() {
+        return controlEan13;
+    }
+
+    /**
+     * Comprueba lo que no depende de cada byte por separado (el dígito de control EAN-13)
+     * en un registro que ya cumple el formato.
+     */
+    boolean confirmar(byte[] datos, int desde) {
+        return !controlEan13 || ProductCodeValidator.esControlEan13Valido(datos, desde);
+    }
+}
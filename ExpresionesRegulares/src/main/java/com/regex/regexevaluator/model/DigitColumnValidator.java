@@ -0,0 +1,63 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Valida columnas de registros numéricos de ancho fijo guardados uno tras otro en un
+ * arreglo de bytes (ej. millones de celulares de 10 bytes sin separadores), en lugar
+ * de validar cadena por cadena.
+ *
+ * Hay dos implementaciones que aceptan exactamente lo mismo: una escalar y otra que
+ * usa la Vector API (jdk.incubator.vector) para comparar varios registros por
+ * instrucción. {@link #crear()} elige la vectorial solo si la JVM se inició con
+ * --add-modules jdk.incubator.vector; si no, usa la escalar.
+ */
+public interface DigitColumnValidator {
+
+    /**
+     * Valida registros consecutivos de una columna.
+     *
+     * @param columna Los bytes de la columna.
+     * @param desde Posición del primer byte del primer registro.
+     * @param registros Número de registros a validar.
+     * @param formato El formato de cada registro; define su ancho.
+     * @param resultado Mapa de bits donde se enciende el bit i si el registro i es válido,
+     *                  con al menos (registros + 63) / 64 elementos; o null para solo contar.
+     * @return El número de registros válidos.
+     * @throws IndexOutOfBoundsException si los registros exceden la columna.
+     */
+    int validar(byte[] columna, int desde, int registros, DigitColumnFormat formato, long[] resultado);
+
+    /** @return Un nombre corto de la implementación ("vectorial" o "escalar"). */
+    String getNombre();
+
+    /**
+     * @return La implementación vectorial si el módulo jdk.incubator.vector está cargado;
+     *         la escalar en otro caso. Los formatos más anchos que un vector de la CPU se
+     *         validan de forma escalar también en la implementación vectorial.
+     */
+    static DigitColumnValidator crear() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Por reflexión: sin el módulo, cargar la clase fallaría.
+                Class<?> clase = Class.forName("com.regex.regexevaluator.model.VectorDigitColumnValidator");
+                return (DigitColumnValidator) clase.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Se usa la versión escalar.
+            }
+        }
+        return escalar();
+    }
+
+    /** @return La implementación escalar, disponible siempre. */
+    static DigitColumnValidator escalar() {
+        return ScalarDigitColumnValidator.INSTANCIA;
+    }
+
+    /** Verifica que los registros caben en la columna. */
+    static void verificarLimites(byte[] columna, int desde, int registros, DigitColumnFormat formato) {
+        long fin = desde + (long) registros * formato.getAncho();
+        if (desde < 0 || registros < 0 || fin > columna.length) {
+            throw new IndexOutOfBoundsException("Los registros [" + desde + ", " + fin
+                    + ") exceden la columna de " + columna.length + " bytes.");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Motor con el que {@link RegexValidator} evalúa una regla.
+ */
+public enum EvaluationMode {
+    /** java.util.regex: rápido en entradas normales, pero puede retroceder de forma exponencial. */
+    BACKTRACKING,
+    /** Máquina de Pike: tiempo lineal garantizado en la longitud de la entrada. */
+    LINEAL
+}
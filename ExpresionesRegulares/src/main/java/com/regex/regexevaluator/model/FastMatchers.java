@@ -0,0 +1,150 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Validadores escritos a mano para las reglas de longitud fija. Cada uno recorre la
+ * entrada una sola vez, sin crear objetos, y acepta exactamente las mismas cadenas
+ * que la expresión correspondiente de {@link RegexRule}.
+ *
+ * Las versiones sobre byte[] validan un fragmento de bytes en ASCII o UTF-8 sin
+ * decodificarlo: como estas reglas solo aceptan caracteres ASCII, cualquier byte de
+ * un carácter multibyte hace que la validación falle, igual que con la cadena decodificada.
+ *
+ * Las fechas y las horas no están aquí: {@link DateTimeParser} valida el formato y,
+ * en la misma pasada, que la fecha exista en el calendario.
+ */
+public final class FastMatchers {
+
+    private FastMatchers() {
+    }
+
+    /** Equivale a ^[A-Z]{3}\d{3}$. */
+    public static boolean esPlaca(CharSequence s) {
+        return s.length() == 6
+                && esMayuscula(s.charAt(0)) && esMayuscula(s.charAt(1)) && esMayuscula(s.charAt(2))
+                && sonDigitos(s, 3, 6);
+    }
+
+    /** Equivale a ^05\d{4}$. */
+    public static boolean esCodPostal(CharSequence s) {
+        return s.length() == 6 && s.charAt(0) == '0' && s.charAt(1) == '5' && sonDigitos(s, 2, 6);
+    }
+
+    /** Equivale a ^604\d{7}$. */
+    public static boolean esNumFijo(CharSequence s) {
+        return s.length() == 10 && s.charAt(0) == '6' && s.charAt(1) == '0' && s.charAt(2) == '4'
+                && sonDigitos(s, 3, 10);
+    }
+
+    /** Equivale a ^3\d{9}$. */
+    public static boolean esNumCelular(CharSequence s) {
+        return s.length() == 10 && s.charAt(0) == '3' && sonDigitos(s, 1, 10);
+    }
+
+    /** Equivale a ^770\d{10}$. */
+    public static boolean esCodigoBarras(CharSequence s) {
+        return s.length() == 13 && s.charAt(0) == '7' && s.charAt(1) == '7' && s.charAt(2) == '0'
+                && sonDigitos(s, 3, 13);
+    }
+
+    /** Equivale a {@link #esPlaca(CharSequence)} sobre los bytes [desde, desde + longitud). */
+    public static boolean esPlaca(byte[] b, int desde, int longitud) {
+        return longitud == 6
+                && esMayuscula(b[desde]) && esMayuscula(b[desde + 1]) && esMayuscula(b[desde + 2])
+                && sonDigitos(b, desde + 3, desde + 6);
+    }
+
+    /** Equivale a {@link #esCodPostal(CharSequence)} sobre los bytes [desde, desde + longitud). */
+    public static boolean esCodPostal(byte[] b, int desde, int longitud) {
+        return longitud == 6 && b[desde] == '0' && b[desde + 1] == '5' && sonDigitos(b, desde + 2, desde + 6);
+    }
+
+    /** Equivale a {@link #esNumFijo(CharSequence)} sobre los bytes [desde, desde + longitud). */
+    public static boolean esNumFijo(byte[] b, int desde, int longitud) {
+        return longitud == 10 && b[desde] == '6' && b[desde + 1] == '0' && b[desde + 2] == '4'
+                && sonDigitos(b, desde + 3, desde + 10);
+    }
+
+    /** Equivale a {@link #esNumCelular(CharSequence)} sobre los bytes [desde, desde + longitud). */
+    public static boolean esNumCelular(byte[] b, int desde, int longitud) {
+        return longitud == 10 && b[desde] == '3' && sonDigitos(b, desde + 1, desde + 10);
+    }
+
+    /** Equivale a {@link #esCodigoBarras(CharSequence)} sobre los bytes [desde, desde + longitud). */
+    public static boolean esCodigoBarras(byte[] b, int desde, int longitud) {
+        return longitud == 13 && b[desde] == '7' && b[desde + 1] == '7' && b[desde + 2] == '0'
+                && sonDigitos(b, desde + 3, desde + 13);
+    }
+
+    /** Equivale a ^[+-]?(\d+|\d*\.\d+)([eE][+-]?\d+)?$ sobre los bytes [desde, desde + longitud). */
+    public static boolean esNumeroDouble(byte[] b, int desde, int longitud) {
+        int i = desde;
+        int fin = desde + longitud;
+        if (i < fin && (b[i] == '+' || b[i] == '-')) {
+            i++;
+        }
+        int enteros = i;
+        while (i < fin && esDigito(b[i])) {
+            i++;
+        }
+        boolean hayEnteros = i > enteros;
+        if (i < fin && b[i] == '.') {
+            int decimales = ++i;
+            while (i < fin && esDigito(b[i])) {
+                i++;
+            }
+            if (i == decimales) {
+                return false;
+            }
+        } else if (!hayEnteros) {
+            return false;
+        }
+        if (i < fin && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            if (i < fin && (b[i] == '+' || b[i] == '-')) {
+                i++;
+            }
+            int exponente = i;
+            while (i < fin && esDigito(b[i])) {
+                i++;
+            }
+            if (i == exponente) {
+                return false;
+            }
+        }
+        return i == fin;
+    }
+
+    private static boolean sonDigitos(byte[] b, int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            if (!esDigito(b[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esDigito(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean esMayuscula(byte c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean sonDigitos(CharSequence s, int desde, int hasta) {
+        for (int i = desde; i < hasta; i++) {
+            if (!esDigito(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean esDigito(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean esMayuscula(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+}
@@ -0,0 +1,34 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Criterios que {@link PasswordEvaluator} verifica en una contraseña.
+ */
+public enum PasswordCriterion {
+
+    MINUSCULA("una letra minúscula"),
+    MAYUSCULA("una letra mayúscula"),
+    DIGITO("un número"),
+    ESPECIAL("un carácter especial"),
+    LONGITUD_MINIMA("la longitud mínima"),
+    LONGITUD_MAXIMA("no superar la longitud máxima"),
+    SOLO_PERMITIDOS("usar solo letras, números y caracteres especiales permitidos");
+
+    private final String descripcion;
+
+    PasswordCriterion(String descripcion) {
+        this.descripcion = descripcion;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /** @return true si el criterio es una clase de carácter que la contraseña debe contener. */
+    public boolean esClaseDeCaracter() {
+        return ordinal() <= ESPECIAL.ordinal();
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+}
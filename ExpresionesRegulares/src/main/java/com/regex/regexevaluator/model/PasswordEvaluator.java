@@ -0,0 +1,139 @@
+package com.regex.regexevaluator.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Evalúa contraseñas contra una {@link PasswordPolicy} en una sola pasada: cada carácter
+ * se clasifica con una tabla y se acumulan las clases vistas, en lugar de recorrer la
+ * entrada una vez por cada lookahead de la expresión regular. Es inmutable y seguro
+ * entre hilos.
+ *
+ * Con {@link PasswordPolicy#POR_DEFECTO} acepta exactamente las mismas cadenas que
+ * {@link RegexRule#CONTRASENA}.
+ */
+public final class PasswordEvaluator {
+
+    /** Criterios que toda contraseña debe cumplir, además de las clases de la política. */
+    private static final int SIEMPRE_REQUERIDOS = PasswordCriterion.LONGITUD_MINIMA.bit()
+            | PasswordCriterion.LONGITUD_MAXIMA.bit() | PasswordCriterion.SOLO_PERMITIDOS.bit();
+
+    /**
+     * Resultado de evaluar una contraseña.
+     *
+     * @param cumplidos Máscara con el bit {@code 1 << criterio.ordinal()} de cada criterio cumplido.
+     * @param requeridos Máscara de los criterios que exige la política.
+     */
+    public record Resultado(int cumplidos, int requeridos) {
+
+        /** @return true si la contraseña cumple todos los criterios de la política. */
+        public boolean esSegura() {
+            return (cumplidos & requeridos) == requeridos;
+        }
+
+        public boolean cumple(PasswordCriterion criterio) {
+            return (cumplidos & criterio.bit()) != 0;
+        }
+
+        /** @return Los criterios cumplidos, exigidos o no por la política. */
+        public Set<PasswordCriterion> getCumplidos() {
+            return filtrar(cumplidos);
+        }
+
+        /** @return Los criterios que exige la política y la contraseña no cumple. */
+        public Set<PasswordCriterion> getFaltantes() {
+            return filtrar(requeridos & ~cumplidos);
+        }
+
+        private static Set<PasswordCriterion> filtrar(int mascara) {
+            Set<PasswordCriterion> criterios = EnumSet.noneOf(PasswordCriterion.class);
+            for (PasswordCriterion criterio : PasswordCriterion.values()) {
+                if ((mascara & criterio.bit()) != 0) {
+                    criterios.add(criterio);
+                }
+            }
+            return criterios;
+        }
+    }
+
+    private final PasswordPolicy politica;
+    /** Para cada carácter ASCII, el bit de su clase, o 0 si no está permitido. */
+    private final int[] clases = new int[128];
+    private final int requeridos;
+
+    public PasswordEvaluator(PasswordPolicy politica) {
+        this.politica = politica;
+        for (char c = 'a'; c <= 'z'; c++) {
+            clases[c] = PasswordCriterion.MINUSCULA.bit();
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            clases[c] = PasswordCriterion.MAYUSCULA.bit();
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            clases[c] = PasswordCriterion.DIGITO.bit();
+        }
+        for (int i = 0; i < politica.especiales().length(); i++) {
+            clases[politica.especiales().charAt(i)] = PasswordCriterion.ESPECIAL.bit();
+        }
+        int mascara = SIEMPRE_REQUERIDOS;
+        for (PasswordCriterion criterio : politica.clasesRequeridas()) {
+            mascara |= criterio.bit();
+        }
+        this.requeridos = mascara;
+    }
+
+    public PasswordPolicy getPolitica() {
+        return politica;
+    }
+
+    /**
+     * Indica si la contraseña cumple la política. Se detiene en el primer carácter no
+     * permitido, y las entradas más largas que el tope se rechazan sin recorrerlas.
+     *
+     * @param contrasena La contraseña a evaluar.
+     * @return true si cumple todos los criterios.
+     */
+    public boolean esSegura(CharSequence contrasena) {
+        int longitud = contrasena.length();
+        if (longitud < politica.longitudMinima() || longitud > politica.longitudMaxima()) {
+            return false;
+        }
+        int vistos = 0;
+        for (int i = 0; i < longitud; i++) {
+            char c = contrasena.charAt(i);
+            int clase = c < 128 ? clases[c] : 0;
+            if (clase == 0) {
+                return false;
+            }
+            vistos |= clase;
+        }
+        return ((vistos | SIEMPRE_REQUERIDOS) & requeridos) == requeridos;
+    }
+
+    /**
+     * Evalúa todos los criterios, para informar cuáles faltan. Si la entrada supera el
+     * tope de longitud no se recorre: el resultado solo exige e informa los criterios
+     * de longitud.
+     *
+     * @param contrasena La contraseña a evaluar.
+     * @return Los criterios cumplidos y los que exige la política.
+     */
+    public Resultado evaluar(CharSequence contrasena) {
+        int longitud = contrasena.length();
+        int cumplidos = longitud >= politica.longitudMinima() ? PasswordCriterion.LONGITUD_MINIMA.bit() : 0;
+        if (longitud > politica.longitudMaxima()) {
+            int deLongitud = PasswordCriterion.LONGITUD_MINIMA.bit() | PasswordCriterion.LONGITUD_MAXIMA.bit();
+            return new Resultado(cumplidos, requeridos & deLongitud);
+        }
+        cumplidos |= PasswordCriterion.LONGITUD_MAXIMA.bit() | PasswordCriterion.SOLO_PERMITIDOS.bit();
+        for (int i = 0; i < longitud; i++) {
+            char c = contrasena.charAt(i);
+            int clase = c < 128 ? clases[c] : 0;
+            if (clase == 0) {
+                cumplidos &= ~PasswordCriterion.SOLO_PERMITIDOS.bit();
+            }
+            cumplidos |= clase;
+        }
+        return new Resultado(cumplidos, requeridos);
+    }
+}
@@ -0,0 +1,56 @@
+package com.regex.regexevaluator.model;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Política de contraseñas para {@link PasswordEvaluator}.
+ *
+ * Los caracteres permitidos son las letras ASCII, los dígitos y los caracteres
+ * especiales de la política; cualquier otro hace que la contraseña no sea válida.
+ *
+ * @param longitudMinima Número mínimo de caracteres.
+ * @param longitudMaxima Número máximo de caracteres. Las entradas más largas se rechazan
+ *                       sin recorrerlas, lo que acota el costo de evaluar basura muy larga.
+ * @param especiales Caracteres especiales permitidos (solo ASCII, sin letras ni dígitos).
+ * @param clasesRequeridas Clases de carácter que deben aparecer al menos una vez.
+ */
+public record PasswordPolicy(int longitudMinima, int longitudMaxima, String especiales,
+                             Set<PasswordCriterion> clasesRequeridas) {
+
+    /** Sin tope de longitud: se usa cuando no se configura uno. */
+    public static final int SIN_LONGITUD_MAXIMA = Integer.MAX_VALUE;
+
+    /**
+     * Equivale a la expresión de {@link RegexRule#CONTRASENA}: mínimo 8 caracteres, una
+     * minúscula, una mayúscula, un número y uno de @$!%*?&, sin tope de longitud.
+     */
+    public static final PasswordPolicy POR_DEFECTO = new PasswordPolicy(8, SIN_LONGITUD_MAXIMA, "@$!%*?&",
+            EnumSet.of(PasswordCriterion.MINUSCULA, PasswordCriterion.MAYUSCULA,
+                    PasswordCriterion.DIGITO, PasswordCriterion.ESPECIAL));
+
+    public PasswordPolicy {
+        if (longitudMinima < 0 || longitudMaxima < longitudMinima) {
+            throw new IllegalArgumentException("Se requiere 0 <= longitud mínima <= longitud máxima.");
+        }
+        for (int i = 0; i < especiales.length(); i++) {
+            char c = especiales.charAt(i);
+            if (c > 0x7F || Character.isLetterOrDigit(c)) {
+                throw new IllegalArgumentException("Carácter especial no permitido en la política: '" + c + "'");
+            }
+        }
+        for (PasswordCriterion criterio : clasesRequeridas) {
+            if (!criterio.esClaseDeCaracter()) {
+                throw new IllegalArgumentException("No es una clase de carácter: " + criterio);
+            }
+        }
+        clasesRequeridas = Set.copyOf(clasesRequeridas);
+    }
+
+    /**
+     * @return Una copia de la política con otro tope de longitud.
+     */
+    public PasswordPolicy conLongitudMaxima(int longitudMaxima) {
+        return new PasswordPolicy(longitudMinima, longitudMaxima, especiales, clasesRequeridas);
+    }
+}
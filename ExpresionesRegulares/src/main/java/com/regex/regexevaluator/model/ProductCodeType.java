@@ -0,0 +1,25 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Tipo de código de producto detectado por {@link ProductCodeValidator}.
+ */
+public enum ProductCodeType {
+    /** 13 dígitos con prefijo 978 o 979 y dígito de control módulo 10. */
+    ISBN_13("ISBN-13"),
+    /** 10 caracteres (el último puede ser X) con dígito de control módulo 11. */
+    ISBN_10("ISBN-10"),
+    /** 13 dígitos con dígito de control módulo 10 que no son un ISBN. */
+    EAN_13("EAN-13"),
+    INVALIDO("No válido");
+
+    private final String nombre;
+
+    ProductCodeType(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /** @return El nombre para mostrar (ej. "ISBN-13"). */
+    public String getNombre() {
+        return nombre;
+    }
+}
@@ -0,0 +1,158 @@
+package com.regex.regexevaluator.model;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Validación de ISBN-10, ISBN-13 y EAN-13 en una sola pasada y sin crear objetos:
+ * los separadores se saltan en el sitio y el dígito de control (módulo 11 para el
+ * ISBN-10, módulo 10 para ISBN-13 y EAN-13) se calcula mientras se recorre la entrada.
+ *
+ * Formato aceptado: un prefijo opcional "ISBN", "ISBN-10" o "ISBN-13", seguido de ":"
+ * y espacios opcionales, y luego los dígitos, separados opcionalmente por un guion o
+ * un espacio entre dos de ellos. Si el prefijo indica un tipo, el código debe ser de
+ * ese tipo.
+ */
+public final class ProductCodeValidator {
+
+    /** A partir de este número de códigos, {@link #detectarTodos} reparte el trabajo entre núcleos. */
+    public static final int UMBRAL_PARALELO = 8192;
+
+    private ProductCodeValidator() {
+    }
+
+    /**
+     * Detecta el tipo de un código de producto y verifica su dígito de control.
+     *
+     * @param codigo El código a validar (ej. "978-3-16-148410-0").
+     * @return ISBN_13, ISBN_10, EAN_13 o INVALIDO.
+     */
+    public static ProductCodeType detectar(CharSequence codigo) {
+        int longitud = codigo.length();
+        int i = 0;
+        boolean prefijo = false;
+        int digitosDeclarados = 0;
+        if (empiezaCon(codigo, 0, "ISBN")) {
+            prefijo = true;
+            i = 4;
+            if (empiezaCon(codigo, i, "-10")) {
+                digitosDeclarados = 10;
+                i += 3;
+            } else if (empiezaCon(codigo, i, "-13")) {
+                digitosDeclarados = 13;
+                i += 3;
+            }
+            if (i < longitud && codigo.charAt(i) == ':') {
+                i++;
+            }
+            while (i < longitud && Character.isWhitespace(codigo.charAt(i))) {
+                i++;
+            }
+        }
+
+        int digitos = 0;
+        int sumaEan = 0;
+        int sumaIsbn10 = 0;
+        boolean terminaEnX = false;
+        boolean separadorPrevio = true;
+        int primeros = 0;
+        for (; i < longitud; i++) {
+            char c = codigo.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digitos == 13 || terminaEnX) {
+                    return ProductCodeType.INVALIDO;
+                }
+                int d = c - '0';
+                sumaEan += (digitos & 1) == 0 ? d : 3 * d;
+                sumaIsbn10 += (10 - digitos) * d;
+                if (digitos < 3) {
+                    primeros = primeros * 10 + d;
+                }
+                digitos++;
+                separadorPrevio = false;
+            } else if (c == 'X' && digitos == 9) {
+                sumaIsbn10 += 10;
+                digitos++;
+                terminaEnX = true;
+                separadorPrevio = false;
+            } else if ((c == '-' || c == ' ') && !separadorPrevio) {
+                separadorPrevio = true;
+            } else {
+                return ProductCodeType.INVALIDO;
+            }
+        }
+        if (separadorPrevio) {
+            // Vacío o terminado en separador.
+            return ProductCodeType.INVALIDO;
+        }
+
+        ProductCodeType tipo = ProductCodeType.INVALIDO;
+        if (digitos == 13 && !terminaEnX && sumaEan % 10 == 0) {
+            tipo = primeros == 978 || primeros == 979 ? ProductCodeType.ISBN_13 : ProductCodeType.EAN_13;
+        } else if (digitos == 10 && sumaIsbn10 % 11 == 0) {
+            tipo = ProductCodeType.ISBN_10;
+        }
+        if (prefijo && (tipo == ProductCodeType.EAN_13
+                || (digitosDeclarados == 10 && tipo != ProductCodeType.ISBN_10)
+                || (digitosDeclarados == 13 && tipo != ProductCodeType.ISBN_13))) {
+            return ProductCodeType.INVALIDO;
+        }
+        return tipo;
+    }
+
+    /**
+     * Detecta el tipo de muchos códigos. Con {@link #UMBRAL_PARALELO} códigos o más,
+     * el trabajo se reparte en el ForkJoinPool común.
+     *
+     * @param codigos Los códigos a validar.
+     * @return El tipo de cada código, en el mismo orden.
+     */
+    public static ProductCodeType[] detectarTodos(List<? extends CharSequence> codigos) {
+        ProductCodeType[] tipos = new ProductCodeType[codigos.size()];
+        IntStream indices = IntStream.range(0, tipos.length);
+        if (tipos.length >= UMBRAL_PARALELO) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> tipos[i] = detectar(codigos.get(i)));
+        return tipos;
+    }
+
+    /**
+     * Verifica el dígito de control EAN-13 de una cadena de exactamente 13 dígitos.
+     *
+     * @param codigo Los 13 dígitos, sin separadores.
+     * @return true si la suma ponderada 1-3-1-3... es múltiplo de 10.
+     */
+    public static boolean esControlEan13Valido(CharSequence codigo) {
+        int suma = 0;
+        for (int i = 0; i < 13; i++) {
+            int d = codigo.charAt(i) - '0';
+            suma += (i & 1) == 0 ? d : 3 * d;
+        }
+        return suma % 10 == 0;
+    }
+
+    /**
+     * Igual que {@link #esControlEan13Valido(CharSequence)}, sobre 13 bytes ASCII desde la posición dada.
+     */
+    public static boolean esControlEan13Valido(byte[] codigo, int desde) {
+        int suma = 0;
+        for (int i = 0; i < 13; i++) {
+            int d = codigo[desde + i] - '0';
+            suma += (i & 1) == 0 ? d : 3 * d;
+        }
+        return suma % 10 == 0;
+    }
+
+    private static boolean empiezaCon(CharSequence s, int desde, String prefijo) {
+        if (desde + prefijo.length() > s.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefijo.length(); i++) {
+            if (s.charAt(desde + i) != prefijo.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,180 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.model.engine.BudgetedCharSequence;
+import com.regex.regexevaluator.model.engine.EvaluationBudget;
+import com.regex.regexevaluator.model.engine.EvaluationResult;
+import com.regex.regexevaluator.model.engine.PikeVm;
+import com.regex.regexevaluator.model.engine.RuleGuard;
+import com.regex.regexevaluator.model.engine.RuleSnapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de las expresiones regulares usadas por {@link RegexValidator}.
+ * Cada regla se compila una sola vez, la primera vez que se usa, así que un proceso
+ * que valida pocas reglas no paga las demás; los objetos {@link Pattern} son
+ * inmutables y seguros entre hilos, y cada hilo reutiliza su propio {@link Matcher}
+ * para no crear objetos en cada validación. De cada expresión se deduce además un
+ * {@link RuleGuard} (longitudes, prefijo y primeros caracteres) para descartar las
+ * entradas imposibles antes de usar el motor. El filtro y el motor lineal se toman de
+ * la {@link RuleSnapshot} instalada si los contiene, sin analizar la expresión.
+ */
+public enum RegexRule {
+
+    PLACA_CARRO("placa", "^[A-Z]{3}\\d{3}$"),
+    COD_POSTAL("codigo-postal", "^05\\d{4}$"),
+    NUM_FIJO("num-fijo", "^604\\d{7}$"),
+    NUM_CELULAR("num-celular", "^3\\d{9}$"),
+    EMAIL("email", "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$"),
+    // Solo el formato: la validación completa verifica además que el día exista en el calendario.
+    FECHA("fecha", "^(0[1-9]|[12]\\d|3[01])\\/(0[1-9]|1[0-2])\\/\\d{4}$", 0, true),
+    HORA_24("hora-24", "^([01]\\d|2[0-3]):([0-5]\\d):[0-5]\\d$"),
+    HORA_12("hora-12", "^(0[1-9]|1[0-2]):([0-5]\\d):[0-5]\\d (AM|PM)$"),
+    VARIABLE_JAVA("variable-java", "^[a-zA-Z_][a-zA-Z0-9_]*$"),
+    URL("url", "^((https?://)|(www\\.)?)([\\dA-Za-z\\.-]+)\\.([A-Za-z\\.]{2,6})([/\\w \\.-]*)*\\/?$"),
+    // Solo el formato: la validación completa verifica además el dígito de control.
+    CODIGO_BARRAS("codigo-barras", "^770\\d{10}$", 0, true),
+    NOMBRE_APELLIDO("nombre-apellido", "^[a-zA-ZáéíóúÁÉÍÓÚñÑ]+(\\s[a-zA-ZáéíóúÁÉÍÓÚñÑ]+)*$"),
+    CONTRASENA("contrasena", "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$"),
+    CICLO_FOR("ciclo-for", "^for\\s*\\(.*?\\;.*?\\;.*?\\)\\s*\\{?.*$"),
+    NUMERO_DOUBLE("numero-double", "^[+-]?(\\d+|\\d*\\.\\d+)([eE][+-]?\\d+)?$"),
+    LEY_DECRETO_ARTICULO("ley-decreto-articulo", "^(Ley|Decreto|Artículo)\\s+\\d+(\\s+de\\s+\\d{4})?([,\\s]+artículo\\s+\\d+)?$"),
+    REFERENCIA_IEEE("referencia-ieee", "^\\[\\d+\\]\\s+[A-Z]\\.\\s+[A-Za-z]+(?:,\\s+[A-Z]\\.\\s+[A-Za-z]+)*,\\s+\"[^\"]+\",\\s+[A-Za-z\\s]+,\\s+[A-Za-z\\s]+:\\s+[A-Za-z\\s]+,\\s+\\d{4}\\.$"),
+    REFERENCIA_APA("referencia-apa", "^[A-Za-z]+,\\s+[A-Z]\\.(?:\\s+[A-Z]\\.)*\\s+\\(\\d{4}\\)\\.\\s+.+?\\.\\s+[A-Za-z\\s&]+(?:, Inc\\.)?\\.$"),
+    PRECIO_PRODUCTO("precio-producto", "^\\$?(\\d{1,3}(\\.\\d{3})*|\\d+)(,\\d{1,2})?$");
+
+    private static final Map<String, RegexRule> POR_ID = new HashMap<>();
+
+    static {
+        for (RegexRule regla : values()) {
+            POR_ID.put(regla.id, regla);
+        }
+    }
+
+    private final String id;
+    private final String expresion;
+    private final int banderas;
+    private final boolean soloFormato;
+    private volatile Compilada compilada;
+    private volatile PikeVm motorLineal;
+
+    /** La expresión compilada, con su filtro y el {@link Matcher} de cada hilo. */
+    private record Compilada(Pattern patron, RuleGuard filtro, ThreadLocal<Matcher> matcher) {
+    }
+
+    RegexRule(String id, String expresion) {
+        this(id, expresion, 0);
+    }
+
+    RegexRule(String id, String expresion, int banderas) {
+        this(id, expresion, banderas, false);
+    }
+
+    RegexRule(String id, String expresion, int banderas, boolean soloFormato) {
+        this.id = id;
+        this.expresion = expresion;
+        this.banderas = banderas;
+        this.soloFormato = soloFormato;
+    }
+
+    /**
+     * Busca una regla por su identificador.
+     *
+     * @param id El identificador de la regla (ej. "placa").
+     * @return La regla correspondiente, o null si no existe.
+     */
+    public static RegexRule porId(String id) {
+        return POR_ID.get(id);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Pattern getPatron() {
+        return compilada().patron();
+    }
+
+    /**
+     * @return true si la expresión solo describe el formato y la validación de la regla
+     *         hace comprobaciones adicionales (ej. el dígito de control del código de barras).
+     */
+    public boolean esSoloFormato() {
+        return soloFormato;
+    }
+
+    /**
+     * @return Las condiciones baratas que cumple toda cadena aceptada por la expresión
+     *         ({@link RuleGuard#SIN_FILTRO} si usa lookarounds, como la contraseña).
+     */
+    public RuleGuard getFiltro() {
+        return compilada().filtro();
+    }
+
+    /**
+     * Compila la expresión la primera vez. Si dos hilos llegan a la vez ambos la compilan
+     * y se queda una de las dos, que son equivalentes.
+     */
+    private Compilada compilada() {
+        Compilada actual = compilada;
+        if (actual == null) {
+            Pattern patron = Pattern.compile(expresion, banderas);
+            actual = new Compilada(patron, RuleSnapshot.actual().filtro(patron),
+                    ThreadLocal.withInitial(() -> patron.matcher("")));
+            compilada = actual;
+        }
+        return actual;
+    }
+
+    /**
+     * Verifica si la entrada completa coincide con la regla, reutilizando el
+     * {@link Matcher} del hilo actual.
+     *
+     * @param entrada La cadena a validar.
+     * @return true si toda la entrada coincide con la expresión, false en caso contrario.
+     */
+    public boolean coincide(CharSequence entrada) {
+        Matcher m = compilada().matcher().get();
+        try {
+            return m.reset(entrada).matches();
+        } finally {
+            // Se suelta la referencia a la entrada para no retenerla en el hilo.
+            m.reset("");
+        }
+    }
+
+    /**
+     * Igual que {@link #coincide(CharSequence)}, pero abandona la evaluación si el motor
+     * de retroceso supera el presupuesto de pasos o de tiempo.
+     *
+     * @param entrada La cadena a validar.
+     * @param presupuesto Los pasos y el tiempo máximos.
+     * @return COINCIDE, NO_COINCIDE o TIEMPO_AGOTADO.
+     */
+    public EvaluationResult evaluar(CharSequence entrada, EvaluationBudget presupuesto) {
+        try {
+            return EvaluationResult.de(coincide(new BudgetedCharSequence(entrada, presupuesto)));
+        } catch (BudgetedCharSequence.BudgetExceededException e) {
+            return EvaluationResult.TIEMPO_AGOTADO;
+        }
+    }
+
+    /**
+     * Devuelve la versión de tiempo lineal de la regla, compilándola la primera vez.
+     *
+     * @return El motor lineal de la regla.
+     * @throws com.regex.regexevaluator.model.engine.UnsupportedRegexException si la
+     *         expresión usa lookarounds u otras construcciones no regulares.
+     */
+    public PikeVm getMotorLineal() {
+        PikeVm motor = motorLineal;
+        if (motor == null) {
+            motor = RuleSnapshot.actual().motorLineal(getPatron());
+            motorLineal = motor;
+        }
+        return motor;
+    }
+}
@@ -1,9 +1,94 @@
 package com.regex.regexevaluator.model;
 
-import java.util.regex.Pattern;
+import com.regex.regexevaluator.model.engine.EvaluationBudget;
+import com.regex.regexevaluator.model.engine.EvaluationResult;
 
+import java.util.Arrays;
+
+/**
+ * Validaciones de formatos comunes. Las expresiones se toman ya compiladas
+ * de {@link RegexRule}, por lo que ninguna llamada compila patrones. Los formatos
+ * de longitud fija usan {@link FastMatchers}, que no pasan por el motor de regex.
+ * Todas reciben un {@link CharSequence}, así que se pueden validar arreglos de
+ * caracteres o fragmentos de buffers (ej. con {@link java.nio.CharBuffer#wrap}) sin
+ * copiarlos a un String; para las reglas ASCII sobre bytes está {@link AsciiRule}.
+ */
 public class RegexValidator {
 
+    /** Resultado de {@link #clasificarDiptongoHiato} para una palabra sin secuencias de vocales. */
+    public static final String SIN_SECUENCIA_VOCALICA = "No contiene secuencia vocálica relevante";
+
+    private volatile EvaluationMode[] modos = new EvaluationMode[RegexRule.values().length];
+    private volatile PasswordEvaluator evaluadorContrasena = new PasswordEvaluator(PasswordPolicy.POR_DEFECTO);
+
+    /**
+     * Elige el motor con el que se evalúa una regla. El modo LINEAL evita el retroceso
+     * catastrófico en reglas como URL, correo o referencias bibliográficas.
+     *
+     * @param regla La regla a configurar.
+     * @param modo El motor a usar.
+     * @throws com.regex.regexevaluator.model.engine.UnsupportedRegexException si se pide
+     *         el modo LINEAL para una regla con lookarounds (ej. la contraseña).
+     */
+    public synchronized void setModo(RegexRule regla, EvaluationMode modo) {
+        if (modo == EvaluationMode.LINEAL) {
+            regla.getMotorLineal();
+        }
+        EvaluationMode[] copia = Arrays.copyOf(modos, modos.length);
+        copia[regla.ordinal()] = modo;
+        modos = copia;
+    }
+
+    public EvaluationMode getModo(RegexRule regla) {
+        EvaluationMode modo = modos[regla.ordinal()];
+        return modo != null ? modo : EvaluationMode.BACKTRACKING;
+    }
+
+    /**
+     * Evalúa una regla con el motor configurado y un límite de pasos o de tiempo. Si la
+     * expresión solo describe el formato ({@link RegexRule#esSoloFormato()}), una
+     * coincidencia se confirma con las mismas comprobaciones que la validación completa.
+     *
+     * @param regla La regla a evaluar.
+     * @param entrada La cadena a validar.
+     * @param presupuesto Los pasos y el tiempo máximos.
+     * @return COINCIDE, NO_COINCIDE o TIEMPO_AGOTADO si se agotó el presupuesto.
+     */
+    public EvaluationResult evaluar(RegexRule regla, CharSequence entrada, EvaluationBudget presupuesto) {
+        if (!regla.getFiltro().admite(entrada)) {
+            return EvaluationResult.NO_COINCIDE;
+        }
+        EvaluationResult resultado = getModo(regla) == EvaluationMode.LINEAL
+                ? regla.getMotorLineal().evaluar(entrada, presupuesto)
+                : regla.evaluar(entrada, presupuesto);
+        if (resultado == EvaluationResult.COINCIDE && regla.esSoloFormato() && !confirmar(regla, entrada)) {
+            return EvaluationResult.NO_COINCIDE;
+        }
+        return resultado;
+    }
+
+    /**
+     * Comprobaciones de una regla de solo formato que la expresión no hace.
+     * @param entrada Una cadena que ya cumple el formato de la regla.
+     */
+    private static boolean confirmar(RegexRule regla, CharSequence entrada) {
+        return switch (regla) {
+            case FECHA -> DateTimeParser.diaEpoca(entrada) != DateTimeParser.FECHA_INVALIDA;
+            case CODIGO_BARRAS -> ProductCodeValidator.esControlEan13Valido(entrada);
+            default -> true;
+        };
+    }
+
+    /** Descarta con el filtro de la regla las entradas imposibles antes de usar el motor. */
+    private boolean coincide(RegexRule regla, CharSequence entrada) {
+        if (!regla.getFiltro().admite(entrada)) {
+            return false;
+        }
+        return getModo(regla) == EvaluationMode.LINEAL
+                ? regla.getMotorLineal().coincide(entrada)
+                : regla.coincide(entrada);
+    }
+
     /**
      * Valida si una cadena corresponde al formato de una placa de carro en
      * Colombia.
@@ -12,9 +97,8 @@ public class RegexValidator {
      * @param placa La cadena a validar.
      * @return true si la cadena es una placa válida, false en caso contrario.
      */
-    public boolean esPlacaDeCarroValida(String placa) {
-        String expresion = "^[A-Z]{3}\\d{3}$";
-        return Pattern.matches(expresion, placa);
+    public boolean esPlacaDeCarroValida(CharSequence placa) {
+        return FastMatchers.esPlaca(placa);
     }
 
     /**
@@ -24,9 +108,8 @@ public class RegexValidator {
      * @param codPostal La cadena a validar.
      * @return true si la cadena es un codigo postal válido para Medellín, false en caso contrario.
      */
-    public boolean esCodPostalValido(String codPostal){
-        String expresion = "^05\\d{4}$";
-        return Pattern.matches(codPostal, expresion);
+    public boolean esCodPostalValido(CharSequence codPostal){
+        return FastMatchers.esCodPostal(codPostal);
     }
 
     /**
@@ -36,9 +119,8 @@ public class RegexValidator {
      * @param numFijo La cadena a validar.
      * @return true si la cadena es un número fijo valido en Medellín, false en caso contrario.
     */ 
-    public boolean esNumFijoValido(String numFijo){
-        String expresion = "^604\\d{7}$";
-        return Pattern.matches(numFijo, expresion);
+    public boolean esNumFijoValido(CharSequence numFijo){
+        return FastMatchers.esNumFijo(numFijo);
     }
 
     /** 
@@ -48,9 +130,8 @@ public class RegexValidator {
      * @param numCelular La cadena a validar.
      * @return true si la cadena es un número de celular valido en Colombia, false en caso contrario.
     */
-    public boolean esNumCelularValido(String numCelular){
-        String expresion = "^3\\d{9}$";
-        return Pattern.matches(numCelular, expresion);
+    public boolean esNumCelularValido(CharSequence numCelular){
+        return FastMatchers.esNumCelular(numCelular);
     }
 
     /** 
@@ -60,25 +141,24 @@ public class RegexValidator {
      * @param email La cadena a validar.
      * @return true si la cadena es un correo electronico valido, false en caso contrario.
     */
-    public boolean esEmailValido(String email){
+    public boolean esEmailValido(CharSequence email){
         // [a-zA-Z0-9._%+-]+ - Es la parte de example: uno o mas caracteres de letras, números o ._%+-
         // [a-zA-Z0-9.-]+ - Es la parte de domain: uno o más caracteres de letras, números, punto o guion.
         // [a-zA-Z]{2,} - Al menos dos caracteres de letras
-        String expresion = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$";
-        return Pattern.matches(email, expresion);
+        return coincide(RegexRule.EMAIL, email);
     }
 
     /**  
      * Valida si una cadena corresponde a una fecha en formato dd/mm/aaaa.
-     * Esta validación se centra en el formato y los rangos numéricos básicos.
+     * Además del formato, verifica que el día exista en ese mes y año (ej. 31/02 no
+     * es válido y 29/02 solo en años bisiestos).
      * 
      * @param fecha La cadena a validar.
-     * @return true si la cadena tiene el formato de fecha valido, false en caso contrario. 
+     * @return true si la cadena es una fecha valida, false en caso contrario. 
+     * @see DateTimeParser#diaEpoca(CharSequence) para obtener además el día sin volver a interpretarla.
     */
-    public boolean esFechaValida(String fecha){
-        // El metódo valida los rangos numéricos, pero no valida la lógica del calendarip.
-        String expresion = "^(0[1-9]|[12]\\d|3[01])\\/(0[1-9]|1[0-2])\\/\\d{4}$";
-        return Pattern.matches(expresion, fecha);
+    public boolean esFechaValida(CharSequence fecha){
+        return DateTimeParser.diaEpoca(fecha) != DateTimeParser.FECHA_INVALIDA;
     }
 
     /**
@@ -88,9 +168,8 @@ public class RegexValidator {
      * @return  True si la cadena es valida, flase en caso contrario.
     */
 
-    public boolean esHoraValida24(String hora){
-        String expresion = "^([01]\\d|2[0-3]):([0-5]\\d):[0-5]\\d$";
-        return Pattern.matches(expresion, hora);
+    public boolean esHoraValida24(CharSequence hora){
+        return DateTimeParser.segundoDelDia24(hora) != DateTimeParser.HORA_INVALIDA;
     }
 
     /**
@@ -99,9 +178,8 @@ public class RegexValidator {
      * @param hora Cadena a validar.
      * @return True si la cadena es valida, flase en caso contrario.
      */
-    public boolean esHoraValida12(String hora){
-        String expresion = "^(0[1-9]|1[0-2]):([0-5]\\d):[0-5]\\d (AM|PM)$";
-        return Pattern.matches(expresion, hora);
+    public boolean esHoraValida12(CharSequence hora){
+        return DateTimeParser.segundoDelDia12(hora) != DateTimeParser.HORA_INVALIDA;
     }
 
     /**
@@ -110,9 +188,8 @@ public class RegexValidator {
      * @param variable Cadena a validar
      * @return True si la cadena es valida, false en caso contrario.
      */
-    public boolean esVarJava(String variable){
-        String expresion = "^[a-zA-Z_][a-zA-Z0-9_]*$";
-        return Pattern.matches(expresion, variable);
+    public boolean esVarJava(CharSequence variable){
+        return coincide(RegexRule.VARIABLE_JAVA, variable);
     }
 
     /**
@@ -122,10 +199,9 @@ public class RegexValidator {
      * @param url Cadena a validar.
      * @return True si la cadena es valida, false en caso contrario.
     */
-    public boolean esURLValida(String url){
+    public boolean esURLValida(CharSequence url){
         // Valida protocolo, dominio (con subdominios) o IP, puerto opcional, y ruta/query/fragmento opcional.
-        String expresion = "^((https?://)|(www\\.)?)([\\dA-Za-z\\.-]+)\\.([A-Za-z\\.]{2,6})([/\\w \\.-]*)*\\/?$";
-        return Pattern.matches(expresion, url);
+        return coincide(RegexRule.URL, url);
     }
     
 
@@ -136,32 +212,26 @@ public class RegexValidator {
      * @param isbn La cadena a validar.
      * @return "ISBN-13", "ISBN-10", o "No válido" según corresponda.
      */
-    public String validarTipoISBN(String isbn) {
-        // Expresión para ISBN-13: opcionalmente prefijo ISBN, seguido de 13 dígitos, con o sin guiones/espacios.
+    public String validarTipoISBN(CharSequence isbn) {
+        // ISBN-13: opcionalmente prefijo ISBN, seguido de 13 dígitos (978 o 979), con o sin guiones/espacios.
         // Ejemplo: 978-3-16-148410-0
-        String expresionISBN13 = "^(?:ISBN(?:-13)?:?\\s)?(?:97[89][ -]?)?\\d{1,5}[- ]?\\d{1,7}[- ]?\\d{1,6}[- ]?\\d$";
-        
-        // Expresión para ISBN-10: opcionalmente prefijo ISBN, seguido de 10 dígitos (último puede ser X), con o sin guiones/espacios.
+        // ISBN-10: opcionalmente prefijo ISBN, seguido de 10 dígitos (último puede ser X), con o sin guiones/espacios.
         // Ejemplo: 0-306-40615-2
-        String expresionISBN10 = "^(?:ISBN(?:-10)?:?\\s)?\\d{1,5}[- ]?\\d{1,7}[- ]?\\d{1,6}[- ]?[0-9X]$";
-
-        // Primero validamos el formato de 13 dígitos, que es más específico.
-        if (Pattern.matches(expresionISBN13, isbn.replaceAll("[- ]", ""))) return "ISBN-13";
-        if (Pattern.matches(expresionISBN10, isbn.replaceAll("[- ]", ""))) return "ISBN-10";
-
-        return "No válido";
+        // En ambos casos se verifica el dígito de control.
+        ProductCodeType tipo = ProductCodeValidator.detectar(isbn);
+        return tipo == ProductCodeType.EAN_13 ? ProductCodeType.INVALIDO.getNombre() : tipo.getNombre();
     }
 
     /**
      * Valida si una cadena corresponde a un código de barras de Colombia (EAN-13).
-     * El formato son 13 dígitos que comienzan con el prefijo 770.
+     * El formato son 13 dígitos que comienzan con el prefijo 770, y el último debe
+     * ser el dígito de control EAN-13.
      *
      * @param codigoBarras La cadena a validar.
      * @return true si la cadena es un código de barras válido, false en caso contrario.
      */
-    public boolean esCodigoBarrasColombiaValido(String codigoBarras) {
-        String expresion = "^770\\d{10}$";
-        return Pattern.matches(expresion, codigoBarras);
+    public boolean esCodigoBarrasColombiaValido(CharSequence codigoBarras) {
+        return FastMatchers.esCodigoBarras(codigoBarras) && ProductCodeValidator.esControlEan13Valido(codigoBarras);
     }
 
     /**
@@ -170,21 +240,44 @@ public class RegexValidator {
      * @param nombre La cadena a validar.
      * @return true si la cadena es un nombre válido, false en caso contrario.
      */
-    public boolean esNombreApellidoValido(String nombre) {
-        String expresion = "^[a-zA-ZáéíóúÁÉÍÓÚñÑ]+(\\s[a-zA-ZáéíóúÁÉÍÓÚñÑ]+)*$";
-        return Pattern.matches(expresion, nombre);
+    public boolean esNombreApellidoValido(CharSequence nombre) {
+        return coincide(RegexRule.NOMBRE_APELLIDO, nombre);
     }
 
     /**
      * Valida si una contraseña cumple con criterios de seguridad:
      * Mínimo 8 caracteres, una mayúscula, una minúscula, un número y un carácter especial.
+     * Se evalúa en una sola pasada con {@link PasswordEvaluator}; con la política por
+     * defecto acepta lo mismo que {@link RegexRule#CONTRASENA}.
      *
      * @param contrasena La contraseña a validar.
      * @return true si la contraseña es segura, false en caso contrario.
      */
-    public boolean esContrasenaSegura(String contrasena) {
-        String expresion = "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$";
-        return Pattern.matches(expresion, contrasena);
+    public boolean esContrasenaSegura(CharSequence contrasena) {
+        return evaluadorContrasena.esSegura(contrasena);
+    }
+
+    /**
+     * Evalúa una contraseña e informa qué criterios cumple y cuáles le faltan.
+     *
+     * @param contrasena La contraseña a evaluar.
+     * @return El resultado de la evaluación.
+     */
+    public PasswordEvaluator.Resultado evaluarContrasena(CharSequence contrasena) {
+        return evaluadorContrasena.evaluar(contrasena);
+    }
+
+    /**
+     * Cambia la política con la que se validan las contraseñas (ej. para fijar un tope de longitud).
+     *
+     * @param politica La nueva política.
+     */
+    public void setPoliticaContrasena(PasswordPolicy politica) {
+        evaluadorContrasena = new PasswordEvaluator(politica);
+    }
+
+    public PasswordPolicy getPoliticaContrasena() {
+        return evaluadorContrasena.getPolitica();
     }
 
     /**
@@ -193,9 +286,8 @@ public class RegexValidator {
      * @param cicloFor La cadena a validar.
      * @return true si la estructura es válida, false en caso contrario.
      */
-    public boolean esCicloForValido(String cicloFor) {
-        String expresion = "^for\\s*\\(.*?\\;.*?\\;.*?\\)\\s*\\{?.*$";
-        return Pattern.matches(expresion, cicloFor);
+    public boolean esCicloForValido(CharSequence cicloFor) {
+        return coincide(RegexRule.CICLO_FOR, cicloFor);
     }
 
     /**
@@ -204,9 +296,8 @@ public class RegexValidator {
      * @param numero La cadena a validar.
      * @return true si es un número double válido, false en caso contrario.
      */
-    public boolean esNumeroDoubleValido(String numero) {
-        String expresion = "^[+-]?(\\d+|\\d*\\.\\d+)([eE][+-]?\\d+)?$";
-        return Pattern.matches(expresion, numero);
+    public boolean esNumeroDoubleValido(CharSequence numero) {
+        return coincide(RegexRule.NUMERO_DOUBLE, numero);
     }
 
     /**
@@ -216,9 +307,8 @@ public class RegexValidator {
      * @param textoLegal La cadena a validar.
      * @return true si el formato es válido, false en caso contrario.
      */
-    public boolean esLeyDecretoArticuloValido(String textoLegal) {
-        String expresion = "^(Ley|Decreto|Artículo)\\s+\\d+(\\s+de\\s+\\d{4})?([,\\s]+artículo\\s+\\d+)?$";
-        return Pattern.matches(expresion, textoLegal);
+    public boolean esLeyDecretoArticuloValido(CharSequence textoLegal) {
+        return coincide(RegexRule.LEY_DECRETO_ARTICULO, textoLegal);
     }
 
     /**
@@ -228,9 +318,8 @@ public class RegexValidator {
      * @param referencia La cadena a validar.
      * @return true si el formato es válido, false en caso contrario.
      */
-    public boolean esReferenciaIeeeValida(String referencia) {
-        String expresion = "^\\[\\d+\\]\\s+[A-Z]\\.\\s+[A-Za-z]+(?:,\\s+[A-Z]\\.\\s+[A-Za-z]+)*,\\s+\"[^\"]+\",\\s+[A-Za-z\\s]+,\\s+[A-Za-z\\s]+:\\s+[A-Za-z\\s]+,\\s+\\d{4}\\.$";
-        return Pattern.matches(expresion, referencia);
+    public boolean esReferenciaIeeeValida(CharSequence referencia) {
+        return coincide(RegexRule.REFERENCIA_IEEE, referencia);
     }
 
     /**
@@ -240,9 +329,8 @@ public class RegexValidator {
      * @param referencia La cadena a validar.
      * @return true si el formato es válido, false en caso contrario.
      */
-    public boolean esReferenciaApaValida(String referencia) {
-        String expresion = "^[A-Za-z]+,\\s+[A-Z]\\.(?:\\s+[A-Z]\\.)*\\s+\\(\\d{4}\\)\\.\\s+.+?\\.\\s+[A-Za-z\\s&]+(?:, Inc\\.)?\\.$";
-        return Pattern.matches(expresion, referencia);
+    public boolean esReferenciaApaValida(CharSequence referencia) {
+        return coincide(RegexRule.REFERENCIA_APA, referencia);
     }
 
     /**
@@ -252,34 +340,26 @@ public class RegexValidator {
      * @param precio La cadena a validar.
      * @return true si el formato es válido, false en caso contrario.
      */
-    public boolean esPrecioProductoValido(String precio) {
-        String expresion = "^\\$?(\\d{1,3}(\\.\\d{3})*|\\d+)(,\\d{1,2})?$";
-        return Pattern.matches(expresion, precio);
+    public boolean esPrecioProductoValido(CharSequence precio) {
+        return coincide(RegexRule.PRECIO_PRODUCTO, precio);
     }
     
     /**
-     * Analiza una palabra para clasificar secuencias de vocales como hiatos o posibles diptongos.
+     * Analiza una palabra para clasificar secuencias de vocales como hiatos, diptongos o triptongos.
+     * Si la palabra tiene varias, se informa la de mayor precedencia: hiato acentual, hiato
+     * simple, triptongo y diptongo. Para obtener todas, con sus posiciones, está
+     * {@link VowelSequenceAnalyzer#analizar(CharSequence)}.
      *
      * @param palabra La palabra a analizar.
-     * @return Una cadena que indica "Hiato Acentual", "Hiato Simple", "Posible Diptongo",
-     *         o "No contiene secuencia vocálica relevante".
+     * @return Una cadena que indica "Hiato Acentual", "Hiato Simple", "Triptongo", "Diptongo",
+     *         o {@link #SIN_SECUENCIA_VOCALICA}.
      */
-    public String clasificarDiptongoHiato(String palabra) {
-        // Regex 1: Hiato Simple (dos vocales abiertas juntas).
-        // Ejemplos: "teatro", "caos", "poeta".
-        String hiatoSimpleRegex = ".*[aáeéoó][aáeéoó].*";
-        if (Pattern.compile(hiatoSimpleRegex, Pattern.CASE_INSENSITIVE).matcher(palabra).matches()) {
-            return "Hiato Simple";
+    public String clasificarDiptongoHiato(CharSequence palabra) {
+        int tipos = VowelSequenceAnalyzer.tipos(palabra);
+        if (tipos == 0) {
+            return SIN_SECUENCIA_VOCALICA;
         }
-
-        // Regex 2: Posible Diptongo (vocal abierta + cerrada átona, o dos cerradas).
-        // Es una aproximación, ya que no podemos saber la tonicidad de una vocal sin tilde.
-        // Ejemplos: "ciudad", "piano", "reina".
-        String diptongoRegex = ".*([aáeéoó][iu]|[iu][aáeéoó]|[iu][iu]).*";
-        if (Pattern.compile(diptongoRegex, Pattern.CASE_INSENSITIVE).matcher(palabra).matches()) {
-            return "Posible Diptongo";
-        }
-
-        return "No contiene secuencia vocálica relevante";
+        // El tipo de mayor ordinal es el de mayor precedencia.
+        return VowelSequenceType.values()[31 - Integer.numberOfLeadingZeros(tipos)].getNombre();
     }
 }
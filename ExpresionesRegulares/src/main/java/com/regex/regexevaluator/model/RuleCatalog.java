@@ -0,0 +1,238 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.model.engine.UnsupportedRegexException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Conjunto inmutable de reglas cargadas desde un archivo de catálogo. Permite agregar
+ * formatos (ej. los de otro país) sin recompilar la aplicación. El archivo tiene una
+ * sección por regla:
+ *
+ * <pre>
+ * # Comentario
+ * [placa-moto]
+ * descripcion = Placa de moto (Colombia)
+ * expresion = ^[A-Z]{3}\d{2}[A-Z]$
+ * banderas = CASE_INSENSITIVE
+ * motor = lineal
+ * valido = ABC12D
+ * invalido = ABC123
+ * </pre>
+ *
+ * La expresión es obligatoria; las banderas (nombres de constantes de {@link Pattern}
+ * separados por comas) y el motor (lineal o backtracking, por defecto backtracking)
+ * son opcionales. Los ejemplos "valido" e "invalido" se pueden repetir y se
+ * comprueban al cargar, de modo que un catálogo con una expresión equivocada se
+ * rechaza completo antes de reemplazar al que está en uso.
+ */
+public final class RuleCatalog {
+
+    /** Catálogo sin reglas. */
+    public static final RuleCatalog VACIO = new RuleCatalog(Collections.emptyMap());
+
+    private final Map<String, CatalogRule> reglas;
+
+    private RuleCatalog(Map<String, CatalogRule> reglas) {
+        this.reglas = reglas;
+    }
+
+    /**
+     * Lee y compila un catálogo desde un archivo UTF-8.
+     *
+     * @param archivo La ruta del catálogo.
+     * @return El catálogo compilado.
+     * @throws IOException si no se puede leer el archivo.
+     * @throws IllegalArgumentException si el catálogo tiene errores, con el número de línea.
+     */
+    public static RuleCatalog cargar(Path archivo) throws IOException {
+        try (Reader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return leer(lector, archivo.getFileName().toString());
+        }
+    }
+
+    /**
+     * Lee y compila un catálogo incluido en el classpath.
+     *
+     * @param recurso El nombre del recurso (ej. "/reglas.catalogo").
+     * @return El catálogo compilado, o {@link #VACIO} si el recurso no existe.
+     * @throws IOException si no se puede leer el recurso.
+     */
+    public static RuleCatalog cargarRecurso(String recurso) throws IOException {
+        InputStream entrada = RuleCatalog.class.getResourceAsStream(recurso);
+        if (entrada == null) {
+            return VACIO;
+        }
+        try (Reader lector = new InputStreamReader(entrada, StandardCharsets.UTF_8)) {
+            return leer(lector, recurso);
+        }
+    }
+
+    /**
+     * Lee y compila un catálogo.
+     *
+     * @param lector El contenido del catálogo.
+     * @param origen Nombre usado en los mensajes de error.
+     * @return El catálogo compilado.
+     * @throws IOException si falla la lectura.
+     * @throws IllegalArgumentException si el catálogo tiene errores, con el número de línea.
+     */
+    public static RuleCatalog leer(Reader lector, String origen) throws IOException {
+        Map<String, CatalogRule> reglas = new LinkedHashMap<>();
+        BufferedReader lineas = lector instanceof BufferedReader b ? b : new BufferedReader(lector);
+        Seccion actual = null;
+        String linea;
+        int numero = 0;
+        while ((linea = lineas.readLine()) != null) {
+            numero++;
+            linea = linea.strip();
+            if (linea.isEmpty() || linea.startsWith("#")) {
+                continue;
+            }
+            if (linea.startsWith("[") && linea.endsWith("]")) {
+                if (actual != null) {
+                    agregar(reglas, actual.compilar(origen));
+                }
+                actual = new Seccion(linea.substring(1, linea.length() - 1).strip(), numero);
+                if (actual.id.isEmpty()) {
+                    throw error(origen, numero, "identificador de regla vacío");
+                }
+                continue;
+            }
+            int igual = linea.indexOf('=');
+            if (igual < 0) {
+                throw error(origen, numero, "se esperaba 'clave = valor'");
+            }
+            if (actual == null) {
+                throw error(origen, numero, "propiedad fuera de una sección [regla]");
+            }
+            actual.asignar(linea.substring(0, igual).strip(), linea.substring(igual + 1).strip(), origen, numero);
+        }
+        if (actual != null) {
+            agregar(reglas, actual.compilar(origen));
+        }
+        return new RuleCatalog(Collections.unmodifiableMap(reglas));
+    }
+
+    private static void agregar(Map<String, CatalogRule> reglas, CatalogRule regla) {
+        if (reglas.putIfAbsent(regla.getId(), regla) != null) {
+            throw new IllegalArgumentException("Regla duplicada en el catálogo: " + regla.getId());
+        }
+    }
+
+    /**
+     * @param id El identificador de la regla.
+     * @return La regla, o null si no está en el catálogo.
+     */
+    public CatalogRule obtener(String id) {
+        return reglas.get(id);
+    }
+
+    /**
+     * @return Las reglas en el orden del archivo.
+     */
+    public Collection<CatalogRule> getReglas() {
+        return reglas.values();
+    }
+
+    public int tamano() {
+        return reglas.size();
+    }
+
+    private static IllegalArgumentException error(String origen, int linea, String mensaje) {
+        return new IllegalArgumentException(origen + ":" + linea + ": " + mensaje);
+    }
+
+    /** Propiedades de una regla mientras se lee su sección. */
+    private static final class Seccion {
+        private final String id;
+        private final int linea;
+        private String descripcion;
+        private String expresion;
+        private int banderas;
+        private EvaluationMode motor = EvaluationMode.BACKTRACKING;
+        private final List<String> validos = new ArrayList<>();
+        private final List<String> invalidos = new ArrayList<>();
+
+        Seccion(String id, int linea) {
+            this.id = id;
+            this.linea = linea;
+        }
+
+        void asignar(String clave, String valor, String origen, int numero) {
+            switch (clave) {
+                case "descripcion" -> descripcion = valor;
+                case "expresion" -> expresion = valor;
+                case "banderas" -> banderas = leerBanderas(valor, origen, numero);
+                case "motor" -> motor = switch (valor.toLowerCase(Locale.ROOT)) {
+                    case "lineal" -> EvaluationMode.LINEAL;
+                    case "backtracking" -> EvaluationMode.BACKTRACKING;
+                    default -> throw error(origen, numero, "motor desconocido '" + valor + "'");
+                };
+                case "valido" -> validos.add(valor);
+                case "invalido" -> invalidos.add(valor);
+                default -> throw error(origen, numero, "clave desconocida '" + clave + "'");
+            }
+        }
+
+        CatalogRule compilar(String origen) {
+            if (expresion == null || expresion.isEmpty()) {
+                throw error(origen, linea, "la regla '" + id + "' no tiene expresión");
+            }
+            CatalogRule regla;
+            try {
+                regla = new CatalogRule(id, descripcion == null ? id : descripcion,
+                        Pattern.compile(expresion, banderas), motor, validos, invalidos);
+            } catch (PatternSyntaxException e) {
+                throw error(origen, linea, "expresión inválida en '" + id + "': " + e.getDescription());
+            } catch (UnsupportedRegexException e) {
+                throw error(origen, linea, "la regla '" + id + "' no admite el motor lineal: " + e.getMessage());
+            }
+            for (String ejemplo : validos) {
+                if (!regla.coincide(ejemplo)) {
+                    throw error(origen, linea, "'" + ejemplo + "' debería cumplir la regla '" + id + "'");
+                }
+            }
+            for (String ejemplo : invalidos) {
+                if (regla.coincide(ejemplo)) {
+                    throw error(origen, linea, "'" + ejemplo + "' no debería cumplir la regla '" + id + "'");
+                }
+            }
+            return regla;
+        }
+
+        private static int leerBanderas(String valor, String origen, int numero) {
+            int banderas = 0;
+            for (String nombre : valor.split(",")) {
+                nombre = nombre.strip();
+                banderas |= switch (nombre) {
+                    case "" -> 0;
+                    case "CASE_INSENSITIVE" -> Pattern.CASE_INSENSITIVE;
+                    case "UNICODE_CASE" -> Pattern.UNICODE_CASE;
+                    case "MULTILINE" -> Pattern.MULTILINE;
+                    case "DOTALL" -> Pattern.DOTALL;
+                    case "COMMENTS" -> Pattern.COMMENTS;
+                    case "UNICODE_CHARACTER_CLASS" -> Pattern.UNICODE_CHARACTER_CLASS;
+                    default -> throw error(origen, numero, "bandera desconocida '" + nombre + "'");
+                };
+            }
+            return banderas;
+        }
+    }
+}
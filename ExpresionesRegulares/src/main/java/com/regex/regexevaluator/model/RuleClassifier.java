@@ -0,0 +1,92 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.model.engine.CombinedDfa;
+import com.regex.regexevaluator.model.engine.RuleSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Clasifica una entrada contra todas las reglas a la vez. Las reglas regulares se
+ * compilan en un solo {@link CombinedDfa}, que las evalúa en una pasada; las que usan
+ * lookaheads, cuantificadores perezosos o lógica fuera de la expresión (como el ISBN)
+ * se evalúan con su validación normal. Si la expresión de una regla solo describe su
+ * formato (ej. el código de barras, que además tiene dígito de control), el autómata
+ * sirve de filtro y la validación normal se ejecuta solo cuando el formato coincide.
+ * Si la {@link RuleSnapshot} instalada trae el autómata de las mismas reglas, se usa
+ * ese en lugar de construirlo.
+ */
+public class RuleClassifier {
+
+    private final List<String> idsAutomata = new ArrayList<>();
+    /** Validación completa de las reglas del autómata cuya expresión solo es el formato, por bit. */
+    private final List<Predicate<String>> confirmaciones = new ArrayList<>();
+    private final Map<String, Predicate<String>> respaldo = new LinkedHashMap<>();
+    private final CombinedDfa automata;
+
+    /**
+     * @param validaciones Las validaciones por identificador de regla, en el orden deseado del resultado.
+     */
+    public RuleClassifier(Map<String, Predicate<String>> validaciones) {
+        RuleSnapshot instantanea = RuleSnapshot.actual();
+        List<Pattern> patrones = new ArrayList<>();
+        for (Map.Entry<String, Predicate<String>> validacion : validaciones.entrySet()) {
+            RegexRule regla = RegexRule.porId(validacion.getKey());
+            if (regla != null && instantanea.esCompatible(regla.getPatron())
+                    && patrones.size() < CombinedDfa.MAXIMO_REGLAS) {
+                idsAutomata.add(validacion.getKey());
+                confirmaciones.add(regla.esSoloFormato() ? validacion.getValue() : null);
+                patrones.add(regla.getPatron());
+            } else {
+                respaldo.put(validacion.getKey(), validacion.getValue());
+            }
+        }
+        this.automata = instantanea.automata(patrones);
+    }
+
+    /**
+     * Devuelve todas las reglas con las que coincide la entrada.
+     *
+     * @param entrada La cadena a clasificar.
+     * @return Los identificadores de las reglas que la aceptan.
+     */
+    public Set<String> clasificar(String entrada) {
+        Set<String> reglas = new LinkedHashSet<>();
+        long mascara = automata.coincidencias(entrada);
+        while (mascara != 0) {
+            int bit = Long.numberOfTrailingZeros(mascara);
+            Predicate<String> confirmacion = confirmaciones.get(bit);
+            if (confirmacion == null || confirmacion.test(entrada)) {
+                reglas.add(idsAutomata.get(bit));
+            }
+            mascara &= mascara - 1;
+        }
+        for (Map.Entry<String, Predicate<String>> regla : respaldo.entrySet()) {
+            if (regla.getValue().test(entrada)) {
+                reglas.add(regla.getKey());
+            }
+        }
+        return reglas;
+    }
+
+    /** @return Las reglas evaluadas por el autómata combinado. */
+    public List<String> getReglasEnAutomata() {
+        return Collections.unmodifiableList(idsAutomata);
+    }
+
+    /** @return Las reglas evaluadas con java.util.regex u otra lógica propia. */
+    public Set<String> getReglasConRespaldo() {
+        return Collections.unmodifiableSet(respaldo.keySet());
+    }
+
+    public CombinedDfa getAutomata() {
+        return automata;
+    }
+}
@@ -0,0 +1,33 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Implementación escalar de {@link DigitColumnValidator}: un registro a la vez.
+ */
+final class ScalarDigitColumnValidator implements DigitColumnValidator {
+
+    static final ScalarDigitColumnValidator INSTANCIA = new ScalarDigitColumnValidator();
+
+    private ScalarDigitColumnValidator() {
+    }
+
+    @Override
+    public int validar(byte[] columna, int desde, int registros, DigitColumnFormat formato, long[] resultado) {
+        DigitColumnValidator.verificarLimites(columna, desde, registros, formato);
+        int ancho = formato.getAncho();
+        int validos = 0;
+        for (int i = 0, posicion = desde; i < registros; i++, posicion += ancho) {
+            if (formato.coincide(columna, posicion)) {
+                validos++;
+                if (resultado != null) {
+                    resultado[i >>> 6] |= 1L << i;
+                }
+            }
+        }
+        return validos;
+    }
+
+    @Override
+    public String getNombre() {
+        return "escalar";
+    }
+}
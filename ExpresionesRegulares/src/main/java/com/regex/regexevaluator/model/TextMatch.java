@@ -0,0 +1,12 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Fragmento de un texto que cumple una regla, encontrado por {@link TextScanner}.
+ *
+ * @param tipo La regla que cumple el fragmento.
+ * @param inicio Posición del primer carácter, contada desde el inicio del texto.
+ * @param fin Posición siguiente al último carácter.
+ * @param texto El fragmento encontrado.
+ */
+public record TextMatch(TextScanner.Tipo tipo, long inicio, long fin, String texto) {
+}
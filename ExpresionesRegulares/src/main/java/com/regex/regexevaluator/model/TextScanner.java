@@ -0,0 +1,299 @@
+package com.regex.regexevaluator.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Busca en un texto de cualquier tamaño todos los fragmentos que cumplen alguna de
+ * las reglas de {@link RegexRule} (teléfonos, correos, placas, citas legales, precios...).
+ * El texto se lee como flujo, en un solo recorrido y con memoria acotada.
+ *
+ * Para no evaluar las expresiones en cada posición, cada regla tiene un disparador
+ * literal ("604", "770", "@", "Ley", "$"...) o una clase de carácter inicial; la
+ * expresión solo se prueba donde aparece el disparador. El correo se dispara en la
+ * arroba y su inicio se busca hacia atrás.
+ *
+ * Los fragmentos no se solapan: si dos reglas coinciden en la misma zona, gana la que
+ * empieza antes y, a igual inicio, la más larga. Un fragmento debe estar separado de
+ * letras y dígitos vecinos, de modo que "6041234567" no se encuentra dentro de un
+ * número más largo.
+ */
+public final class TextScanner {
+
+    /** Longitud máxima de un fragmento; limita la memoria retenida entre bloques. */
+    public static final int MAXIMO_COINCIDENCIA = 4096;
+
+    private static final int TAMANO_BLOQUE = 64 * 1024;
+
+    /** Reglas que se pueden buscar dentro de un texto. */
+    public enum Tipo {
+        // Sin disparador literal: se prueba en cada mayúscula que inicia tres letras y un dígito.
+        PLACA(RegexRule.PLACA_CARRO),
+        CODIGO_POSTAL(RegexRule.COD_POSTAL, "05"),
+        NUM_FIJO(RegexRule.NUM_FIJO, "604"),
+        NUM_CELULAR(RegexRule.NUM_CELULAR, "3"),
+        EMAIL(RegexRule.EMAIL, "@"),
+        CODIGO_BARRAS(RegexRule.CODIGO_BARRAS, "770"),
+        LEY_DECRETO_ARTICULO(RegexRule.LEY_DECRETO_ARTICULO, "Ley", "Decreto", "Artículo"),
+        // En texto libre un número sin "$" no se considera precio.
+        PRECIO_PRODUCTO(RegexRule.PRECIO_PRODUCTO, "$");
+
+        private final RegexRule regla;
+        private final String[] disparadores;
+        private final Pattern patron;
+
+        Tipo(RegexRule regla, String... disparadores) {
+            this.regla = regla;
+            this.disparadores = disparadores;
+            this.patron = sinAnclas(regla.getPatron());
+        }
+
+        public String getId() {
+            return regla.getId();
+        }
+
+        public RegexRule getRegla() {
+            return regla;
+        }
+
+        /**
+         * Quita ^ y $ de la expresión completa y exige que el fragmento no continúe
+         * con una letra o un dígito.
+         */
+        private static Pattern sinAnclas(Pattern completo) {
+            String expresion = completo.pattern();
+            int desde = expresion.startsWith("^") ? 1 : 0;
+            int hasta = expresion.endsWith("$") ? expresion.length() - 1 : expresion.length();
+            return Pattern.compile("(?:" + expresion.substring(desde, hasta) + ")(?![\\p{L}\\p{N}_])",
+                    completo.flags());
+        }
+    }
+
+    private final Tipo[] tipos;
+    /** Para cada carácter ASCII, las reglas (como máscara de bits) cuyo disparador empieza por él. */
+    private final int[] porCaracter = new int[128];
+    private final int mascaraNoAscii;
+
+    /**
+     * Crea un buscador de todas las reglas.
+     */
+    public TextScanner() {
+        this(EnumSet.allOf(Tipo.class));
+    }
+
+    /**
+     * @param tipos Las reglas a buscar.
+     */
+    public TextScanner(Set<Tipo> tipos) {
+        this.tipos = tipos.toArray(new Tipo[0]);
+        int noAscii = 0;
+        for (int i = 0; i < this.tipos.length; i++) {
+            Tipo tipo = this.tipos[i];
+            if (tipo.disparadores.length == 0) {
+                for (char c = 'A'; c <= 'Z'; c++) {
+                    porCaracter[c] |= 1 << i;
+                }
+            }
+            for (String disparador : tipo.disparadores) {
+                char c = disparador.charAt(0);
+                if (c < 128) {
+                    porCaracter[c] |= 1 << i;
+                } else {
+                    noAscii |= 1 << i;
+                }
+            }
+        }
+        this.mascaraNoAscii = noAscii;
+    }
+
+    /**
+     * Busca en una cadena completa.
+     *
+     * @param texto El texto a recorrer.
+     * @return Los fragmentos encontrados, en orden de aparición.
+     */
+    public List<TextMatch> buscar(CharSequence texto) {
+        List<TextMatch> resultado = new ArrayList<>();
+        try {
+            buscar(new StringReader(texto.toString()), resultado::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return resultado;
+    }
+
+    /**
+     * Busca en el contenido de un canal, decodificado con el juego de caracteres dado.
+     *
+     * @param canal El canal a leer hasta el final.
+     * @param juego El juego de caracteres del contenido (ej. UTF-8).
+     * @param destino Recibe cada fragmento en orden de aparición.
+     * @throws IOException si falla la lectura.
+     */
+    public void buscar(ReadableByteChannel canal, Charset juego, Consumer<TextMatch> destino) throws IOException {
+        buscar(Channels.newReader(canal, juego.newDecoder(), TAMANO_BLOQUE), destino);
+    }
+
+    /**
+     * Busca en un flujo de caracteres. Retiene a lo sumo un bloque más
+     * {@link #MAXIMO_COINCIDENCIA} caracteres, sin importar el tamaño del texto.
+     *
+     * @param lector El flujo a leer hasta el final.
+     * @param destino Recibe cada fragmento en orden de aparición.
+     * @throws IOException si falla la lectura.
+     */
+    public void buscar(Reader lector, Consumer<TextMatch> destino) throws IOException {
+        new Recorrido(destino).recorrer(lector);
+    }
+
+    /** Estado de un recorrido: el bloque actual y el fragmento aún no emitido. */
+    private final class Recorrido {
+        private final Consumer<TextMatch> destino;
+        private final Matcher[] matchers = new Matcher[tipos.length];
+        private char[] bloque = new char[TAMANO_BLOQUE + 2 * MAXIMO_COINCIDENCIA];
+        private String vista;
+        /** Posición en el texto del primer carácter de {@link #bloque}. */
+        private long desplazamiento;
+        private TextMatch pendiente;
+        /** Fin del último fragmento emitido; ningún otro puede empezar antes. */
+        private long finEmitido;
+
+        Recorrido(Consumer<TextMatch> destino) {
+            this.destino = destino;
+        }
+
+        void recorrer(Reader lector) throws IOException {
+            int longitud = 0;
+            int siguiente = 0;
+            boolean fin = false;
+            while (!fin) {
+                int leidos = lector.read(bloque, longitud, bloque.length - longitud);
+                if (leidos < 0) {
+                    fin = true;
+                } else {
+                    longitud += leidos;
+                    if (longitud < bloque.length) {
+                        continue;
+                    }
+                }
+                vista = new String(bloque, 0, longitud);
+                for (int i = 0; i < tipos.length; i++) {
+                    matchers[i] = tipos[i].patron.matcher(vista).useTransparentBounds(true).useAnchoringBounds(false);
+                }
+                // Sin el final del texto, solo se prueban posiciones con MAXIMO_COINCIDENCIA caracteres por delante.
+                int limite = fin ? longitud : longitud - MAXIMO_COINCIDENCIA;
+                siguiente = recorrerBloque(siguiente, limite, longitud);
+                if (!fin) {
+                    // Se conservan los caracteres que aún pueden ser parte de un fragmento, incluido el
+                    // inicio de un correo que se descubre al llegar a la arroba.
+                    int conservar = Math.max(0, siguiente - MAXIMO_COINCIDENCIA);
+                    System.arraycopy(bloque, conservar, bloque, 0, longitud - conservar);
+                    longitud -= conservar;
+                    siguiente -= conservar;
+                    desplazamiento += conservar;
+                }
+            }
+            if (pendiente != null) {
+                destino.accept(pendiente);
+            }
+        }
+
+        /** @return La primera posición que no se revisó. */
+        private int recorrerBloque(int desde, int limite, int longitud) {
+            int i = desde;
+            for (; i < limite; i++) {
+                char c = bloque[i];
+                int candidatos = c < 128 ? porCaracter[c] : mascaraNoAscii;
+                if (candidatos == 0 || (pendiente != null && desplazamiento + i < pendiente.fin() && c != '@')) {
+                    continue;
+                }
+                for (int t = 0; t < tipos.length; t++) {
+                    if ((candidatos & (1 << t)) != 0) {
+                        probar(t, i, longitud);
+                    }
+                }
+            }
+            return i;
+        }
+
+        private void probar(int t, int posicion, int longitud) {
+            Tipo tipo = tipos[t];
+            int inicio = posicion;
+            if (tipo == Tipo.EMAIL) {
+                int minimo = (int) Math.max(0, Math.max(finEmitido - desplazamiento, posicion - MAXIMO_COINCIDENCIA));
+                while (inicio > minimo && esLocalCorreo(bloque[inicio - 1])) {
+                    inicio--;
+                }
+                if (inicio == posicion) {
+                    return;
+                }
+            } else if (!tieneDisparador(tipo, posicion, longitud)) {
+                return;
+            }
+            if (inicio > 0 && Character.isLetterOrDigit(bloque[inicio - 1]) || desplazamiento + inicio < finEmitido) {
+                return;
+            }
+            Matcher m = matchers[t];
+            m.region(inicio, Math.min(longitud, inicio + MAXIMO_COINCIDENCIA));
+            if (m.lookingAt() && m.end() > posicion && confirmar(tipo, inicio)) {
+                ofrecer(new TextMatch(tipo, desplazamiento + inicio, desplazamiento + m.end(),
+                        vista.substring(inicio, m.end())));
+            }
+        }
+
+        /** Verifica lo que la expresión no cubre, como el dígito de control del código de barras. */
+        private boolean confirmar(Tipo tipo, int inicio) {
+            return tipo != Tipo.CODIGO_BARRAS
+                    || ProductCodeValidator.esControlEan13Valido(vista.subSequence(inicio, inicio + 13));
+        }
+
+        private boolean tieneDisparador(Tipo tipo, int posicion, int longitud) {
+            if (tipo.disparadores.length == 0) {
+                return posicion + 3 < longitud && esMayuscula(bloque[posicion + 1])
+                        && esMayuscula(bloque[posicion + 2]) && Character.isDigit(bloque[posicion + 3]);
+            }
+            for (String disparador : tipo.disparadores) {
+                if (posicion + disparador.length() <= longitud
+                        && vista.startsWith(disparador, posicion)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Conserva el fragmento más a la izquierda (y más largo) entre los que se solapan. */
+        private void ofrecer(TextMatch nuevo) {
+            if (pendiente == null) {
+                pendiente = nuevo;
+            } else if (nuevo.inicio() >= pendiente.fin()) {
+                destino.accept(pendiente);
+                finEmitido = pendiente.fin();
+                pendiente = nuevo;
+            } else if (nuevo.inicio() < pendiente.inicio()
+                    || (nuevo.inicio() == pendiente.inicio() && nuevo.fin() > pendiente.fin())) {
+                pendiente = nuevo;
+            }
+        }
+    }
+
+    private static boolean esMayuscula(char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean esLocalCorreo(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+}
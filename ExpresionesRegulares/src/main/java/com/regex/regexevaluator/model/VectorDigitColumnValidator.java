@@ -0,0 +1,113 @@
+package com.regex.regexevaluator.model;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+/**
+ * Implementación de {@link DigitColumnValidator} con la Vector API. Cada vector carga
+ * tantos registros completos como caben (ej. 6 celulares de 10 bytes en un vector de
+ * 64 bytes) y los compara contra los límites por posición (prefijo o '0'..'9') con dos
+ * comparaciones; luego se revisa en la máscara resultante que cada registro tenga
+ * todas sus posiciones dentro del rango.
+ *
+ * Solo se debe cargar si el módulo jdk.incubator.vector está presente; ver
+ * {@link DigitColumnValidator#crear()}.
+ */
+final class VectorDigitColumnValidator implements DigitColumnValidator {
+
+    private static final VectorSpecies<Byte> ESPECIE = ByteVector.SPECIES_PREFERRED;
+    /** La máscara se convierte a long, así que se usan a lo sumo 64 posiciones. */
+    private static final int CARRILES = Math.min(ESPECIE.length(), Long.SIZE);
+
+    private final ByteVector[] minimos = new ByteVector[DigitColumnFormat.values().length];
+    private final ByteVector[] maximos = new ByteVector[DigitColumnFormat.values().length];
+
+    VectorDigitColumnValidator() {
+        for (DigitColumnFormat formato : DigitColumnFormat.values()) {
+            if (formato.getAncho() > CARRILES) {
+                continue;
+            }
+            // Los límites de un registro se repiten para cada registro que cabe en el vector;
+            // las posiciones sobrantes aceptan cualquier byte.
+            byte[] minimo = new byte[ESPECIE.length()];
+            byte[] maximo = new byte[ESPECIE.length()];
+            Arrays.fill(minimo, Byte.MIN_VALUE);
+            Arrays.fill(maximo, Byte.MAX_VALUE);
+            byte[] minimoRegistro = formato.minimos();
+            byte[] maximoRegistro = formato.maximos();
+            int porVector = CARRILES / formato.getAncho();
+            for (int r = 0; r < porVector; r++) {
+                System.arraycopy(minimoRegistro, 0, minimo, r * formato.getAncho(), formato.getAncho());
+                System.arraycopy(maximoRegistro, 0, maximo, r * formato.getAncho(), formato.getAncho());
+            }
+            minimos[formato.ordinal()] = ByteVector.fromArray(ESPECIE, minimo, 0);
+            maximos[formato.ordinal()] = ByteVector.fromArray(ESPECIE, maximo, 0);
+        }
+    }
+
+    @Override
+    public int validar(byte[] columna, int desde, int registros, DigitColumnFormat formato, long[] resultado) {
+        DigitColumnValidator.verificarLimites(columna, desde, registros, formato);
+        ByteVector minimo = minimos[formato.ordinal()];
+        if (minimo == null) {
+            return DigitColumnValidator.escalar().validar(columna, desde, registros, formato, resultado);
+        }
+        ByteVector maximo = maximos[formato.ordinal()];
+        int ancho = formato.getAncho();
+        int porVector = CARRILES / ancho;
+        long mascaraRegistro = (1L << ancho) - 1;
+        boolean conControl = formato.requiereConfirmacion();
+        int validos = 0;
+        long palabra = 0L;
+        int i = 0;
+        int posicion = desde;
+        while (i < registros) {
+            ByteVector v;
+            if (posicion + ESPECIE.length() <= columna.length) {
+                v = ByteVector.fromArray(ESPECIE, columna, posicion);
+            } else {
+                // Al final de la columna: los carriles fuera del arreglo se cargan como 0.
+                v = ByteVector.fromArray(ESPECIE, columna, posicion,
+                        ESPECIE.indexInRange(posicion, columna.length));
+            }
+            VectorMask<Byte> enRango = v.compare(VectorOperators.GE, minimo)
+                    .and(v.compare(VectorOperators.LE, maximo));
+            long bits = enRango.toLong();
+            int enEsteVector = Math.min(porVector, registros - i);
+            for (int r = 0; r < enEsteVector; r++, i++, posicion += ancho) {
+                // El formato se decide sin saltos condicionales: con datos mezclados, un if por
+                // registro fallaría en la predicción la mitad de las veces. Solo los formatos con
+                // dígito de control saltan, para confirmarlo en los registros de formato válido.
+                long valido = ((bits >>> (r * ancho)) & mascaraRegistro) == mascaraRegistro ? 1L : 0L;
+                if (conControl && valido != 0 && !formato.confirmar(columna, posicion)) {
+                    valido = 0L;
+                }
+                validos += (int) valido;
+                palabra |= valido << i;
+                if ((i & 63) == 63) {
+                    guardar(resultado, i, palabra);
+                    palabra = 0L;
+                }
+            }
+        }
+        if ((registros & 63) != 0) {
+            guardar(resultado, registros - 1, palabra);
+        }
+        return validos;
+    }
+
+    private static void guardar(long[] resultado, int registro, long palabra) {
+        if (resultado != null) {
+            resultado[registro >>> 6] |= palabra;
+        }
+    }
+
+    @Override
+    public String getNombre() {
+        return "vectorial";
+    }
+}
@@ -0,0 +1,16 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Secuencia de vocales encontrada por {@link VowelSequenceAnalyzer} en una palabra.
+ *
+ * @param tipo Diptongo, triptongo o el tipo de hiato.
+ * @param inicio Posición de la primera vocal en la palabra.
+ * @param fin Posición siguiente a la última vocal (incluye una "h" intercalada, si la hay).
+ */
+public record VowelSequence(VowelSequenceType tipo, int inicio, int fin) {
+
+    /** @return Las letras de la secuencia dentro de la palabra analizada (ej. "ía" en "día"). */
+    public String texto(CharSequence palabra) {
+        return palabra.subSequence(inicio, fin).toString();
+    }
+}
@@ -0,0 +1,265 @@
+package com.regex.regexevaluator.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Analiza las secuencias de vocales de palabras en español en una sola pasada y sin
+ * expresiones regulares: cada par de vocales seguidas se separa en sílabas distintas
+ * (hiato) o se une en la misma (diptongo o triptongo), según la norma ortográfica:
+ *
+ * - Dos vocales abiertas (a, e, o, con o sin tilde) forman hiato simple; también dos
+ *   cerradas iguales ("chiita").
+ * - Una cerrada con tilde (í, ú) junto a una abierta forma hiato acentual ("día", "baúl").
+ * - Una abierta junto a una cerrada átona, o dos cerradas distintas, forman diptongo;
+ *   cerrada + abierta + cerrada, triptongo ("buey").
+ *
+ * Además se tienen en cuenta la "h" intercalada, que no separa las vocales ("búho",
+ * "prohibir"); la "u" muda de "que", "qui", "gue" y "gui" (no así la "ü" de "pingüino");
+ * y la "y" final tras vocal, que suena como "i" ("rey", "Uruguay").
+ */
+public final class VowelSequenceAnalyzer {
+
+    /** A partir de este número de palabras, los métodos por lotes reparten el trabajo entre núcleos. */
+    public static final int UMBRAL_PARALELO = 8192;
+
+    private static final int NO_VOCAL = 0;
+    private static final int ABIERTA = 1;
+    private static final int ABIERTA_TONICA = 2;
+    private static final int I = 3;
+    private static final int U = 4;
+    private static final int I_TONICA = 5;
+    private static final int U_TONICA = 6;
+    /** Valor de {@link #separar} cuando las dos vocales van en la misma sílaba. */
+    private static final int MISMA_SILABA = -1;
+
+    private static final VowelSequenceType[] TIPOS = VowelSequenceType.values();
+
+    /** Recibe cada secuencia encontrada, sin crear objetos por secuencia. */
+    private interface Receptor {
+        void recibir(int tipo, int inicio, int fin);
+    }
+
+    /** Acumula la máscara de tipos presentes. */
+    private static final class Mascara implements Receptor {
+        private int valor;
+
+        @Override
+        public void recibir(int tipo, int inicio, int fin) {
+            valor |= 1 << tipo;
+        }
+    }
+
+    /** Acumula los conteos por tipo de un grupo de palabras. */
+    private static final class Contador implements Receptor {
+        private final long[] conteos = new long[TIPOS.length];
+
+        @Override
+        public void recibir(int tipo, int inicio, int fin) {
+            conteos[tipo]++;
+        }
+    }
+
+    private VowelSequenceAnalyzer() {
+    }
+
+    /**
+     * Encuentra todas las secuencias de vocales de una palabra.
+     *
+     * @param palabra La palabra (o un texto; los espacios y signos separan las secuencias).
+     * @return Los diptongos, triptongos e hiatos, en el orden en que aparecen.
+     */
+    public static List<VowelSequence> analizar(CharSequence palabra) {
+        List<VowelSequence> secuencias = new ArrayList<>(2);
+        recorrer(palabra, (tipo, inicio, fin) -> secuencias.add(new VowelSequence(TIPOS[tipo], inicio, fin)));
+        return secuencias;
+    }
+
+    /**
+     * Indica qué tipos de secuencia tiene una palabra, sin crear la lista de secuencias.
+     *
+     * @param palabra La palabra a analizar.
+     * @return Máscara con el bit {@code 1 << tipo.ordinal()} de cada tipo presente.
+     */
+    public static int tipos(CharSequence palabra) {
+        Mascara mascara = new Mascara();
+        recorrer(palabra, mascara);
+        return mascara.valor;
+    }
+
+    /**
+     * Analiza muchas palabras. Con {@link #UMBRAL_PARALELO} palabras o más, el trabajo
+     * se reparte en el ForkJoinPool común.
+     *
+     * @param palabras Las palabras a analizar.
+     * @return Las secuencias de cada palabra, en el mismo orden.
+     */
+    public static List<List<VowelSequence>> analizarTodos(List<? extends CharSequence> palabras) {
+        IntStream indices = IntStream.range(0, palabras.size());
+        if (palabras.size() >= UMBRAL_PARALELO) {
+            indices = indices.parallel();
+        }
+        return indices.mapToObj(i -> analizar(palabras.get(i))).toList();
+    }
+
+    /**
+     * Cuenta las secuencias de cada tipo en muchas palabras (ej. un diccionario completo),
+     * sin crear objetos por palabra. Con {@link #UMBRAL_PARALELO} palabras o más, el
+     * trabajo se reparte en el ForkJoinPool común.
+     *
+     * @param palabras Las palabras a analizar.
+     * @return El número de secuencias, indexado por {@link VowelSequenceType#ordinal()}.
+     */
+    public static long[] contarTodos(List<? extends CharSequence> palabras) {
+        IntStream indices = IntStream.range(0, palabras.size());
+        if (palabras.size() >= UMBRAL_PARALELO) {
+            indices = indices.parallel();
+        }
+        Contador total = indices.collect(Contador::new, (contador, i) -> recorrer(palabras.get(i), contador),
+                (a, b) -> {
+                    for (int t = 0; t < TIPOS.length; t++) {
+                        a.conteos[t] += b.conteos[t];
+                    }
+                });
+        return total.conteos;
+    }
+
+    /**
+     * Recorre la palabra una vez. Las vocales seguidas (o separadas por una "h") se
+     * agrupan en núcleos de hasta tres vocales; cada par que no puede ir en la misma
+     * sílaba cierra el núcleo actual y se informa como hiato.
+     */
+    private static void recorrer(CharSequence palabra, Receptor receptor) {
+        int longitud = palabra.length();
+        // Vocales del núcleo actual: posiciones y clases (a lo sumo tres).
+        int p0 = 0;
+        int p1 = 0;
+        int p2 = 0;
+        int c0 = NO_VOCAL;
+        int c1 = NO_VOCAL;
+        int c2 = NO_VOCAL;
+        int enNucleo = 0;
+        int anterior = NO_VOCAL;
+        int posicionAnterior = 0;
+        for (int i = 0; i < longitud; i++) {
+            char c = palabra.charAt(i);
+            int clase = clase(palabra, i, c, anterior != NO_VOCAL);
+            if (clase == NO_VOCAL) {
+                if ((c == 'h' || c == 'H') && anterior != NO_VOCAL && i + 1 < longitud
+                        && clase(palabra, i + 1, palabra.charAt(i + 1), true) != NO_VOCAL) {
+                    continue;
+                }
+                cerrarNucleo(enNucleo, p0, p1, p2, c0, c1, c2, receptor);
+                enNucleo = 0;
+                anterior = NO_VOCAL;
+                continue;
+            }
+            if (anterior != NO_VOCAL) {
+                int hiato = separar(anterior, clase);
+                if (hiato != MISMA_SILABA || enNucleo == 3) {
+                    cerrarNucleo(enNucleo, p0, p1, p2, c0, c1, c2, receptor);
+                    enNucleo = 0;
+                    if (hiato != MISMA_SILABA) {
+                        receptor.recibir(hiato, posicionAnterior, i + 1);
+                    }
+                }
+            }
+            switch (enNucleo++) {
+                case 0 -> {
+                    p0 = i;
+                    c0 = clase;
+                }
+                case 1 -> {
+                    p1 = i;
+                    c1 = clase;
+                }
+                default -> {
+                    p2 = i;
+                    c2 = clase;
+                }
+            }
+            anterior = clase;
+            posicionAnterior = i;
+        }
+        cerrarNucleo(enNucleo, p0, p1, p2, c0, c1, c2, receptor);
+    }
+
+    /** Informa el núcleo si tiene más de una vocal. */
+    private static void cerrarNucleo(int enNucleo, int p0, int p1, int p2, int c0, int c1, int c2, Receptor receptor) {
+        if (enNucleo == 3 && esCerrada(c0) && esAbierta(c1) && esCerrada(c2)) {
+            receptor.recibir(VowelSequenceType.TRIPTONGO.ordinal(), p0, p2 + 1);
+        } else if (enNucleo >= 2) {
+            // Tres vocales sin forma de triptongo (ej. "iui") no existen en español;
+            // se informa el diptongo de las dos primeras.
+            receptor.recibir(VowelSequenceType.DIPTONGO.ordinal(), p0, p1 + 1);
+        }
+    }
+
+    /**
+     * @return El tipo de hiato que forman dos vocales seguidas, o {@link #MISMA_SILABA}.
+     */
+    private static int separar(int primera, int segunda) {
+        if (esAbierta(primera) && esAbierta(segunda)) {
+            return VowelSequenceType.HIATO_SIMPLE.ordinal();
+        }
+        if ((esAbierta(primera) && esCerradaTonica(segunda)) || (esCerradaTonica(primera) && esAbierta(segunda))) {
+            return VowelSequenceType.HIATO_ACENTUAL.ordinal();
+        }
+        if (esCerrada(primera) && esCerrada(segunda) && esI(primera) == esI(segunda)) {
+            return VowelSequenceType.HIATO_SIMPLE.ordinal();
+        }
+        return MISMA_SILABA;
+    }
+
+    /**
+     * @param trasVocal true si el carácter anterior es una vocal (para la "y" final).
+     * @return La clase del carácter en la posición dada.
+     */
+    private static int clase(CharSequence palabra, int i, char c, boolean trasVocal) {
+        return switch (c) {
+            case 'a', 'e', 'o', 'A', 'E', 'O' -> ABIERTA;
+            case 'á', 'é', 'ó', 'Á', 'É', 'Ó' -> ABIERTA_TONICA;
+            case 'i', 'I' -> I;
+            case 'í', 'Í' -> I_TONICA;
+            case 'ú', 'Ú' -> U_TONICA;
+            case 'ü', 'Ü' -> U;
+            case 'u', 'U' -> esUMuda(palabra, i) ? NO_VOCAL : U;
+            case 'y', 'Y' -> trasVocal && (i + 1 == palabra.length() || !Character.isLetter(palabra.charAt(i + 1)))
+                    ? I : NO_VOCAL;
+            default -> NO_VOCAL;
+        };
+    }
+
+    /** La "u" de "que", "qui", "gue" y "gui" no se pronuncia. */
+    private static boolean esUMuda(CharSequence palabra, int i) {
+        if (i == 0) {
+            return false;
+        }
+        char previa = Character.toLowerCase(palabra.charAt(i - 1));
+        if (previa == 'q') {
+            return true;
+        }
+        if (previa != 'g' || i + 1 >= palabra.length()) {
+            return false;
+        }
+        char siguiente = Character.toLowerCase(palabra.charAt(i + 1));
+        return siguiente == 'e' || siguiente == 'i' || siguiente == 'é' || siguiente == 'í';
+    }
+
+    private static boolean esAbierta(int clase) {
+        return clase == ABIERTA || clase == ABIERTA_TONICA;
+    }
+
+    private static boolean esCerrada(int clase) {
+        return clase >= I;
+    }
+
+    private static boolean esCerradaTonica(int clase) {
+        return clase == I_TONICA || clase == U_TONICA;
+    }
+
+    private static boolean esI(int clase) {
+        return clase == I || clase == I_TONICA;
+    }
+}
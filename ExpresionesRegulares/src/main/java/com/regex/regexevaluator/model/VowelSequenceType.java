@@ -0,0 +1,28 @@
+package com.regex.regexevaluator.model;
+
+/**
+ * Tipo de secuencia de vocales encontrada por {@link VowelSequenceAnalyzer}, en orden
+ * de precedencia inversa: cuando una palabra tiene varias, {@link RegexValidator#clasificarDiptongoHiato}
+ * informa la de mayor ordinal.
+ */
+public enum VowelSequenceType {
+    /** Dos vocales en la misma sílaba: abierta + cerrada átona, cerrada átona + abierta, o dos cerradas distintas. */
+    DIPTONGO("Diptongo"),
+    /** Tres vocales en la misma sílaba: cerrada átona + abierta + cerrada átona (ej. "buey", "Uruguay"). */
+    TRIPTONGO("Triptongo"),
+    /** Dos vocales abiertas, o dos cerradas iguales, en sílabas distintas (ej. "teatro", "chiita"). */
+    HIATO_SIMPLE("Hiato Simple"),
+    /** Una vocal cerrada con tilde junto a una abierta, en sílabas distintas (ej. "día", "baúl"). */
+    HIATO_ACENTUAL("Hiato Acentual");
+
+    private final String nombre;
+
+    VowelSequenceType(String nombre) {
+        this.nombre = nombre;
+    }
+
+    /** @return El nombre para mostrar (ej. "Hiato Acentual"). */
+    public String getNombre() {
+        return nombre;
+    }
+}
@@ -0,0 +1,58 @@
+package com.regex.regexevaluator.model.engine;
+
+/**
+ * Envoltura de una entrada que cuenta cada lectura de carácter del motor de
+ * java.util.regex y lanza {@link BudgetExceededException} al agotar el presupuesto.
+ * Es la única forma de interrumpir un Matcher que está retrocediendo.
+ */
+public final class BudgetedCharSequence implements CharSequence {
+
+    /** Cada cuántas lecturas se consulta el reloj. */
+    private static final int INTERVALO_RELOJ = 4096;
+
+    private final CharSequence entrada;
+    private final long maximoPasos;
+    private final long limiteNanos;
+    private long pasos;
+
+    public BudgetedCharSequence(CharSequence entrada, EvaluationBudget presupuesto) {
+        this.entrada = entrada;
+        this.maximoPasos = presupuesto.maximoPasos();
+        this.limiteNanos = presupuesto.limiteDesde(System.nanoTime());
+    }
+
+    @Override
+    public char charAt(int indice) {
+        if (++pasos > maximoPasos || (pasos % INTERVALO_RELOJ == 0 && System.nanoTime() > limiteNanos)) {
+            throw BudgetExceededException.INSTANCIA;
+        }
+        return entrada.charAt(indice);
+    }
+
+    @Override
+    public int length() {
+        return entrada.length();
+    }
+
+    @Override
+    public CharSequence subSequence(int inicio, int fin) {
+        return entrada.subSequence(inicio, fin);
+    }
+
+    @Override
+    public String toString() {
+        return entrada.toString();
+    }
+
+    /** Señal de presupuesto agotado; no guarda la traza para que lanzarla sea barato. */
+    public static final class BudgetExceededException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final BudgetExceededException INSTANCIA = new BudgetExceededException();
+
+        private BudgetExceededException() {
+            super("Presupuesto de evaluación agotado", null, false, false);
+        }
+    }
+}
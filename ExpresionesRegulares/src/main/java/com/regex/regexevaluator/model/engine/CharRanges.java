@@ -0,0 +1,173 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Conjunto inmutable de caracteres representado como rangos ordenados y disjuntos
+ * [desde, hasta], guardados en pares dentro de un arreglo. Los valores son puntos de
+ * código: los del plano básico son un char y {@link #SUPLEMENTARIOS} cubre los demás.
+ */
+final class CharRanges {
+
+    static final CharRanges VACIO = new CharRanges(new int[0]);
+    static final CharRanges DIGITOS = rango('0', '9');
+    static final CharRanges ESPACIOS = de(' ', '\t', '\n', '\u000B', '\f', '\r');
+    static final CharRanges PALABRA = rango('a', 'z').union(rango('A', 'Z')).union(DIGITOS).union(de('_'));
+    /** Caracteres que acepta "." sin DOTALL: todo excepto los terminadores de línea. */
+    static final CharRanges PUNTO = de('\n', '\r', '\u0085', '\u2028', '\u2029').negar();
+    /** Los puntos de código fuera del plano básico, que en el texto son un par sustituto. */
+    static final CharRanges SUPLEMENTARIOS = rango(Character.MIN_SUPPLEMENTARY_CODE_POINT, Character.MAX_CODE_POINT);
+
+    private final int[] rangos;
+
+    private CharRanges(int[] rangos) {
+        this.rangos = rangos;
+    }
+
+    static CharRanges rango(int desde, int hasta) {
+        return new CharRanges(new int[]{desde, hasta});
+    }
+
+    static CharRanges de(char... caracteres) {
+        CharRanges conjunto = VACIO;
+        for (char c : caracteres) {
+            conjunto = conjunto.union(rango(c, c));
+        }
+        return conjunto;
+    }
+
+    boolean contiene(int c) {
+        for (int i = 0; i < rangos.length; i += 2) {
+            if (c < rangos[i]) {
+                return false;
+            }
+            if (c <= rangos[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean esVacio() {
+        return rangos.length == 0;
+    }
+
+    /** @return Los extremos de los rangos, en pares [desde, hasta]. */
+    int[] getRangos() {
+        return rangos;
+    }
+
+    CharRanges union(CharRanges otro) {
+        int[] todos = Arrays.copyOf(rangos, rangos.length + otro.rangos.length);
+        System.arraycopy(otro.rangos, 0, todos, rangos.length, otro.rangos.length);
+        // Se ordenan los rangos por su inicio y se fusionan los que se tocan o solapan.
+        Integer[] orden = new Integer[todos.length / 2];
+        for (int i = 0; i < orden.length; i++) {
+            orden[i] = i;
+        }
+        Arrays.sort(orden, (a, b) -> Integer.compare(todos[2 * a], todos[2 * b]));
+        int[] resultado = new int[todos.length];
+        int n = 0;
+        for (int i : orden) {
+            int desde = todos[2 * i];
+            int hasta = todos[2 * i + 1];
+            if (n > 0 && desde <= resultado[n - 1] + 1) {
+                resultado[n - 1] = Math.max(resultado[n - 1], hasta);
+            } else {
+                resultado[n++] = desde;
+                resultado[n++] = hasta;
+            }
+        }
+        return new CharRanges(Arrays.copyOf(resultado, n));
+    }
+
+    /** @return El complemento dentro del plano básico. */
+    CharRanges negar() {
+        int[] resultado = new int[rangos.length + 2];
+        int n = 0;
+        int siguiente = 0;
+        for (int i = 0; i < rangos.length; i += 2) {
+            if (rangos[i] > siguiente) {
+                resultado[n++] = siguiente;
+                resultado[n++] = rangos[i] - 1;
+            }
+            siguiente = rangos[i + 1] + 1;
+        }
+        if (siguiente <= Character.MAX_VALUE) {
+            resultado[n++] = siguiente;
+            resultado[n++] = Character.MAX_VALUE;
+        }
+        return new CharRanges(Arrays.copyOf(resultado, n));
+    }
+
+    /** Agrega la otra forma (mayúscula/minúscula) de las letras ASCII, como CASE_INSENSITIVE. */
+    CharRanges ignorarMayusculas() {
+        CharRanges resultado = this;
+        for (int i = 0; i < rangos.length; i += 2) {
+            resultado = resultado.union(desplazar(Math.max(rangos[i], 'a'), Math.min(rangos[i + 1], 'z'), 'A' - 'a'));
+            resultado = resultado.union(desplazar(Math.max(rangos[i], 'A'), Math.min(rangos[i + 1], 'Z'), 'a' - 'A'));
+        }
+        return resultado;
+    }
+
+    int numRangos() {
+        return rangos.length / 2;
+    }
+
+    /** Copia los límites de los rangos en destino a partir de la posición desde. */
+    void copiarLimites(int[] destino, int desde) {
+        System.arraycopy(rangos, 0, destino, desde, rangos.length);
+    }
+
+    /** Escribe los rangos en el formato que lee {@link #leer}. */
+    void escribir(DataOutput salida) throws IOException {
+        salida.writeInt(numRangos());
+        RuleSnapshot.escribirEnteros(salida, rangos, rangos.length);
+    }
+
+    /**
+     * @throws IllegalArgumentException si los rangos no están ordenados o se solapan.
+     */
+    static CharRanges leer(DataInput entrada) throws IOException {
+        int pares = entrada.readInt();
+        if (pares < 0 || pares > Character.MAX_CODE_POINT + 1) {
+            throw new IllegalArgumentException("Número de rangos inválido: " + pares);
+        }
+        return deLimites(RuleSnapshot.leerEnteros(entrada, 2 * pares), 0, pares);
+    }
+
+    /**
+     * Crea un conjunto a partir de límites leídos en bloque, como los que copia
+     * {@link #copiarLimites}.
+     *
+     * @throws IllegalArgumentException si los rangos no están ordenados, se solapan o
+     *                                  no son puntos de código.
+     */
+    static CharRanges deLimites(int[] limites, int desde, int pares) {
+        int[] rangos = Arrays.copyOfRange(limites, desde, desde + 2 * pares);
+        for (int i = 0; i < rangos.length; i += 2) {
+            if (rangos[i] < 0 || rangos[i + 1] > Character.MAX_CODE_POINT
+                    || rangos[i] > rangos[i + 1] || (i > 0 && rangos[i] <= rangos[i - 1])) {
+                throw new IllegalArgumentException("Rangos de caracteres desordenados o solapados.");
+            }
+        }
+        return new CharRanges(rangos);
+    }
+
+    @Override
+    public boolean equals(Object otro) {
+        return otro instanceof CharRanges c && Arrays.equals(rangos, c.rangos);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(rangos);
+    }
+
+    private static CharRanges desplazar(int desde, int hasta, int delta) {
+        return desde <= hasta ? rango(desde + delta, hasta + delta) : VACIO;
+    }
+}
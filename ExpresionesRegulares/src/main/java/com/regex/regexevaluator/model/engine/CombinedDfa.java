@@ -0,0 +1,348 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Autómata finito determinista que reconoce varias expresiones a la vez. En una sola
+ * pasada sobre la entrada indica cuáles de ellas coinciden con la cadena completa,
+ * con un costo lineal en la longitud de la entrada e independiente del número de reglas.
+ * Como java.util.regex, lee la entrada por puntos de código: un par sustituto es un
+ * solo carácter y un sustituto suelto es uno más.
+ * Se construye completo al compilarse, por lo que es inmutable y seguro entre hilos.
+ */
+public final class CombinedDfa {
+
+    /** Máximo de reglas por autómata: el resultado se devuelve como máscara de bits. */
+    public static final int MAXIMO_REGLAS = Long.SIZE;
+    /** Límite de estados para evitar la explosión exponencial de la construcción. */
+    public static final int MAXIMO_ESTADOS = 50_000;
+
+    private static final int MUERTO = 0;
+
+    private final char[] claseDe;
+    /** Clase común de los caracteres fuera del plano básico. */
+    private final int claseSuplementaria;
+    private final int numClases;
+    private final int[] transiciones;
+    private final long[] aceptacion;
+    private final int inicio;
+    private final int numEstados;
+
+    private CombinedDfa(char[] claseDe, int claseSuplementaria, int numClases, int[] transiciones, long[] aceptacion,
+                        int inicio, int numEstados) {
+        this.claseDe = claseDe;
+        this.claseSuplementaria = claseSuplementaria;
+        this.numClases = numClases;
+        this.transiciones = transiciones;
+        this.aceptacion = aceptacion;
+        this.inicio = inicio;
+        this.numEstados = numEstados;
+    }
+
+    /**
+     * Verifica si una expresión puede formar parte del autómata combinado: debe ser
+     * regular y no usar cuantificadores perezosos.
+     *
+     * @param patron El patrón a verificar.
+     * @return true si {@link #compilar(List)} lo acepta.
+     */
+    public static boolean esCompatible(Pattern patron) {
+        try {
+            RegexParser.analizar(patron, false);
+            return true;
+        } catch (UnsupportedRegexException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Compila un conjunto de patrones en un único autómata.
+     *
+     * @param patrones Los patrones; el índice de cada uno es su bit en {@link #coincidencias}.
+     * @return El autómata combinado.
+     * @throws UnsupportedRegexException si algún patrón no es compatible.
+     * @throws IllegalArgumentException si hay más de {@link #MAXIMO_REGLAS} patrones.
+     * @throws IllegalStateException si el autómata supera {@link #MAXIMO_ESTADOS} estados.
+     */
+    public static CombinedDfa compilar(List<Pattern> patrones) {
+        if (patrones.size() > MAXIMO_REGLAS) {
+            throw new IllegalArgumentException("Máximo " + MAXIMO_REGLAS + " reglas por autómata.");
+        }
+        Nfa nfa = new Nfa();
+        for (int i = 0; i < patrones.size(); i++) {
+            nfa.agregar(RegexParser.analizar(patrones.get(i), false), i);
+        }
+        return new Constructor(nfa).construir();
+    }
+
+    /**
+     * Recorre la entrada una vez y devuelve qué reglas coinciden con ella completa.
+     *
+     * @param entrada La cadena a clasificar.
+     * @return Máscara con el bit i encendido si el patrón i coincide.
+     */
+    public long coincidencias(CharSequence entrada) {
+        int estado = inicio;
+        int longitud = entrada.length();
+        for (int i = 0; i < longitud; i++) {
+            char c = entrada.charAt(i);
+            int clase = claseDe[c];
+            if (Character.isHighSurrogate(c) && i + 1 < longitud && Character.isLowSurrogate(entrada.charAt(i + 1))) {
+                clase = claseSuplementaria;
+                i++;
+            }
+            estado = transiciones[estado * numClases + clase];
+            if (estado == MUERTO) {
+                return 0L;
+            }
+        }
+        return aceptacion[estado];
+    }
+
+    /**
+     * Escribe las tablas en el formato que lee {@link #leer}, para {@link RuleSnapshot}.
+     * La clase de cada carácter se guarda por tramos, porque casi todos los caracteres
+     * comparten la misma.
+     */
+    void escribir(DataOutput salida) throws IOException {
+        salida.writeInt(numClases);
+        salida.writeInt(numEstados);
+        salida.writeInt(inicio);
+        salida.writeInt(claseSuplementaria);
+        int tramos = 0;
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (c == Character.MAX_VALUE || claseDe[c] != claseDe[c + 1]) {
+                tramos++;
+            }
+        }
+        char[] limites = new char[2 * tramos];
+        int i = 0;
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (c == Character.MAX_VALUE || claseDe[c] != claseDe[c + 1]) {
+                limites[i++] = (char) c;
+                limites[i++] = claseDe[c];
+            }
+        }
+        salida.writeInt(tramos);
+        RuleSnapshot.escribirCaracteres(salida, limites, limites.length);
+        RuleSnapshot.escribirEnteros(salida, transiciones, transiciones.length);
+        RuleSnapshot.escribirLargos(salida, aceptacion);
+    }
+
+    /**
+     * @throws IllegalArgumentException si alguna transición o clase está fuera de rango.
+     */
+    static CombinedDfa leer(DataInput entrada) throws IOException {
+        int numClases = entrada.readInt();
+        int numEstados = entrada.readInt();
+        int inicio = entrada.readInt();
+        int claseSuplementaria = entrada.readInt();
+        if (numClases <= 0 || numClases > Character.MAX_VALUE + 2 || numEstados <= 0
+                || numEstados > MAXIMO_ESTADOS || (long) numEstados * numClases > Integer.MAX_VALUE
+                || inicio < 0 || inicio >= numEstados || claseSuplementaria < 0 || claseSuplementaria >= numClases) {
+            throw new IllegalArgumentException("Dimensiones del autómata inválidas.");
+        }
+        char[] claseDe = new char[Character.MAX_VALUE + 1];
+        int tramos = RuleSnapshot.leerLongitud(entrada);
+        if (tramos > Character.MAX_VALUE + 1) {
+            throw new IllegalArgumentException("Número de tramos inválido: " + tramos);
+        }
+        char[] limites = RuleSnapshot.leerCaracteres(entrada, 2 * tramos);
+        int desde = 0;
+        for (int i = 0; i < limites.length; i += 2) {
+            int hasta = limites[i];
+            char clase = limites[i + 1];
+            if (desde > Character.MAX_VALUE || hasta < desde || clase >= numClases) {
+                throw new IllegalArgumentException("Tramo de clases inválido.");
+            }
+            Arrays.fill(claseDe, desde, hasta + 1, clase);
+            desde = hasta + 1;
+        }
+        if (desde <= Character.MAX_VALUE) {
+            throw new IllegalArgumentException("Las clases no cubren todos los caracteres.");
+        }
+        int[] transiciones = RuleSnapshot.leerEnteros(entrada, numEstados * numClases);
+        for (int destino : transiciones) {
+            if (destino < 0 || destino >= numEstados) {
+                throw new IllegalArgumentException("Transición fuera del autómata.");
+            }
+        }
+        long[] aceptacion = RuleSnapshot.leerLargos(entrada, numEstados);
+        return new CombinedDfa(claseDe, claseSuplementaria, numClases, transiciones, aceptacion, inicio, numEstados);
+    }
+
+    public int getNumEstados() {
+        return numEstados;
+    }
+
+    public int getNumClases() {
+        return numClases;
+    }
+
+    /** Construcción por subconjuntos a partir del autómata no determinista. */
+    private static final class Constructor {
+
+        private final Nfa nfa;
+        private final StateSet conjunto;
+        private final int[] pila;
+        private final Map<Clave, Integer> idPorConjunto = new HashMap<>();
+        private final List<int[]> conjuntosPorId = new ArrayList<>();
+        private char[] claseDe;
+        private int claseSuplementaria;
+        private int[] representantes;
+
+        Constructor(Nfa nfa) {
+            this.nfa = nfa;
+            this.conjunto = new StateSet(nfa.getNumEstados());
+            this.pila = new int[nfa.tamanoPila()];
+        }
+
+        CombinedDfa construir() {
+            calcularClases();
+            int numClases = representantes.length;
+            registrar(new int[0]);
+            conjunto.vaciar();
+            for (int inicio : nfa.getInicios()) {
+                nfa.agregarCerradura(inicio, conjunto, pila);
+            }
+            int inicio = registrar(importantes());
+
+            int[] transiciones = new int[64 * numClases];
+            for (int id = 0; id < conjuntosPorId.size(); id++) {
+                int[] estados = conjuntosPorId.get(id);
+                if ((id + 1) * numClases > transiciones.length) {
+                    transiciones = Arrays.copyOf(transiciones, transiciones.length * 2);
+                }
+                for (int clase = 0; clase < numClases; clase++) {
+                    conjunto.vaciar();
+                    int c = representantes[clase];
+                    for (int e : estados) {
+                        if (nfa.tipo(e) == Nfa.CONJUNTO && nfa.conjunto(e).contiene(c)) {
+                            nfa.agregarCerradura(nfa.siguiente(e), conjunto, pila);
+                        }
+                    }
+                    transiciones[id * numClases + clase] = registrar(importantes());
+                }
+            }
+
+            int numEstados = conjuntosPorId.size();
+            long[] aceptacion = new long[numEstados];
+            for (int id = 0; id < numEstados; id++) {
+                for (int e : conjuntosPorId.get(id)) {
+                    if (nfa.tipo(e) == Nfa.ACEPTA) {
+                        aceptacion[id] |= 1L << nfa.regla(e);
+                    }
+                }
+            }
+            return new CombinedDfa(claseDe, claseSuplementaria, numClases,
+                    Arrays.copyOf(transiciones, numEstados * numClases), aceptacion, inicio, numEstados);
+        }
+
+        /**
+         * Agrupa los caracteres en clases: dos caracteres son de la misma clase si
+         * todos los conjuntos del autómata los tratan igual. Los de fuera del plano básico
+         * forman una sola clase, porque cada conjunto los contiene todos o ninguno.
+         */
+        private void calcularClases() {
+            TreeSet<Integer> cortes = new TreeSet<>();
+            cortes.add(0);
+            cortes.add(Character.MIN_SUPPLEMENTARY_CODE_POINT);
+            Set<CharRanges> unicos = new LinkedHashSet<>();
+            for (int e = 0; e < nfa.getNumEstados(); e++) {
+                if (nfa.tipo(e) == Nfa.CONJUNTO) {
+                    unicos.add(nfa.conjunto(e));
+                }
+            }
+            List<CharRanges> distintos = new ArrayList<>(unicos);
+            for (CharRanges c : distintos) {
+                int[] rangos = c.getRangos();
+                for (int i = 0; i < rangos.length; i += 2) {
+                    cortes.add(rangos[i]);
+                    if (rangos[i + 1] < Character.MAX_CODE_POINT) {
+                        cortes.add(rangos[i + 1] + 1);
+                    }
+                }
+            }
+
+            claseDe = new char[Character.MAX_VALUE + 1];
+            Map<BitSet, Integer> clasePorFirma = new HashMap<>();
+            List<Integer> reps = new ArrayList<>();
+            Integer[] puntos = cortes.toArray(new Integer[0]);
+            for (int i = 0; i < puntos.length; i++) {
+                int desde = puntos[i];
+                int hasta = i + 1 < puntos.length ? puntos[i + 1] - 1 : Character.MAX_CODE_POINT;
+                if (desde > Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    throw new IllegalStateException("Conjunto con solo una parte de los caracteres suplementarios.");
+                }
+                BitSet firma = new BitSet(distintos.size());
+                for (int j = 0; j < distintos.size(); j++) {
+                    firma.set(j, distintos.get(j).contiene(desde));
+                }
+                Integer clase = clasePorFirma.get(firma);
+                if (clase == null) {
+                    clase = reps.size();
+                    clasePorFirma.put(firma, clase);
+                    reps.add(desde);
+                }
+                if (desde == Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                    claseSuplementaria = clase;
+                } else {
+                    Arrays.fill(claseDe, desde, hasta + 1, (char) clase.intValue());
+                }
+            }
+            representantes = reps.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /** @return Los estados del conjunto actual que consumen caracteres o aceptan, ordenados. */
+        private int[] importantes() {
+            int[] todos = conjunto.ordenados();
+            int n = 0;
+            for (int e : todos) {
+                if (nfa.tipo(e) != Nfa.DIVISION) {
+                    todos[n++] = e;
+                }
+            }
+            return Arrays.copyOf(todos, n);
+        }
+
+        private int registrar(int[] estados) {
+            Clave clave = new Clave(estados);
+            Integer id = idPorConjunto.get(clave);
+            if (id == null) {
+                if (conjuntosPorId.size() >= MAXIMO_ESTADOS) {
+                    throw new IllegalStateException("El autómata combinado supera " + MAXIMO_ESTADOS + " estados.");
+                }
+                id = conjuntosPorId.size();
+                idPorConjunto.put(clave, id);
+                conjuntosPorId.add(estados);
+            }
+            return id;
+        }
+    }
+
+    /** Conjunto de estados usado como llave de búsqueda. */
+    private record Clave(int[] estados) {
+
+        @Override
+        public boolean equals(Object otro) {
+            return otro instanceof Clave c && Arrays.equals(estados, c.estados);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(estados);
+        }
+    }
+}
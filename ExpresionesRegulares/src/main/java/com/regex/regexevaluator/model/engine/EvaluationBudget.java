@@ -0,0 +1,36 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.time.Duration;
+
+/**
+ * Límite de trabajo para una evaluación. Los pasos cuentan caracteres leídos por el
+ * motor de retroceso o estados procesados por la máquina de Pike; el tiempo se
+ * verifica periódicamente, así que puede excederse levemente.
+ *
+ * @param maximoPasos Pasos permitidos, o Long.MAX_VALUE para no limitarlos.
+ * @param maximoNanos Tiempo permitido en nanosegundos, o Long.MAX_VALUE para no limitarlo.
+ */
+public record EvaluationBudget(long maximoPasos, long maximoNanos) {
+
+    public static final EvaluationBudget SIN_LIMITE = new EvaluationBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+
+    public EvaluationBudget {
+        if (maximoPasos <= 0 || maximoNanos <= 0) {
+            throw new IllegalArgumentException("El presupuesto debe ser positivo.");
+        }
+    }
+
+    public static EvaluationBudget dePasos(long maximoPasos) {
+        return new EvaluationBudget(maximoPasos, Long.MAX_VALUE);
+    }
+
+    public static EvaluationBudget deTiempo(Duration maximo) {
+        return new EvaluationBudget(Long.MAX_VALUE, maximo.toNanos());
+    }
+
+    /** @return El instante (según System.nanoTime) en que vence el presupuesto. */
+    long limiteDesde(long inicioNanos) {
+        long limite = inicioNanos + maximoNanos;
+        return limite < inicioNanos ? Long.MAX_VALUE : limite;
+    }
+}
@@ -0,0 +1,15 @@
+package com.regex.regexevaluator.model.engine;
+
+/**
+ * Resultado de una evaluación con presupuesto: además de coincidir o no, la
+ * evaluación puede abortarse al agotar los pasos o el tiempo permitidos.
+ */
+public enum EvaluationResult {
+    COINCIDE,
+    NO_COINCIDE,
+    TIEMPO_AGOTADO;
+
+    public static EvaluationResult de(boolean coincide) {
+        return coincide ? COINCIDE : NO_COINCIDE;
+    }
+}
@@ -0,0 +1,253 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Autómata finito no determinista construido con el método de Thompson. Puede
+ * contener varias reglas: cada una tiene su propio estado inicial y un estado de
+ * aceptación marcado con el índice de la regla.
+ */
+final class Nfa {
+
+    /** Consume un punto de código del conjunto y pasa a sig1. */
+    static final int CONJUNTO = 0;
+    /** Transición vacía hacia sig1 y, si existe, hacia sig2 (sig1 tiene prioridad). */
+    static final int DIVISION = 1;
+    /** La regla indicada en regla[] acepta la entrada. */
+    static final int ACEPTA = 2;
+
+    private int[] tipo = new int[64];
+    private int[] sig1 = new int[64];
+    private int[] sig2 = new int[64];
+    private int[] regla = new int[64];
+    private CharRanges[] conjuntos = new CharRanges[64];
+    private int[] inicios = new int[0];
+    private int numEstados;
+
+    /**
+     * Agrega una regla al autómata.
+     *
+     * @param raiz El árbol sintáctico de la regla.
+     * @param indiceRegla El índice con el que se marca su estado de aceptación.
+     * @return El estado inicial de la regla.
+     */
+    int agregar(RegexNode raiz, int indiceRegla) {
+        int acepta = nuevo(ACEPTA, -1, -1, null);
+        regla[acepta] = indiceRegla;
+        int inicio = compilar(raiz, acepta);
+        inicios = Arrays.copyOf(inicios, inicios.length + 1);
+        inicios[inicios.length - 1] = inicio;
+        return inicio;
+    }
+
+    /** Compila un nodo cuyo reconocimiento continúa en el estado siguiente. */
+    private int compilar(RegexNode nodo, int siguiente) {
+        return switch (nodo) {
+            case RegexNode.Conjunto c -> nuevo(CONJUNTO, siguiente, -1,
+                    c.suplementarios() ? c.caracteres().union(CharRanges.SUPLEMENTARIOS) : c.caracteres());
+            case RegexNode.Concatenacion c -> {
+                int entrada = siguiente;
+                for (int i = c.partes().size() - 1; i >= 0; i--) {
+                    entrada = compilar(c.partes().get(i), entrada);
+                }
+                yield entrada;
+            }
+            case RegexNode.Alternativa a -> {
+                int n = a.opciones().size();
+                int entrada = compilar(a.opciones().get(n - 1), siguiente);
+                for (int i = n - 2; i >= 0; i--) {
+                    entrada = nuevo(DIVISION, compilar(a.opciones().get(i), siguiente), entrada, null);
+                }
+                yield entrada;
+            }
+            case RegexNode.Repeticion r -> compilarRepeticion(r, siguiente);
+        };
+    }
+
+    private int compilarRepeticion(RegexNode.Repeticion r, int siguiente) {
+        int entrada;
+        if (r.maximo() < 0) {
+            // Bucle: la división elige entre otra vuelta o salir.
+            int bucle = nuevo(DIVISION, -1, -1, null);
+            int cuerpo = compilar(r.nodo(), bucle);
+            sig1[bucle] = r.perezoso() ? siguiente : cuerpo;
+            sig2[bucle] = r.perezoso() ? cuerpo : siguiente;
+            entrada = bucle;
+        } else {
+            // Copias opcionales anidadas: (x(x(x)?)?)?
+            entrada = siguiente;
+            for (int i = r.minimo(); i < r.maximo(); i++) {
+                int cuerpo = compilar(r.nodo(), entrada);
+                entrada = r.perezoso()
+                        ? nuevo(DIVISION, siguiente, cuerpo, null)
+                        : nuevo(DIVISION, cuerpo, siguiente, null);
+            }
+        }
+        for (int i = 0; i < r.minimo(); i++) {
+            entrada = compilar(r.nodo(), entrada);
+        }
+        return entrada;
+    }
+
+    private int nuevo(int tipoEstado, int siguiente1, int siguiente2, CharRanges conjunto) {
+        if (numEstados == tipo.length) {
+            int capacidad = tipo.length * 2;
+            tipo = Arrays.copyOf(tipo, capacidad);
+            sig1 = Arrays.copyOf(sig1, capacidad);
+            sig2 = Arrays.copyOf(sig2, capacidad);
+            regla = Arrays.copyOf(regla, capacidad);
+            conjuntos = Arrays.copyOf(conjuntos, capacidad);
+        }
+        tipo[numEstados] = tipoEstado;
+        sig1[numEstados] = siguiente1;
+        sig2[numEstados] = siguiente2;
+        regla[numEstados] = -1;
+        conjuntos[numEstados] = conjunto;
+        return numEstados++;
+    }
+
+    /**
+     * Agrega al conjunto el estado y todos los alcanzables desde él por transiciones vacías.
+     *
+     * @param pila Arreglo de trabajo de al menos {@link #tamanoPila()} posiciones.
+     */
+    void agregarCerradura(int estado, StateSet conjunto, int[] pila) {
+        int tope = 0;
+        pila[tope++] = estado;
+        while (tope > 0) {
+            int e = pila[--tope];
+            if (!conjunto.agregar(e)) {
+                continue;
+            }
+            if (tipo[e] == DIVISION) {
+                // Se apila primero sig2 para visitar antes sig1, que tiene prioridad.
+                if (sig2[e] >= 0) {
+                    pila[tope++] = sig2[e];
+                }
+                pila[tope++] = sig1[e];
+            }
+        }
+    }
+
+    /** Escribe los estados y los inicios en el formato que lee {@link #leer}. */
+    void escribir(DataOutput salida) throws IOException {
+        salida.writeInt(numEstados);
+        RuleSnapshot.escribirEnteros(salida, tipo, numEstados);
+        RuleSnapshot.escribirEnteros(salida, sig1, numEstados);
+        RuleSnapshot.escribirEnteros(salida, sig2, numEstados);
+        RuleSnapshot.escribirEnteros(salida, regla, numEstados);
+        // Los conjuntos van en un solo bloque: primero cuántos rangos tiene cada estado
+        // y luego todos los límites seguidos.
+        int[] pares = new int[numEstados];
+        int total = 0;
+        for (int e = 0; e < numEstados; e++) {
+            if (tipo[e] == CONJUNTO) {
+                pares[e] = conjuntos[e].numRangos();
+                total += pares[e];
+            }
+        }
+        int[] limites = new int[2 * total];
+        int desde = 0;
+        for (int e = 0; e < numEstados; e++) {
+            if (tipo[e] == CONJUNTO) {
+                conjuntos[e].copiarLimites(limites, desde);
+                desde += 2 * pares[e];
+            }
+        }
+        RuleSnapshot.escribirEnteros(salida, pares, numEstados);
+        salida.writeInt(total);
+        RuleSnapshot.escribirEnteros(salida, limites, limites.length);
+        salida.writeInt(inicios.length);
+        RuleSnapshot.escribirEnteros(salida, inicios, inicios.length);
+    }
+
+    /**
+     * @throws IllegalArgumentException si algún estado apunta fuera del autómata.
+     */
+    static Nfa leer(DataInput entrada) throws IOException {
+        int n = entrada.readInt();
+        if (n <= 0) {
+            throw new IllegalArgumentException("Número de estados inválido: " + n);
+        }
+        Nfa nfa = new Nfa();
+        nfa.tipo = RuleSnapshot.leerEnteros(entrada, n);
+        nfa.sig1 = RuleSnapshot.leerEnteros(entrada, n);
+        nfa.sig2 = RuleSnapshot.leerEnteros(entrada, n);
+        nfa.regla = RuleSnapshot.leerEnteros(entrada, n);
+        nfa.conjuntos = new CharRanges[n];
+        for (int e = 0; e < n; e++) {
+            int t = nfa.tipo[e];
+            int s1 = nfa.sig1[e];
+            int s2 = nfa.sig2[e];
+            boolean valido = switch (t) {
+                case CONJUNTO -> s1 >= 0 && s1 < n && s2 == -1;
+                case DIVISION -> s1 >= 0 && s1 < n && s2 >= -1 && s2 < n;
+                case ACEPTA -> s1 == -1 && s2 == -1;
+                default -> false;
+            };
+            if (!valido) {
+                throw new IllegalArgumentException("Estado " + e + " inválido.");
+            }
+        }
+        int[] pares = RuleSnapshot.leerEnteros(entrada, n);
+        int total = RuleSnapshot.leerLongitud(entrada);
+        int[] limites = RuleSnapshot.leerEnteros(entrada, 2 * total);
+        int desde = 0;
+        for (int e = 0; e < n; e++) {
+            if (pares[e] < 0 || (nfa.tipo[e] != CONJUNTO && pares[e] != 0)
+                    || 2L * pares[e] > limites.length - desde) {
+                throw new IllegalArgumentException("Rangos del estado " + e + " inválidos.");
+            }
+            if (nfa.tipo[e] == CONJUNTO) {
+                nfa.conjuntos[e] = CharRanges.deLimites(limites, desde, pares[e]);
+                desde += 2 * pares[e];
+            }
+        }
+        if (desde != limites.length) {
+            throw new IllegalArgumentException("Sobran rangos de caracteres.");
+        }
+        int numInicios = entrada.readInt();
+        if (numInicios < 0 || numInicios > n) {
+            throw new IllegalArgumentException("Número de inicios inválido: " + numInicios);
+        }
+        nfa.inicios = RuleSnapshot.leerEnteros(entrada, numInicios);
+        for (int inicio : nfa.inicios) {
+            if (inicio < 0 || inicio >= n) {
+                throw new IllegalArgumentException("Estado inicial fuera del autómata.");
+            }
+        }
+        nfa.numEstados = n;
+        return nfa;
+    }
+
+    int tamanoPila() {
+        return 2 * numEstados + 1;
+    }
+
+    int getNumEstados() {
+        return numEstados;
+    }
+
+    int[] getInicios() {
+        return inicios.clone();
+    }
+
+    int tipo(int estado) {
+        return tipo[estado];
+    }
+
+    int siguiente(int estado) {
+        return sig1[estado];
+    }
+
+    int regla(int estado) {
+        return regla[estado];
+    }
+
+    CharRanges conjunto(int estado) {
+        return conjuntos[estado];
+    }
+}
@@ -0,0 +1,130 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Motor de tiempo lineal basado en la simulación del autómata de Thompson (máquina
+ * de Pike sin capturas). Avanza todos los estados posibles a la vez, de modo que el
+ * trabajo por carácter está acotado por el tamaño del autómata y ninguna entrada
+ * provoca retroceso catastrófico. Como java.util.regex, lee la entrada por puntos de
+ * código. Es inmutable y seguro entre hilos; cada hilo
+ * reutiliza sus propios arreglos de trabajo.
+ */
+public final class PikeVm {
+
+    /** Cada cuántos caracteres se consulta el reloj. */
+    private static final int INTERVALO_RELOJ = 256;
+
+    private final Nfa nfa;
+    private final int inicio;
+    private final ThreadLocal<Memoria> memoria;
+
+    private PikeVm(Nfa nfa, int inicio) {
+        this.nfa = nfa;
+        this.inicio = inicio;
+        this.memoria = ThreadLocal.withInitial(() -> new Memoria(nfa));
+    }
+
+    /**
+     * Compila un patrón para el motor lineal. Admite cuantificadores perezosos, que
+     * no cambian el resultado cuando se valida la cadena completa.
+     *
+     * @param patron El patrón a compilar.
+     * @return El motor compilado.
+     * @throws UnsupportedRegexException si el patrón no es regular (lookarounds, referencias, etc.).
+     */
+    public static PikeVm compilar(Pattern patron) {
+        Nfa nfa = new Nfa();
+        int inicio = nfa.agregar(RegexParser.analizar(patron, true), 0);
+        return new PikeVm(nfa, inicio);
+    }
+
+    /** Escribe el autómata en el formato que lee {@link #leer}, para {@link RuleSnapshot}. */
+    void escribir(DataOutput salida) throws IOException {
+        nfa.escribir(salida);
+        salida.writeInt(inicio);
+    }
+
+    /**
+     * @throws IllegalArgumentException si el autómata leído no es válido.
+     */
+    static PikeVm leer(DataInput entrada) throws IOException {
+        Nfa nfa = Nfa.leer(entrada);
+        int inicio = entrada.readInt();
+        if (inicio < 0 || inicio >= nfa.getNumEstados()) {
+            throw new IllegalArgumentException("Estado inicial fuera del autómata.");
+        }
+        return new PikeVm(nfa, inicio);
+    }
+
+    /**
+     * Verifica si la entrada completa coincide, sin límite de trabajo.
+     */
+    public boolean coincide(CharSequence entrada) {
+        return evaluar(entrada, EvaluationBudget.SIN_LIMITE) == EvaluationResult.COINCIDE;
+    }
+
+    /**
+     * Verifica si la entrada completa coincide, deteniéndose si se agota el presupuesto.
+     *
+     * @param entrada La cadena a evaluar.
+     * @param presupuesto Los pasos y el tiempo máximos.
+     * @return COINCIDE, NO_COINCIDE o TIEMPO_AGOTADO.
+     */
+    public EvaluationResult evaluar(CharSequence entrada, EvaluationBudget presupuesto) {
+        Memoria m = memoria.get();
+        StateSet actual = m.actual;
+        StateSet siguiente = m.siguiente;
+        long maximoPasos = presupuesto.maximoPasos();
+        long limiteNanos = presupuesto.limiteDesde(System.nanoTime());
+        long pasos = 0;
+
+        actual.vaciar();
+        nfa.agregarCerradura(inicio, actual, m.pila);
+        int longitud = entrada.length();
+        int leidos = 0;
+        for (int i = 0; i < longitud; ) {
+            pasos += actual.tamano();
+            if (pasos > maximoPasos || (++leidos % INTERVALO_RELOJ == 0 && System.nanoTime() > limiteNanos)) {
+                return EvaluationResult.TIEMPO_AGOTADO;
+            }
+            int c = Character.codePointAt(entrada, i);
+            i += Character.charCount(c);
+            siguiente.vaciar();
+            for (int j = 0; j < actual.tamano(); j++) {
+                int e = actual.get(j);
+                if (nfa.tipo(e) == Nfa.CONJUNTO && nfa.conjunto(e).contiene(c)) {
+                    nfa.agregarCerradura(nfa.siguiente(e), siguiente, m.pila);
+                }
+            }
+            if (siguiente.tamano() == 0) {
+                return EvaluationResult.NO_COINCIDE;
+            }
+            StateSet temporal = actual;
+            actual = siguiente;
+            siguiente = temporal;
+        }
+        for (int j = 0; j < actual.tamano(); j++) {
+            if (nfa.tipo(actual.get(j)) == Nfa.ACEPTA) {
+                return EvaluationResult.COINCIDE;
+            }
+        }
+        return EvaluationResult.NO_COINCIDE;
+    }
+
+    /** Arreglos de trabajo de un hilo. */
+    private static final class Memoria {
+        final StateSet actual;
+        final StateSet siguiente;
+        final int[] pila;
+
+        Memoria(Nfa nfa) {
+            this.actual = new StateSet(nfa.getNumEstados());
+            this.siguiente = new StateSet(nfa.getNumEstados());
+            this.pila = new int[nfa.tamanoPila()];
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.util.List;
+
+/**
+ * Árbol sintáctico del subconjunto de expresiones regulares que entienden los
+ * motores propios (autómata combinado y máquina de Pike).
+ */
+sealed interface RegexNode {
+
+    /**
+     * Un carácter de un conjunto.
+     *
+     * @param suplementarios true si el conjunto también admite los caracteres fuera del
+     *                       plano básico, como "." y las clases negadas en java.util.regex.
+     *                       Cada uno ocupa dos char (un par sustituto) pero los motores
+     *                       lo consumen como un solo carácter.
+     */
+    record Conjunto(CharRanges caracteres, boolean suplementarios) implements RegexNode {
+    }
+
+    /** Secuencia de nodos; vacía representa la cadena vacía. */
+    record Concatenacion(List<RegexNode> partes) implements RegexNode {
+    }
+
+    /** Alternativas separadas por "|". */
+    record Alternativa(List<RegexNode> opciones) implements RegexNode {
+    }
+
+    /**
+     * Repetición de un nodo.
+     *
+     * @param minimo Número mínimo de repeticiones.
+     * @param maximo Número máximo de repeticiones, o -1 si no tiene límite.
+     * @param perezoso true para los cuantificadores perezosos (*?, +?, ??, {n,m}?).
+     */
+    record Repeticion(RegexNode nodo, int minimo, int maximo, boolean perezoso) implements RegexNode {
+    }
+}
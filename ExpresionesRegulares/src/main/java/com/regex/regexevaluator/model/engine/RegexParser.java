@@ -0,0 +1,324 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Convierte una expresión de java.util.regex en un {@link RegexNode}, siempre que use
+ * solo construcciones regulares: literales, clases de caracteres, ".", grupos,
+ * alternativas, cuantificadores y los anclajes "^" al inicio y "$" al final (que con
+ * Matcher.matches() no cambian el resultado). Cualquier otra construcción, como
+ * lookarounds, referencias hacia atrás, cuantificadores posesivos o caracteres fuera
+ * del plano básico (pares sustitutos), produce una
+ * {@link UnsupportedRegexException}.
+ */
+final class RegexParser {
+
+    /** Límite de repeticiones para expandir {n,m} sin que el autómata crezca demasiado. */
+    private static final int MAXIMO_REPETICIONES = 100;
+
+    private final String expresion;
+    private final boolean ignorarMayusculas;
+    private final boolean permitirPerezosos;
+    private int pos;
+
+    private RegexParser(String expresion, boolean ignorarMayusculas, boolean permitirPerezosos) {
+        this.expresion = expresion;
+        this.ignorarMayusculas = ignorarMayusculas;
+        this.permitirPerezosos = permitirPerezosos;
+    }
+
+    /**
+     * @param patron El patrón compilado cuyo texto y banderas se analizan.
+     * @param permitirPerezosos false para rechazar los cuantificadores perezosos.
+     * @return El árbol sintáctico de la expresión.
+     * @throws UnsupportedRegexException si la expresión usa construcciones no soportadas.
+     */
+    static RegexNode analizar(Pattern patron, boolean permitirPerezosos) {
+        int banderas = patron.flags();
+        if ((banderas & ~Pattern.CASE_INSENSITIVE) != 0) {
+            throw new UnsupportedRegexException("Banderas no soportadas (" + banderas + ")", patron.pattern(), 0);
+        }
+        RegexParser parser = new RegexParser(patron.pattern(),
+                (banderas & Pattern.CASE_INSENSITIVE) != 0, permitirPerezosos);
+        return parser.analizarTodo();
+    }
+
+    private RegexNode analizarTodo() {
+        int fin = expresion.length();
+        // java.util.regex trata un par sustituto como un solo carácter, también al cuantificarlo.
+        for (int i = 0; i < fin; i++) {
+            if (Character.isSurrogate(expresion.charAt(i))) {
+                pos = i;
+                throw error("Carácter fuera del plano básico");
+            }
+        }
+        if (expresion.startsWith("^")) {
+            pos = 1;
+        }
+        if (fin > pos && expresion.charAt(fin - 1) == '$' && !escapado(fin - 1)) {
+            fin--;
+        }
+        RegexNode nodo = analizarAlternativa(fin);
+        if (pos != fin) {
+            throw error("Paréntesis de cierre sin pareja");
+        }
+        return nodo;
+    }
+
+    /** @return true si el carácter en la posición indicada está precedido por un número impar de "\". */
+    private boolean escapado(int indice) {
+        int barras = 0;
+        for (int i = indice - 1; i >= 0 && expresion.charAt(i) == '\\'; i--) {
+            barras++;
+        }
+        return barras % 2 == 1;
+    }
+
+    private RegexNode analizarAlternativa(int fin) {
+        List<RegexNode> opciones = new ArrayList<>();
+        opciones.add(analizarConcatenacion(fin));
+        while (pos < fin && expresion.charAt(pos) == '|') {
+            pos++;
+            opciones.add(analizarConcatenacion(fin));
+        }
+        return opciones.size() == 1 ? opciones.get(0) : new RegexNode.Alternativa(opciones);
+    }
+
+    private RegexNode analizarConcatenacion(int fin) {
+        List<RegexNode> partes = new ArrayList<>();
+        while (pos < fin && expresion.charAt(pos) != '|' && expresion.charAt(pos) != ')') {
+            partes.add(analizarCuantificador(analizarAtomo(fin), fin));
+        }
+        return partes.size() == 1 ? partes.get(0) : new RegexNode.Concatenacion(partes);
+    }
+
+    private RegexNode analizarCuantificador(RegexNode atomo, int fin) {
+        RegexNode nodo = atomo;
+        while (pos < fin) {
+            char c = expresion.charAt(pos);
+            int minimo;
+            int maximo;
+            if (c == '*') {
+                minimo = 0;
+                maximo = -1;
+                pos++;
+            } else if (c == '+') {
+                minimo = 1;
+                maximo = -1;
+                pos++;
+            } else if (c == '?') {
+                minimo = 0;
+                maximo = 1;
+                pos++;
+            } else if (c == '{') {
+                pos++;
+                minimo = leerNumero();
+                maximo = minimo;
+                if (pos < fin && expresion.charAt(pos) == ',') {
+                    pos++;
+                    maximo = pos < fin && expresion.charAt(pos) == '}' ? -1 : leerNumero();
+                }
+                if (pos >= fin || expresion.charAt(pos) != '}') {
+                    throw error("Cuantificador {n,m} mal formado");
+                }
+                pos++;
+                if (Math.max(minimo, maximo) > MAXIMO_REPETICIONES || (maximo >= 0 && maximo < minimo)) {
+                    throw error("Repetición fuera del rango soportado");
+                }
+            } else {
+                return nodo;
+            }
+            boolean perezoso = false;
+            if (pos < fin && expresion.charAt(pos) == '?') {
+                if (!permitirPerezosos) {
+                    throw error("Cuantificador perezoso");
+                }
+                perezoso = true;
+                pos++;
+            } else if (pos < fin && expresion.charAt(pos) == '+') {
+                throw error("Cuantificador posesivo");
+            }
+            nodo = new RegexNode.Repeticion(nodo, minimo, maximo, perezoso);
+        }
+        return nodo;
+    }
+
+    private int leerNumero() {
+        int inicio = pos;
+        while (pos < expresion.length() && Character.isDigit(expresion.charAt(pos))) {
+            pos++;
+        }
+        if (inicio == pos) {
+            throw error("Se esperaba un número");
+        }
+        return Integer.parseInt(expresion, inicio, pos, 10);
+    }
+
+    private RegexNode analizarAtomo(int fin) {
+        char c = expresion.charAt(pos);
+        switch (c) {
+            case '(' -> {
+                pos++;
+                if (expresion.startsWith("?:", pos)) {
+                    pos += 2;
+                } else if (pos < fin && expresion.charAt(pos) == '?') {
+                    throw error("Grupo especial (lookaround, nombre o banderas)");
+                }
+                RegexNode interno = analizarAlternativa(fin);
+                if (pos >= fin || expresion.charAt(pos) != ')') {
+                    throw error("Falta cerrar un paréntesis");
+                }
+                pos++;
+                return interno;
+            }
+            case '[' -> {
+                return analizarClase();
+            }
+            case '.' -> {
+                pos++;
+                return conjunto(CharRanges.PUNTO, true);
+            }
+            case '\\' -> {
+                int inicio = ++pos;
+                return conjunto(analizarEscape(false), esEscapeNegado(inicio));
+            }
+            case '^', '$' -> throw error("Anclaje en medio de la expresión");
+            case '*', '+', '?', '{' -> throw error("Cuantificador sin operando");
+            default -> {
+                pos++;
+                return conjunto(CharRanges.rango(c, c), false);
+            }
+        }
+    }
+
+    private RegexNode conjunto(CharRanges caracteres, boolean suplementarios) {
+        return new RegexNode.Conjunto(ignorarMayusculas ? caracteres.ignorarMayusculas() : caracteres, suplementarios);
+    }
+
+    /** @return true si el escape que empieza en la posición indicada es \D, \S o \W. */
+    private boolean esEscapeNegado(int inicio) {
+        char c = expresion.charAt(inicio);
+        return c == 'D' || c == 'S' || c == 'W';
+    }
+
+    private RegexNode.Conjunto analizarClase() {
+        pos++;
+        boolean negada = pos < expresion.length() && expresion.charAt(pos) == '^';
+        if (negada) {
+            pos++;
+        }
+        CharRanges resultado = CharRanges.VACIO;
+        boolean suplementarios = false;
+        boolean primero = true;
+        while (pos < expresion.length() && (expresion.charAt(pos) != ']' || primero)) {
+            primero = false;
+            char c = expresion.charAt(pos);
+            if (c == '[' || expresion.startsWith("&&", pos)) {
+                throw error("Clases anidadas o intersecciones");
+            }
+            CharRanges elemento;
+            int desde;
+            if (c == '\\') {
+                int inicio = ++pos;
+                elemento = analizarEscape(true);
+                suplementarios |= esEscapeNegado(inicio);
+                desde = caracterUnico(elemento);
+            } else {
+                pos++;
+                elemento = CharRanges.rango(c, c);
+                desde = c;
+            }
+            // Rango a-z: el "-" no es el último carácter de la clase.
+            if (desde >= 0 && pos + 1 < expresion.length() && expresion.charAt(pos) == '-'
+                    && expresion.charAt(pos + 1) != ']') {
+                pos++;
+                int hasta;
+                if (expresion.charAt(pos) == '\\') {
+                    pos++;
+                    hasta = caracterUnico(analizarEscape(true));
+                } else {
+                    hasta = expresion.charAt(pos++);
+                }
+                if (hasta < desde) {
+                    throw error("Rango inválido en clase de caracteres");
+                }
+                elemento = CharRanges.rango(desde, hasta);
+            }
+            resultado = resultado.union(elemento);
+        }
+        if (pos >= expresion.length()) {
+            throw error("Falta cerrar una clase de caracteres");
+        }
+        pos++;
+        if (ignorarMayusculas) {
+            resultado = resultado.ignorarMayusculas();
+        }
+        // Como en java.util.regex, la negación incluye los caracteres fuera del plano básico.
+        return new RegexNode.Conjunto(negada ? resultado.negar() : resultado, suplementarios != negada);
+    }
+
+    /** @return El carácter si el conjunto tiene uno solo, o -1 si tiene varios. */
+    private static int caracterUnico(CharRanges conjunto) {
+        int[] rangos = conjunto.getRangos();
+        return rangos.length == 2 && rangos[0] == rangos[1] ? rangos[0] : -1;
+    }
+
+    /** Analiza lo que sigue a una "\"; la posición queda después del escape. */
+    private CharRanges analizarEscape(boolean enClase) {
+        if (pos >= expresion.length()) {
+            throw error("Escape incompleto");
+        }
+        char c = expresion.charAt(pos++);
+        return switch (c) {
+            case 'd' -> CharRanges.DIGITOS;
+            case 'D' -> CharRanges.DIGITOS.negar();
+            case 's' -> CharRanges.ESPACIOS;
+            case 'S' -> CharRanges.ESPACIOS.negar();
+            case 'w' -> CharRanges.PALABRA;
+            case 'W' -> CharRanges.PALABRA.negar();
+            case 't' -> CharRanges.rango('\t', '\t');
+            case 'n' -> CharRanges.rango('\n', '\n');
+            case 'r' -> CharRanges.rango('\r', '\r');
+            case 'f' -> CharRanges.rango('\f', '\f');
+            case 'e' -> CharRanges.rango('\u001B', '\u001B');
+            case 'x' -> unCaracter(leerHexadecimal(2));
+            case 'u' -> {
+                int u = leerHexadecimal(4);
+                if (Character.isSurrogate((char) u)) {
+                    throw error("Carácter fuera del plano básico");
+                }
+                yield unCaracter(u);
+            }
+            default -> {
+                if (Character.isLetterOrDigit(c)) {
+                    pos--;
+                    throw error(enClase ? "Escape no soportado en clase" : "Escape no soportado (anclaje, referencia o propiedad)");
+                }
+                yield CharRanges.rango(c, c);
+            }
+        };
+    }
+
+    private static CharRanges unCaracter(int c) {
+        return CharRanges.rango(c, c);
+    }
+
+    private int leerHexadecimal(int digitos) {
+        if (pos + digitos > expresion.length()) {
+            throw error("Escape hexadecimal incompleto");
+        }
+        try {
+            int valor = Integer.parseInt(expresion, pos, pos + digitos, 16);
+            pos += digitos;
+            return valor;
+        } catch (NumberFormatException e) {
+            throw error("Escape hexadecimal inválido");
+        }
+    }
+
+    private UnsupportedRegexException error(String mensaje) {
+        return new UnsupportedRegexException(mensaje, expresion, pos);
+    }
+}
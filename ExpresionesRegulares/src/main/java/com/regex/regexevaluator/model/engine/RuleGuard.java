@@ -0,0 +1,310 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Condiciones baratas que cumple toda cadena aceptada por una expresión: longitud
+ * mínima y máxima, prefijo literal y conjunto de primeros caracteres. Se deducen una
+ * vez del árbol sintáctico de la expresión y permiten descartar una entrada sin crear
+ * ni reiniciar un Matcher. Si {@link #admite} devuelve false, la expresión no puede
+ * coincidir; si devuelve true, hay que evaluarla. Es inmutable y seguro entre hilos.
+ *
+ * Las longitudes se cuentan en char, como {@link CharSequence#length()}. Un conjunto
+ * que admite caracteres fuera del plano básico ("." o una clase negada) puede consumir
+ * un par sustituto, así que cuenta como uno o dos char.
+ */
+public final class RuleGuard {
+
+    /** Valor de {@link #getLongitudMaxima()} cuando la longitud no tiene límite. */
+    public static final int SIN_LIMITE = -1;
+
+    /** Filtro que admite cualquier entrada, para expresiones que no se pueden analizar. */
+    public static final RuleGuard SIN_FILTRO = new RuleGuard(0, SIN_LIMITE, "", null);
+
+    /** Las dos mitades de un par sustituto; java.util.regex también admite una suelta. */
+    private static final CharRanges SUSTITUTOS = CharRanges.rango(Character.MIN_SURROGATE, Character.MAX_SURROGATE);
+
+    private final int longitudMinima;
+    private final int longitudMaxima;
+    private final String prefijo;
+    /** Primeros caracteres posibles, o null si puede ser cualquiera. */
+    private final CharRanges primeros;
+    /** Los primeros caracteres ASCII posibles, como mapa de bits de 128 posiciones. */
+    private final long primerosBajos;
+    private final long primerosAltos;
+
+    private RuleGuard(int longitudMinima, int longitudMaxima, String prefijo, CharRanges primeros) {
+        this.longitudMinima = longitudMinima;
+        this.longitudMaxima = longitudMaxima;
+        this.prefijo = prefijo;
+        this.primeros = primeros;
+        long bajos = 0;
+        long altos = 0;
+        for (int c = 0; c < 128; c++) {
+            if (primeros == null || primeros.contiene(c)) {
+                if (c < 64) {
+                    bajos |= 1L << c;
+                } else {
+                    altos |= 1L << c;
+                }
+            }
+        }
+        this.primerosBajos = bajos;
+        this.primerosAltos = altos;
+    }
+
+    /**
+     * Deduce el filtro de un patrón. Los cuantificadores perezosos se admiten, porque no
+     * cambian qué cadenas coinciden completas.
+     *
+     * @param patron El patrón a analizar.
+     * @return El filtro, o {@link #SIN_FILTRO} si el patrón usa construcciones que el
+     *         analizador no soporta (lookarounds, referencias, banderas distintas de
+     *         CASE_INSENSITIVE, etc.).
+     */
+    public static RuleGuard de(Pattern patron) {
+        RegexNode arbol;
+        try {
+            arbol = RegexParser.analizar(patron, true);
+        } catch (UnsupportedRegexException e) {
+            return SIN_FILTRO;
+        }
+        return new RuleGuard(longitudMinima(arbol), longitudMaxima(arbol), prefijo(arbol).texto(),
+                primeros(arbol));
+    }
+
+    /**
+     * Verifica las condiciones baratas, sin recorrer la entrada más allá del prefijo.
+     *
+     * @param entrada La cadena a verificar.
+     * @return false si la expresión no puede coincidir con la entrada completa.
+     */
+    public boolean admite(CharSequence entrada) {
+        int longitud = entrada.length();
+        if (longitud < longitudMinima || (longitudMaxima != SIN_LIMITE && longitud > longitudMaxima)) {
+            return false;
+        }
+        if (longitud == 0) {
+            return true;
+        }
+        char c = entrada.charAt(0);
+        if (c < 64 ? (primerosBajos & (1L << c)) == 0
+                : c < 128 ? (primerosAltos & (1L << c)) == 0
+                : primeros != null && !primeros.contiene(c)) {
+            return false;
+        }
+        // El prefijo nunca es más largo que la longitud mínima.
+        for (int i = 0; i < prefijo.length(); i++) {
+            if (entrada.charAt(i) != prefijo.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getLongitudMinima() {
+        return longitudMinima;
+    }
+
+    /** @return La longitud máxima, o {@link #SIN_LIMITE}. */
+    public int getLongitudMaxima() {
+        return longitudMaxima;
+    }
+
+    /** @return El texto con el que empieza toda cadena aceptada (vacío si no hay uno fijo). */
+    public String getPrefijo() {
+        return prefijo;
+    }
+
+    /** @return true si el filtro no descarta ninguna entrada. */
+    public boolean esTrivial() {
+        return longitudMinima == 0 && longitudMaxima == SIN_LIMITE && primeros == null;
+    }
+
+    /** Escribe el filtro en el formato que lee {@link #leer}, para {@link RuleSnapshot}. */
+    void escribir(DataOutput salida) throws IOException {
+        salida.writeInt(longitudMinima);
+        salida.writeInt(longitudMaxima);
+        RuleSnapshot.escribirTexto(salida, prefijo);
+        salida.writeBoolean(primeros != null);
+        if (primeros != null) {
+            primeros.escribir(salida);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException si los valores no pueden venir de {@link #de}.
+     */
+    static RuleGuard leer(DataInput entrada) throws IOException {
+        int minima = entrada.readInt();
+        int maxima = entrada.readInt();
+        String prefijo = RuleSnapshot.leerTexto(entrada);
+        CharRanges primeros = entrada.readBoolean() ? CharRanges.leer(entrada) : null;
+        // admite() no verifica la longitud antes de comparar el prefijo.
+        if (minima < 0 || (maxima != SIN_LIMITE && maxima < minima) || prefijo.length() > minima) {
+            throw new IllegalArgumentException("Filtro inválido: longitud " + minima + ".." + maxima
+                    + ", prefijo de " + prefijo.length() + " caracteres.");
+        }
+        return new RuleGuard(minima, maxima, prefijo, primeros);
+    }
+
+    @Override
+    public String toString() {
+        return "longitud " + longitudMinima + ".." + (longitudMaxima == SIN_LIMITE ? "*" : longitudMaxima)
+                + (prefijo.isEmpty() ? "" : ", prefijo \"" + prefijo + "\"");
+    }
+
+    private static int longitudMinima(RegexNode nodo) {
+        return switch (nodo) {
+            case RegexNode.Conjunto c -> 1;
+            case RegexNode.Concatenacion c -> {
+                int total = 0;
+                for (RegexNode parte : c.partes()) {
+                    total = sumar(total, longitudMinima(parte));
+                }
+                yield total;
+            }
+            case RegexNode.Alternativa a -> {
+                int minimo = Integer.MAX_VALUE;
+                for (RegexNode opcion : a.opciones()) {
+                    minimo = Math.min(minimo, longitudMinima(opcion));
+                }
+                yield minimo;
+            }
+            case RegexNode.Repeticion r -> multiplicar(longitudMinima(r.nodo()), r.minimo());
+        };
+    }
+
+    /** @return La longitud máxima, o {@link #SIN_LIMITE}. */
+    private static int longitudMaxima(RegexNode nodo) {
+        return switch (nodo) {
+            case RegexNode.Conjunto c -> c.suplementarios() ? 2 : 1;
+            case RegexNode.Concatenacion c -> {
+                int total = 0;
+                for (RegexNode parte : c.partes()) {
+                    int maximo = longitudMaxima(parte);
+                    if (maximo == SIN_LIMITE) {
+                        yield SIN_LIMITE;
+                    }
+                    total = sumar(total, maximo);
+                }
+                yield total;
+            }
+            case RegexNode.Alternativa a -> {
+                int maximo = 0;
+                for (RegexNode opcion : a.opciones()) {
+                    int m = longitudMaxima(opcion);
+                    if (m == SIN_LIMITE) {
+                        yield SIN_LIMITE;
+                    }
+                    maximo = Math.max(maximo, m);
+                }
+                yield maximo;
+            }
+            case RegexNode.Repeticion r -> {
+                int interno = longitudMaxima(r.nodo());
+                if (r.maximo() == 0 || interno == 0) {
+                    yield 0;
+                }
+                yield r.maximo() == -1 || interno == SIN_LIMITE ? SIN_LIMITE : multiplicar(interno, r.maximo());
+            }
+        };
+    }
+
+    /** @return Los caracteres con los que puede empezar una cadena aceptada no vacía. */
+    private static CharRanges primeros(RegexNode nodo) {
+        return switch (nodo) {
+            case RegexNode.Conjunto c -> c.suplementarios() ? c.caracteres().union(SUSTITUTOS) : c.caracteres();
+            case RegexNode.Concatenacion c -> {
+                CharRanges conjunto = CharRanges.VACIO;
+                for (RegexNode parte : c.partes()) {
+                    conjunto = conjunto.union(primeros(parte));
+                    if (longitudMinima(parte) > 0) {
+                        break;
+                    }
+                }
+                yield conjunto;
+            }
+            case RegexNode.Alternativa a -> {
+                CharRanges conjunto = CharRanges.VACIO;
+                for (RegexNode opcion : a.opciones()) {
+                    conjunto = conjunto.union(primeros(opcion));
+                }
+                yield conjunto;
+            }
+            case RegexNode.Repeticion r -> r.maximo() == 0 ? CharRanges.VACIO : primeros(r.nodo());
+        };
+    }
+
+    /**
+     * Prefijo literal de un nodo.
+     *
+     * @param texto El texto con el que empieza toda cadena aceptada por el nodo.
+     * @param completo true si el nodo solo acepta exactamente ese texto.
+     */
+    private record Prefijo(String texto, boolean completo) {
+    }
+
+    private static Prefijo prefijo(RegexNode nodo) {
+        return switch (nodo) {
+            case RegexNode.Conjunto c -> {
+                int[] rangos = c.caracteres().getRangos();
+                yield !c.suplementarios() && rangos.length == 2 && rangos[0] == rangos[1]
+                        ? new Prefijo(String.valueOf((char) rangos[0]), true)
+                        : new Prefijo("", false);
+            }
+            case RegexNode.Concatenacion c -> {
+                StringBuilder texto = new StringBuilder();
+                for (RegexNode parte : c.partes()) {
+                    Prefijo dePartes = prefijo(parte);
+                    texto.append(dePartes.texto());
+                    if (!dePartes.completo()) {
+                        yield new Prefijo(texto.toString(), false);
+                    }
+                }
+                yield new Prefijo(texto.toString(), true);
+            }
+            case RegexNode.Alternativa a -> {
+                Prefijo primero = prefijo(a.opciones().get(0));
+                String comun = primero.texto();
+                boolean completo = primero.completo();
+                for (RegexNode opcion : a.opciones().subList(1, a.opciones().size())) {
+                    Prefijo deOpcion = prefijo(opcion);
+                    completo &= deOpcion.completo() && deOpcion.texto().equals(comun);
+                    comun = prefijoComun(comun, deOpcion.texto());
+                }
+                yield new Prefijo(comun, completo);
+            }
+            case RegexNode.Repeticion r -> {
+                if (r.minimo() == 0) {
+                    yield new Prefijo("", r.maximo() == 0);
+                }
+                Prefijo interno = prefijo(r.nodo());
+                yield interno.completo()
+                        ? new Prefijo(interno.texto().repeat(r.minimo()), r.minimo() == r.maximo())
+                        : new Prefijo(interno.texto(), false);
+            }
+        };
+    }
+
+    private static String prefijoComun(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return a.substring(0, i);
+    }
+
+    private static int sumar(int a, int b) {
+        long total = (long) a + b;
+        return total > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) total;
+    }
+
+    private static int multiplicar(int a, int b) {
+        long total = (long) a * b;
+        return total > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) total;
+    }
+}
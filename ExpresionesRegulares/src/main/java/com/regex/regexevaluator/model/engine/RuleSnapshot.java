@@ -0,0 +1,326 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Instantánea de reglas ya compiladas: de cada expresión guarda su {@link RuleGuard},
+ * su {@link PikeVm} (si es regular) y si puede formar parte de un {@link CombinedDfa};
+ * además guarda el autómata combinado de un conjunto de expresiones. Se genera una vez
+ * y se lee al iniciar, de modo que un proceso de vida corta no analiza las expresiones
+ * ni construye los autómatas: leer las tablas cuesta mucho menos que deducirlas.
+ *
+ * Las entradas se buscan por el texto y las banderas de la expresión. Si una regla
+ * cambia, su entrada deja de coincidir y la regla se compila como si no hubiera
+ * instantánea, así que una instantánea vieja nunca cambia el resultado de una
+ * validación. Es inmutable y segura entre hilos.
+ *
+ * Los arreglos (transiciones, estados) se escriben y se leen de una vez en lugar de
+ * valor por valor: al iniciar el código aún se interpreta y una llamada por entero
+ * costaría más que deducir las tablas.
+ */
+public final class RuleSnapshot {
+
+    /** Instantánea sin entradas: todo se compila al usarse. */
+    public static final RuleSnapshot VACIA = new RuleSnapshot(Collections.emptyMap(), List.of(), null);
+
+    /** "RGXS" en ASCII. */
+    private static final int MAGICO = 0x52475853;
+    /**
+     * Se incrementa cuando cambia el formato del archivo o la forma en que se compila una
+     * expresión (filtros, autómatas), para que no se usen tablas de una versión anterior.
+     */
+    private static final int VERSION = 3;
+
+    private static volatile RuleSnapshot actual = VACIA;
+
+    /**
+     * Lo precompilado de una expresión.
+     *
+     * @param motorLineal El motor lineal, o null si la expresión no es regular.
+     */
+    private record Entrada(RuleGuard filtro, PikeVm motorLineal, boolean compatibleConAutomata) {
+    }
+
+    private final Map<String, Entrada> entradas;
+    private final List<String> clavesAutomata;
+    /** Autómata combinado de las expresiones de clavesAutomata, en ese orden; null si no hay. */
+    private final CombinedDfa automata;
+
+    private RuleSnapshot(Map<String, Entrada> entradas, List<String> clavesAutomata, CombinedDfa automata) {
+        this.entradas = entradas;
+        this.clavesAutomata = clavesAutomata;
+        this.automata = automata;
+    }
+
+    /** @return La instantánea que usan las reglas al compilarse ({@link #VACIA} por defecto). */
+    public static RuleSnapshot actual() {
+        return actual;
+    }
+
+    /**
+     * Hace que las reglas que se compilen desde ahora tomen de la instantánea lo que
+     * tenga. Las ya compiladas no cambian, así que debe llamarse antes de crear el
+     * controlador o cargar un catálogo.
+     *
+     * @param instantanea La instantánea a usar.
+     */
+    public static void instalar(RuleSnapshot instantanea) {
+        actual = Objects.requireNonNull(instantanea);
+    }
+
+    /**
+     * Compila las expresiones y el autómata combinado.
+     *
+     * @param patrones Las expresiones de las que se guarda el filtro y el motor lineal.
+     * @param automata Las expresiones del autómata combinado, en el orden de sus bits
+     *                 (vacío para no guardar ninguno).
+     * @return La instantánea.
+     * @throws UnsupportedRegexException si alguna expresión del autómata no es compatible.
+     */
+    public static RuleSnapshot compilar(Collection<Pattern> patrones, List<Pattern> automata) {
+        Map<String, Entrada> entradas = new LinkedHashMap<>();
+        List<Pattern> todos = new ArrayList<>(patrones);
+        todos.addAll(automata);
+        for (Pattern patron : todos) {
+            entradas.computeIfAbsent(clave(patron), c -> new Entrada(RuleGuard.de(patron),
+                    compilarLineal(patron), CombinedDfa.esCompatible(patron)));
+        }
+        List<String> claves = new ArrayList<>(automata.size());
+        for (Pattern patron : automata) {
+            claves.add(clave(patron));
+        }
+        return new RuleSnapshot(Collections.unmodifiableMap(entradas), List.copyOf(claves),
+                automata.isEmpty() ? null : CombinedDfa.compilar(automata));
+    }
+
+    /**
+     * Lee una instantánea escrita con {@link #escribir}.
+     *
+     * @param archivo La ruta de la instantánea.
+     * @return La instantánea leída.
+     * @throws IOException si no se puede leer el archivo o está incompleto.
+     * @throws IllegalArgumentException si no es una instantánea, es de otra versión o
+     *         sus tablas no son válidas.
+     */
+    public static RuleSnapshot leer(Path archivo) throws IOException {
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(archivo)))) {
+            if (entrada.readInt() != MAGICO) {
+                throw new IllegalArgumentException("El archivo no es una instantánea de reglas: " + archivo);
+            }
+            int version = entrada.readInt();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Versión de instantánea " + version + " no soportada (se espera "
+                        + VERSION + "); hay que generarla de nuevo.");
+            }
+            int numEntradas = entrada.readInt();
+            if (numEntradas < 0) {
+                throw new IllegalArgumentException("Número de entradas inválido: " + numEntradas);
+            }
+            Map<String, Entrada> entradas = new LinkedHashMap<>();
+            for (int i = 0; i < numEntradas; i++) {
+                String clave = leerTexto(entrada);
+                RuleGuard filtro = RuleGuard.leer(entrada);
+                boolean compatible = entrada.readBoolean();
+                PikeVm motor = entrada.readBoolean() ? PikeVm.leer(entrada) : null;
+                entradas.put(clave, new Entrada(filtro, motor, compatible));
+            }
+            int numClaves = entrada.readInt();
+            if (numClaves < 0 || numClaves > CombinedDfa.MAXIMO_REGLAS) {
+                throw new IllegalArgumentException("Número de reglas del autómata inválido: " + numClaves);
+            }
+            List<String> claves = new ArrayList<>(numClaves);
+            for (int i = 0; i < numClaves; i++) {
+                claves.add(leerTexto(entrada));
+            }
+            CombinedDfa automata = numClaves > 0 ? CombinedDfa.leer(entrada) : null;
+            return new RuleSnapshot(Collections.unmodifiableMap(entradas), List.copyOf(claves), automata);
+        } catch (EOFException e) {
+            throw new EOFException("el archivo está incompleto.");
+        }
+    }
+
+    /**
+     * @param archivo La ruta donde se escribe la instantánea (se reemplaza si existe).
+     * @throws IOException si no se puede escribir.
+     */
+    public void escribir(Path archivo) throws IOException {
+        try (DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo)))) {
+            salida.writeInt(MAGICO);
+            salida.writeInt(VERSION);
+            salida.writeInt(entradas.size());
+            for (Map.Entry<String, Entrada> e : entradas.entrySet()) {
+                escribirTexto(salida, e.getKey());
+                Entrada entrada = e.getValue();
+                entrada.filtro().escribir(salida);
+                salida.writeBoolean(entrada.compatibleConAutomata());
+                salida.writeBoolean(entrada.motorLineal() != null);
+                if (entrada.motorLineal() != null) {
+                    entrada.motorLineal().escribir(salida);
+                }
+            }
+            salida.writeInt(clavesAutomata.size());
+            for (String clave : clavesAutomata) {
+                escribirTexto(salida, clave);
+            }
+            if (automata != null) {
+                automata.escribir(salida);
+            }
+        }
+    }
+
+    /**
+     * @param patron La expresión.
+     * @return Su filtro guardado, o el deducido en este momento si no está en la instantánea.
+     */
+    public RuleGuard filtro(Pattern patron) {
+        Entrada entrada = entradas.get(clave(patron));
+        return entrada != null ? entrada.filtro() : RuleGuard.de(patron);
+    }
+
+    /**
+     * @param patron La expresión.
+     * @return Su motor lineal guardado, o el compilado en este momento si no está en la instantánea.
+     * @throws UnsupportedRegexException si la expresión no es regular.
+     */
+    public PikeVm motorLineal(Pattern patron) {
+        Entrada entrada = entradas.get(clave(patron));
+        return entrada != null && entrada.motorLineal() != null ? entrada.motorLineal() : PikeVm.compilar(patron);
+    }
+
+    /**
+     * @param patron La expresión.
+     * @return Igual que {@link CombinedDfa#esCompatible}, sin analizarla si está en la instantánea.
+     */
+    public boolean esCompatible(Pattern patron) {
+        Entrada entrada = entradas.get(clave(patron));
+        return entrada != null ? entrada.compatibleConAutomata() : CombinedDfa.esCompatible(patron);
+    }
+
+    /**
+     * @param patrones Las expresiones, en el orden de sus bits.
+     * @return El autómata guardado si se generó con las mismas expresiones en el mismo
+     *         orden; si no, el compilado en este momento con {@link CombinedDfa#compilar}.
+     */
+    public CombinedDfa automata(List<Pattern> patrones) {
+        if (automata != null && patrones.size() == clavesAutomata.size()) {
+            boolean iguales = true;
+            for (int i = 0; i < patrones.size() && iguales; i++) {
+                iguales = clave(patrones.get(i)).equals(clavesAutomata.get(i));
+            }
+            if (iguales) {
+                return automata;
+            }
+        }
+        return CombinedDfa.compilar(patrones);
+    }
+
+    /** @return El número de expresiones con filtro y motor guardados. */
+    public int tamano() {
+        return entradas.size();
+    }
+
+    /** @return Los estados del autómata combinado guardado, o 0 si no hay. */
+    public int getNumEstadosAutomata() {
+        return automata != null ? automata.getNumEstados() : 0;
+    }
+
+    /** El mismo texto con distintas banderas es otra expresión. */
+    private static String clave(Pattern patron) {
+        return patron.flags() + "/" + patron.pattern();
+    }
+
+    private static PikeVm compilarLineal(Pattern patron) {
+        try {
+            return PikeVm.compilar(patron);
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+
+    /** A diferencia de writeUTF, no limita la longitud a 64 KB. */
+    static void escribirTexto(DataOutput salida, String texto) throws IOException {
+        salida.writeInt(texto.length());
+        escribirCaracteres(salida, texto.toCharArray(), texto.length());
+    }
+
+    static String leerTexto(DataInput entrada) throws IOException {
+        return new String(leerCaracteres(entrada, leerLongitud(entrada)));
+    }
+
+    /** Lee una longitud escrita con writeInt, que no puede ser negativa. */
+    static int leerLongitud(DataInput entrada) throws IOException {
+        int longitud = entrada.readInt();
+        if (longitud < 0) {
+            throw new IllegalArgumentException("Longitud inválida: " + longitud);
+        }
+        return longitud;
+    }
+
+    /** Escribe los n primeros valores en el mismo orden de bytes que writeInt. */
+    static void escribirEnteros(DataOutput salida, int[] valores, int n) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Integer.BYTES * n);
+        bytes.asIntBuffer().put(valores, 0, n);
+        salida.write(bytes.array());
+    }
+
+    static int[] leerEnteros(DataInput entrada, int n) throws IOException {
+        byte[] bytes = new byte[tamanoEnBytes(n, Integer.BYTES)];
+        entrada.readFully(bytes);
+        int[] valores = new int[n];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(valores);
+        return valores;
+    }
+
+    static void escribirLargos(DataOutput salida, long[] valores) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Long.BYTES * valores.length);
+        bytes.asLongBuffer().put(valores);
+        salida.write(bytes.array());
+    }
+
+    static long[] leerLargos(DataInput entrada, int n) throws IOException {
+        byte[] bytes = new byte[tamanoEnBytes(n, Long.BYTES)];
+        entrada.readFully(bytes);
+        long[] valores = new long[n];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(valores);
+        return valores;
+    }
+
+    static void escribirCaracteres(DataOutput salida, char[] valores, int n) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Character.BYTES * n);
+        bytes.asCharBuffer().put(valores, 0, n);
+        salida.write(bytes.array());
+    }
+
+    static char[] leerCaracteres(DataInput entrada, int n) throws IOException {
+        byte[] bytes = new byte[tamanoEnBytes(n, Character.BYTES)];
+        entrada.readFully(bytes);
+        char[] valores = new char[n];
+        ByteBuffer.wrap(bytes).asCharBuffer().get(valores);
+        return valores;
+    }
+
+    private static int tamanoEnBytes(int n, int bytesPorValor) {
+        if (n < 0 || n > Integer.MAX_VALUE / bytesPorValor) {
+            throw new IllegalArgumentException("Longitud inválida: " + n);
+        }
+        return n * bytesPorValor;
+    }
+}
@@ -0,0 +1,54 @@
+package com.regex.regexevaluator.model.engine;
+
+import java.util.Arrays;
+
+/**
+ * Conjunto de estados del autómata con inserción, consulta y vaciado en tiempo
+ * constante (conjunto disperso), que conserva el orden de inserción.
+ */
+final class StateSet {
+
+    private final int[] denso;
+    private final int[] disperso;
+    private int tamano;
+
+    StateSet(int capacidad) {
+        this.denso = new int[capacidad];
+        this.disperso = new int[capacidad];
+    }
+
+    /** @return true si el estado no estaba en el conjunto. */
+    boolean agregar(int estado) {
+        if (contiene(estado)) {
+            return false;
+        }
+        denso[tamano] = estado;
+        disperso[estado] = tamano;
+        tamano++;
+        return true;
+    }
+
+    boolean contiene(int estado) {
+        int indice = disperso[estado];
+        return indice < tamano && denso[indice] == estado;
+    }
+
+    int tamano() {
+        return tamano;
+    }
+
+    int get(int indice) {
+        return denso[indice];
+    }
+
+    void vaciar() {
+        tamano = 0;
+    }
+
+    /** @return Una copia ordenada de los estados. */
+    int[] ordenados() {
+        int[] copia = Arrays.copyOf(denso, tamano);
+        Arrays.sort(copia);
+        return copia;
+    }
+}
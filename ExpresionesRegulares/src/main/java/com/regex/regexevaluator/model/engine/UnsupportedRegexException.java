@@ -0,0 +1,15 @@
+package com.regex.regexevaluator.model.engine;
+
+/**
+ * Indica que una expresión usa construcciones que los motores propios no soportan
+ * (por ejemplo lookaheads o referencias hacia atrás). Quien la recibe debe usar
+ * java.util.regex para esa regla.
+ */
+public class UnsupportedRegexException extends IllegalArgumentException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UnsupportedRegexException(String mensaje, String expresion, int posicion) {
+        super(mensaje + " en la posición " + posicion + " de " + expresion);
+    }
+}
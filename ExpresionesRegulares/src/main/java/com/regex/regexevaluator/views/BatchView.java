@@ -0,0 +1,111 @@
+package com.regex.regexevaluator.views;
+
+import com.regex.regexevaluator.batch.BatchFileValidator;
+import com.regex.regexevaluator.batch.BatchResult;
+import com.regex.regexevaluator.batch.ParallelBatchValidator;
+import com.regex.regexevaluator.controller.RegexController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Modo por lotes desde la línea de comandos:
+ * --lote regla archivo [--columna N] [--separador C] [--encabezado] [--salida DIR]
+ * [--hilos N] [--virtuales] [--ordenado]
+ * Con --hilos o --virtuales la validación se reparte entre varios hilos.
+ */
+public class BatchView {
+    private final RegexController controller;
+
+    public BatchView(RegexController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Interpreta los argumentos, valida el archivo y muestra los conteos.
+     * @param args Argumentos del programa, empezando por "--lote".
+     * @return 0 si la validación terminó, 1 si hubo un error.
+     */
+    public int ejecutar(String[] args) {
+        if (args.length < 3) {
+            mostrarUso();
+            return 1;
+        }
+        String regla = args[1];
+        Path entrada = Path.of(args[2]);
+        int columna = -1;
+        char separador = ',';
+        boolean conEncabezado = false;
+        Path salida = entrada.toAbsolutePath().getParent();
+        int hilos = 0;
+        boolean hilosVirtuales = false;
+        boolean mantenerOrden = false;
+
+        try {
+            for (int i = 3; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--columna" -> {
+                        columna = Integer.parseInt(args[++i]) - 1;
+                        if (columna < 0) {
+                            throw new IllegalArgumentException("La columna se numera desde 1: " + args[i]);
+                        }
+                    }
+                    case "--separador" -> {
+                        if (args[++i].length() != 1) {
+                            throw new IllegalArgumentException("El separador debe ser un solo carácter: \"" + args[i] + "\"");
+                        }
+                        separador = args[i].charAt(0);
+                    }
+                    case "--encabezado" -> conEncabezado = true;
+                    case "--salida" -> salida = Path.of(args[++i]);
+                    case "--hilos" -> {
+                        hilos = Integer.parseInt(args[++i]);
+                        if (hilos < 1) {
+                            throw new IllegalArgumentException("Se requiere al menos un hilo: " + args[i]);
+                        }
+                    }
+                    case "--virtuales" -> hilosVirtuales = true;
+                    case "--ordenado" -> mantenerOrden = true;
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            BatchResult resultado;
+            if (hilos > 0 || hilosVirtuales) {
+                ParallelBatchValidator.Config config = ParallelBatchValidator.Config.porDefecto(hilosVirtuales, mantenerOrden);
+                if (hilos > 0) {
+                    config = new ParallelBatchValidator.Config(hilos, hilosVirtuales, mantenerOrden,
+                            config.tamanoBloque(), 2 * hilos);
+                }
+                ParallelBatchValidator validador = new ParallelBatchValidator(controller.obtenerValidacion(regla),
+                        controller.obtenerValidacionAscii(regla), columna, separador, conEncabezado, config);
+                resultado = validador.validar(entrada, salida);
+            } else {
+                BatchFileValidator validador = new BatchFileValidator(controller.obtenerValidacion(regla),
+                        controller.obtenerValidacionAscii(regla), columna, separador, conEncabezado);
+                resultado = validador.validar(entrada, salida);
+            }
+            mostrarResultado(resultado, salida);
+            return 0;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Error: " + e.getMessage());
+            mostrarUso();
+            return 1;
+        } catch (IOException e) {
+            System.err.println("Error al procesar el archivo: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void mostrarResultado(BatchResult resultado, Path salida) {
+        System.out.println("--> Filas procesadas: " + resultado.total());
+        System.out.println("--> Válidas: " + resultado.validos());
+        System.out.println("--> Inválidas: " + resultado.invalidos());
+        System.out.println("--> Resultados en: " + salida);
+    }
+
+    private void mostrarUso() {
+        System.err.println("Uso: --lote <regla> <archivo> [--columna N] [--separador C] [--encabezado] [--salida DIR]"
+                + " [--hilos N] [--virtuales] [--ordenado]");
+        System.err.println("Reglas disponibles: " + String.join(", ", controller.getIdsReglas()));
+    }
+}
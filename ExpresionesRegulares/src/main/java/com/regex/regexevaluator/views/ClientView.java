@@ -1,8 +1,17 @@
 package com.regex.regexevaluator.views;
 
 import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.CatalogRule;
+import com.regex.regexevaluator.model.PasswordCriterion;
+import com.regex.regexevaluator.model.PasswordEvaluator;
+import com.regex.regexevaluator.model.VowelSequence;
+import com.regex.regexevaluator.model.VowelSequenceType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.function.Function;
 
 public class ClientView {
     private final RegexController controller;
@@ -54,6 +63,9 @@ public class ClientView {
         System.out.println("19. Referencia de libro (APA 7ma ed.)");
         System.out.println("20. Precio de producto");
         System.out.println("21. Clasificar Diptongo/Hiato");
+        System.out.println("22. Identificar reglas que cumple una entrada");
+        System.out.println("23. Ver métricas de uso por regla");
+        System.out.println("24. Validar con una regla del catálogo");
         System.out.println("0. Salir");
         System.out.println("------------------------------------------");
         System.out.print("Digite la opción deseada: ");
@@ -104,7 +116,7 @@ public class ClientView {
                 solicitarYValidar("Ingrese el nombre y/o apellido:", controller::validarNombreApellido);
                 break;
             case 14:
-                solicitarYValidar("Ingrese la contraseña:", controller::validarContrasenaSegura);
+                solicitarYClasificar("Ingrese la contraseña:", this::describirContrasena);
                 break;
             case 15:
                 solicitarYValidar("Ingrese la estructura del ciclo for:", controller::validarCicloFor);
@@ -125,7 +137,16 @@ public class ClientView {
                 solicitarYValidar("Ingrese el precio del producto:", controller::validarPrecioProducto);
                 break;
             case 21:
-                solicitarYClasificar("Ingrese la palabra a analizar:", controller::clasificarDiptongoHiato);
+                solicitarYClasificar("Ingrese la palabra a analizar:", this::describirVocales);
+                break;
+            case 22:
+                solicitarYClasificar("Ingrese el dato a identificar:", this::describirReglas);
+                break;
+            case 23:
+                System.out.print(controller.getMetricas().volcarTexto());
+                break;
+            case 24:
+                validarConCatalogo();
                 break;
             default:
                 System.out.println("Opción no válida. Intente de nuevo.");
@@ -140,7 +161,7 @@ public class ClientView {
      * @param mensaje El texto a mostrar al usuario para solicitar el dato.
      * @param validador La función de validación del controlador a ejecutar (ej. controller::esPlacaValida).
      */
-    private void solicitarYValidar(String mensaje, java.util.function.Function<String, Boolean> validador) {
+    private void solicitarYValidar(String mensaje, Function<String, Boolean> validador) {
         System.out.println(mensaje);
         String entrada = scan.nextLine();
         boolean esValido = validador.apply(entrada);
@@ -152,13 +173,85 @@ public class ClientView {
         }
     }
 
+    /**
+     * Muestra las reglas del catálogo, pide una y valida un dato con ella.
+     */
+    private void validarConCatalogo() {
+        if (controller.getCatalogo().tamano() == 0) {
+            System.out.println("El catálogo no tiene reglas.");
+            return;
+        }
+        for (CatalogRule regla : controller.getCatalogo().getReglas()) {
+            System.out.println("  " + regla.getId() + " - " + regla.getDescripcion());
+        }
+        System.out.println("Ingrese el identificador de la regla:");
+        String id = scan.nextLine().strip();
+        CatalogRule regla = controller.getCatalogo().obtener(id);
+        if (regla == null) {
+            System.out.println("Error: La regla '" + id + "' no está en el catálogo.");
+            return;
+        }
+        String ejemplo = regla.getValidos().isEmpty() ? "" : " (ej. " + regla.getValidos().get(0) + ")";
+        solicitarYValidar("Ingrese el dato a validar" + ejemplo + ":", regla::coincide);
+    }
+
+    /**
+     * Evalúa una contraseña e indica qué criterios le faltan.
+     * @param contrasena La contraseña a evaluar.
+     * @return "Segura", o la lista de criterios que no cumple.
+     */
+    private String describirContrasena(String contrasena) {
+        PasswordEvaluator.Resultado resultado = controller.evaluarContrasena(contrasena);
+        if (resultado.esSegura()) {
+            return "Segura";
+        }
+        List<String> faltantes = new ArrayList<>();
+        for (PasswordCriterion criterio : resultado.getFaltantes()) {
+            faltantes.add(criterio.getDescripcion());
+        }
+        return "No es segura. Falta: " + String.join("; ", faltantes);
+    }
+
+    /**
+     * Lista los diptongos, triptongos e hiatos de una palabra con sus letras y posiciones.
+     * @param palabra La palabra a analizar.
+     * @return La clasificación principal (el tipo de mayor precedencia, como en
+     *         clasificarDiptongoHiato) seguida del detalle de cada secuencia.
+     */
+    private String describirVocales(String palabra) {
+        List<VowelSequence> secuencias = controller.analizarVocales(palabra);
+        if (secuencias.isEmpty()) {
+            return RegexController.SIN_SECUENCIA_VOCALICA;
+        }
+        VowelSequenceType principal = secuencias.get(0).tipo();
+        List<String> detalle = new ArrayList<>();
+        for (VowelSequence secuencia : secuencias) {
+            if (secuencia.tipo().compareTo(principal) > 0) {
+                principal = secuencia.tipo();
+            }
+            detalle.add(secuencia.tipo().getNombre() + ": '" + secuencia.texto(palabra) + "' en "
+                    + secuencia.inicio() + "-" + secuencia.fin());
+        }
+        return principal.getNombre() + " [" + String.join("; ", detalle) + "]";
+    }
+
+    /**
+     * Lista las reglas con las que coincide una entrada.
+     * @param entrada El dato a identificar.
+     * @return Los identificadores de las reglas separados por comas, o un aviso si no cumple ninguna.
+     */
+    private String describirReglas(String entrada) {
+        Set<String> reglas = controller.clasificar(entrada);
+        return reglas.isEmpty() ? "No cumple ninguna regla" : String.join(", ", reglas);
+    }
+
     /**
      * Método genérico para solicitar un dato, clasificarlo con una función que devuelve un String
      * y mostrar el resultado.
      * @param mensaje El texto a mostrar al usuario para solicitar el dato.
      * @param clasificador La función de clasificación del controlador a ejecutar (ej. controller::validarTipoISBN).
      */
-    private void solicitarYClasificar(String mensaje, java.util.function.Function<String, String> clasificador) {
+    private void solicitarYClasificar(String mensaje, Function<String, String> clasificador) {
         System.out.println(mensaje);
         String entrada = scan.nextLine();
         String resultado = clasificador.apply(entrada);
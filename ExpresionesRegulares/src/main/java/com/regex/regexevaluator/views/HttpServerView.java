@@ -0,0 +1,325 @@
+package com.regex.regexevaluator.views;
+
+import com.regex.regexevaluator.controller.CachingRegexController;
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.TextMatch;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * Servidor HTTP de validación basado en el servidor incluido en el JDK. Cada
+ * petición se atiende en un hilo virtual, así que soporta muchas conexiones
+ * simultáneas sin un pool de hilos grande.
+ *
+ * Endpoints:
+ *   GET  /reglas                      Lista de reglas disponibles.
+ *   GET  /validar/{regla}?valor=...   Valida un valor.
+ *   POST /validar/{regla}             Valida el cuerpo completo (texto UTF-8).
+ *   POST /validar/{regla}/lote        Valida un arreglo JSON de cadenas, o una cadena
+ *                                     JSON por línea si el Content-Type es application/x-ndjson.
+ *   POST /clasificar                  Lista las reglas con las que coincide el cuerpo.
+ *   POST /extraer                     Extrae del cuerpo (texto de cualquier tamaño) los fragmentos
+ *                                     que cumplen alguna regla, uno por línea en NDJSON.
+ *   GET  /metricas                    Llamadas y latencias por regla, en texto plano.
+ *
+ * Si se construye con una {@link CachingRegexController}, las validaciones pasan por
+ * la caché de resultados y /metricas incluye su tasa de aciertos.
+ */
+public class HttpServerView {
+
+    private static final int MAXIMO_CUERPO_SIMPLE = 1024 * 1024;
+    private static final int COLA_CONEXIONES = 1024;
+    private static final String JSON = "application/json; charset=utf-8";
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final RegexController controller;
+    private final CachingRegexController cache;
+    private HttpServer servidor;
+    private ExecutorService ejecutor;
+
+    public HttpServerView(RegexController controller) {
+        this.controller = controller;
+        this.cache = null;
+    }
+
+    public HttpServerView(CachingRegexController cache) {
+        this.controller = cache.getController();
+        this.cache = cache;
+    }
+
+    /**
+     * Inicia el servidor en el puerto indicado (0 para elegir uno libre).
+     * @param puerto El puerto de escucha.
+     * @return El puerto en el que quedó escuchando.
+     * @throws IOException si no se puede abrir el puerto.
+     */
+    public int iniciar(int puerto) throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress(puerto), COLA_CONEXIONES);
+        ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(ejecutor);
+        servidor.createContext("/reglas", this::listarReglas);
+        servidor.createContext("/validar/", this::validar);
+        servidor.createContext("/clasificar", this::clasificar);
+        servidor.createContext("/extraer", this::extraer);
+        servidor.createContext("/metricas", this::mostrarMetricas);
+        servidor.start();
+        return servidor.getAddress().getPort();
+    }
+
+    /**
+     * Detiene el servidor esperando a lo sumo el tiempo indicado por las peticiones en curso.
+     * @param segundos Tiempo máximo de espera.
+     */
+    public void detener(int segundos) {
+        servidor.stop(segundos);
+        ejecutor.shutdown();
+    }
+
+    private void listarReglas(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!metodoPermitido(intercambio, "GET")) {
+                return;
+            }
+            StringBuilder json = new StringBuilder("[");
+            for (String id : controller.getIdsReglas()) {
+                json.append(json.length() > 1 ? "," : "").append(Json.cadena(id));
+            }
+            responder(intercambio, 200, json.append(']').toString());
+        }
+    }
+
+    private void validar(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            String ruta = intercambio.getRequestURI().getPath().substring("/validar/".length());
+            boolean lote = ruta.endsWith("/lote");
+            String regla = lote ? ruta.substring(0, ruta.length() - "/lote".length()) : ruta;
+            Predicate<String> validacion;
+            try {
+                validacion = cache != null ? cache.obtenerValidacion(regla) : controller.obtenerValidacion(regla);
+            } catch (IllegalArgumentException e) {
+                responderError(intercambio, 404, e.getMessage());
+                return;
+            }
+
+            if (lote) {
+                if (metodoPermitido(intercambio, "POST")) {
+                    validarLote(intercambio, validacion);
+                }
+            } else if (intercambio.getRequestMethod().equals("GET")) {
+                String valor = parametro(intercambio, "valor");
+                if (valor == null) {
+                    responderError(intercambio, 400, "Falta el parámetro 'valor'.");
+                } else {
+                    responderValidacion(intercambio, regla, valor, validacion);
+                }
+            } else if (metodoPermitido(intercambio, "POST")) {
+                String cuerpo = leerCuerpo(intercambio);
+                if (cuerpo != null) {
+                    responderValidacion(intercambio, regla, cuerpo, validacion);
+                }
+            }
+        }
+    }
+
+    private void clasificar(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!metodoPermitido(intercambio, "POST")) {
+                return;
+            }
+            String cuerpo = leerCuerpo(intercambio);
+            if (cuerpo == null) {
+                return;
+            }
+            Set<String> reglas = controller.clasificar(cuerpo);
+            StringBuilder json = new StringBuilder("{\"entrada\":").append(Json.cadena(cuerpo)).append(",\"reglas\":[");
+            boolean primero = true;
+            for (String id : reglas) {
+                json.append(primero ? "" : ",").append(Json.cadena(id));
+                primero = false;
+            }
+            responder(intercambio, 200, json.append("]}").toString());
+        }
+    }
+
+    /**
+     * Recorre el cuerpo como flujo y responde cada fragmento encontrado apenas se halla.
+     */
+    private void extraer(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!metodoPermitido(intercambio, "POST")) {
+                return;
+            }
+            intercambio.getResponseHeaders().set("Content-Type", NDJSON);
+            intercambio.sendResponseHeaders(200, 0);
+            try (Reader cuerpo = new InputStreamReader(intercambio.getRequestBody(), StandardCharsets.UTF_8);
+                 Writer salida = new BufferedWriter(
+                         new OutputStreamWriter(intercambio.getResponseBody(), StandardCharsets.UTF_8))) {
+                IOException[] error = new IOException[1];
+                controller.extraer(cuerpo, fragmento -> {
+                    if (error[0] == null) {
+                        try {
+                            escribirFragmento(salida, fragmento);
+                        } catch (IOException e) {
+                            error[0] = e;
+                        }
+                    }
+                });
+                if (error[0] != null) {
+                    throw error[0];
+                }
+            }
+        }
+    }
+
+    private static void escribirFragmento(Writer salida, TextMatch fragmento) throws IOException {
+        salida.write("{\"regla\":");
+        Json.escribirCadena(salida, fragmento.tipo().getId());
+        salida.write(",\"inicio\":" + fragmento.inicio() + ",\"fin\":" + fragmento.fin() + ",\"texto\":");
+        Json.escribirCadena(salida, fragmento.texto());
+        salida.write("}\n");
+    }
+
+    private void mostrarMetricas(HttpExchange intercambio) throws IOException {
+        try (intercambio) {
+            if (!metodoPermitido(intercambio, "GET")) {
+                return;
+            }
+            String texto = controller.getMetricas().volcarTexto();
+            if (cache != null) {
+                texto += cache.resumen();
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            intercambio.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+            intercambio.sendResponseHeaders(200, bytes.length);
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                salida.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Valida un lote leyendo el cuerpo como flujo y escribiendo cada resultado apenas
+     * se obtiene, de modo que el tamaño del lote no está limitado por la memoria.
+     */
+    private void validarLote(HttpExchange intercambio, Predicate<String> validacion) throws IOException {
+        String tipo = intercambio.getRequestHeaders().getFirst("Content-Type");
+        boolean ndjson = tipo != null && tipo.startsWith(NDJSON);
+        BufferedReader lector = new BufferedReader(
+                new InputStreamReader(intercambio.getRequestBody(), StandardCharsets.UTF_8));
+        intercambio.getResponseHeaders().set("Content-Type", ndjson ? NDJSON : JSON);
+        // Longitud 0: respuesta por bloques (chunked), que se envía mientras se procesa.
+        intercambio.sendResponseHeaders(200, 0);
+        try (Writer salida = new BufferedWriter(
+                new OutputStreamWriter(intercambio.getResponseBody(), StandardCharsets.UTF_8))) {
+            boolean primero = true;
+            try {
+                if (ndjson) {
+                    String linea;
+                    while ((linea = lector.readLine()) != null) {
+                        if (!linea.isBlank()) {
+                            escribirResultado(salida, Json.leerCadena(linea), validacion);
+                            salida.write('\n');
+                        }
+                    }
+                } else {
+                    Json.LectorArreglo arreglo = new Json.LectorArreglo(lector);
+                    salida.write('[');
+                    String valor;
+                    while ((valor = arreglo.siguiente()) != null) {
+                        if (!primero) {
+                            salida.write(',');
+                        }
+                        escribirResultado(salida, valor, validacion);
+                        primero = false;
+                    }
+                    salida.write(']');
+                }
+            } catch (IllegalArgumentException e) {
+                // El estado 200 ya se envió: el error se informa como último elemento del
+                // arreglo, o como última línea en NDJSON.
+                String error = "{\"error\":" + Json.cadena(e.getMessage()) + "}";
+                salida.write(ndjson ? error + "\n" : (primero ? "" : ",") + error + "]");
+            }
+        }
+    }
+
+    private void escribirResultado(Writer salida, String valor, Predicate<String> validacion) throws IOException {
+        salida.write("{\"entrada\":");
+        Json.escribirCadena(salida, valor);
+        salida.write(validacion.test(valor) ? ",\"valido\":true}" : ",\"valido\":false}");
+    }
+
+    private void responderValidacion(HttpExchange intercambio, String regla, String valor,
+                                     Predicate<String> validacion) throws IOException {
+        responder(intercambio, 200, "{\"regla\":" + Json.cadena(regla) + ",\"entrada\":" + Json.cadena(valor)
+                + ",\"valido\":" + validacion.test(valor) + "}");
+    }
+
+    /**
+     * Lee el cuerpo completo, respondiendo 413 si supera el máximo para una validación simple.
+     * @return El cuerpo, o null si ya se respondió con error.
+     */
+    private String leerCuerpo(HttpExchange intercambio) throws IOException {
+        try (InputStream cuerpo = intercambio.getRequestBody()) {
+            byte[] bytes = cuerpo.readNBytes(MAXIMO_CUERPO_SIMPLE + 1);
+            if (bytes.length > MAXIMO_CUERPO_SIMPLE) {
+                responderError(intercambio, 413, "El cuerpo supera " + MAXIMO_CUERPO_SIMPLE + " bytes; use /lote.");
+                return null;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String parametro(HttpExchange intercambio, String nombre) {
+        String consulta = intercambio.getRequestURI().getRawQuery();
+        if (consulta == null) {
+            return null;
+        }
+        for (String par : consulta.split("&")) {
+            int igual = par.indexOf('=');
+            if (igual > 0 && par.substring(0, igual).equals(nombre)) {
+                return URLDecoder.decode(par.substring(igual + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private boolean metodoPermitido(HttpExchange intercambio, String metodo) throws IOException {
+        if (intercambio.getRequestMethod().equals(metodo)) {
+            return true;
+        }
+        intercambio.getResponseHeaders().set("Allow", metodo);
+        responderError(intercambio, 405, "Método no permitido.");
+        return false;
+    }
+
+    private void responderError(HttpExchange intercambio, int estado, String mensaje) throws IOException {
+        responder(intercambio, estado, "{\"error\":" + Json.cadena(mensaje) + "}");
+    }
+
+    private void responder(HttpExchange intercambio, int estado, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        intercambio.getResponseHeaders().set("Content-Type", JSON);
+        intercambio.sendResponseHeaders(estado, bytes.length);
+        try (OutputStream salida = intercambio.getResponseBody()) {
+            salida.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.regex.regexevaluator.views;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * Lectura y escritura mínima de JSON para el servidor HTTP: solo cadenas y arreglos
+ * de cadenas, que es todo lo que intercambian los endpoints de validación.
+ */
+final class Json {
+
+    private Json() {
+    }
+
+    /**
+     * Escribe una cadena como literal JSON, con comillas y caracteres escapados.
+     */
+    static void escribirCadena(Appendable salida, String valor) throws IOException {
+        salida.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> salida.append("\\\"");
+                case '\\' -> salida.append("\\\\");
+                case '\n' -> salida.append("\\n");
+                case '\r' -> salida.append("\\r");
+                case '\t' -> salida.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        salida.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        salida.append(c);
+                    }
+                }
+            }
+        }
+        salida.append('"');
+    }
+
+    static String cadena(String valor) {
+        StringBuilder sb = new StringBuilder(valor.length() + 2);
+        try {
+            escribirCadena(sb, valor);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Lee un arreglo JSON de cadenas elemento por elemento, sin cargarlo completo en memoria.
+     */
+    static final class LectorArreglo {
+        private final Reader entrada;
+        private int actual;
+        private boolean leido;
+        private boolean iniciado;
+        private boolean terminado;
+
+        LectorArreglo(Reader entrada) {
+            this.entrada = entrada;
+        }
+
+        /**
+         * @return La siguiente cadena del arreglo, o null al llegar al "]".
+         * @throws IllegalArgumentException si el JSON no es un arreglo de cadenas.
+         */
+        String siguiente() throws IOException {
+            if (terminado) {
+                return null;
+            }
+            avanzarEspacios();
+            if (!iniciado) {
+                esperar('[');
+                iniciado = true;
+                avanzarEspacios();
+                if (actual == ']') {
+                    terminado = true;
+                    return null;
+                }
+            } else if (actual == ',') {
+                avanzar();
+                avanzarEspacios();
+            } else if (actual == ']') {
+                terminado = true;
+                return null;
+            } else {
+                throw new IllegalArgumentException("Se esperaba ',' o ']' en el arreglo JSON.");
+            }
+            String valor = leerCadena();
+            avanzarEspacios();
+            return valor;
+        }
+
+        private String leerCadena() throws IOException {
+            esperar('"');
+            StringBuilder sb = new StringBuilder();
+            while (actual != '"') {
+                if (actual < 0) {
+                    throw new IllegalArgumentException("Cadena JSON sin terminar.");
+                }
+                if (actual == '\\') {
+                    avanzar();
+                    switch (actual) {
+                        case '"', '\\', '/' -> sb.append((char) actual);
+                        case 'b' -> sb.append('\b');
+                        case 'f' -> sb.append('\f');
+                        case 'n' -> sb.append('\n');
+                        case 'r' -> sb.append('\r');
+                        case 't' -> sb.append('\t');
+                        case 'u' -> {
+                            char[] hex = new char[4];
+                            for (int i = 0; i < 4; i++) {
+                                avanzar();
+                                hex[i] = (char) actual;
+                            }
+                            try {
+                                sb.append((char) Integer.parseInt(new String(hex), 16));
+                            } catch (NumberFormatException e) {
+                                throw new IllegalArgumentException("Escape \\u inválido en JSON.");
+                            }
+                        }
+                        default -> throw new IllegalArgumentException("Escape inválido en cadena JSON.");
+                    }
+                } else {
+                    sb.append((char) actual);
+                }
+                avanzar();
+            }
+            avanzar();
+            return sb.toString();
+        }
+
+        private void esperar(char c) throws IOException {
+            if (actual != c) {
+                throw new IllegalArgumentException("Se esperaba '" + c + "' en el JSON.");
+            }
+            avanzar();
+        }
+
+        private void avanzarEspacios() throws IOException {
+            if (!leido) {
+                leido = true;
+                avanzar();
+            }
+            while (actual == ' ' || actual == '\n' || actual == '\r' || actual == '\t') {
+                avanzar();
+            }
+        }
+
+        private void avanzar() throws IOException {
+            actual = entrada.read();
+        }
+    }
+
+    /**
+     * Interpreta una línea NDJSON que contiene una cadena JSON.
+     *
+     * @throws IllegalArgumentException si la línea no es una cadena JSON.
+     */
+    static String leerCadena(String linea) throws IOException {
+        LectorArreglo lector = new LectorArreglo(new StringReader("[" + linea + "]"));
+        String valor = lector.siguiente();
+        if (valor == null || lector.siguiente() != null) {
+            throw new IllegalArgumentException("Cada línea NDJSON debe ser una cadena JSON.");
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,181 @@
+package com.regex.regexevaluator.views;
+
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.ByteValidation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * Modo no interactivo para scripts: --pipe regla [--validos | --invalidos] [--resumen]
+ * Lee valores separados por "\n" de la entrada estándar y escribe por cada uno "true" o
+ * "false" en la salida estándar, en el mismo orden. Con --validos o --invalidos se
+ * escriben solo las líneas que cumplen (o no) la regla, como un filtro.
+ *
+ * La entrada se lee en bloques grandes y la salida se acumula en un búfer propio que
+ * se escribe solo al llenarse y al terminar, nunca por línea.
+ */
+public class PipeView {
+
+    private static final int TAMANO_BUFER = 1024 * 1024;
+    private static final byte[] VERDADERO = "true\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSO = "false\n".getBytes(StandardCharsets.US_ASCII);
+
+    /** Qué se escribe por cada línea de entrada. */
+    private enum Salida {
+        RESULTADO, VALIDOS, INVALIDOS
+    }
+
+    private final RegexController controller;
+    private final InputStream entrada;
+    private final OutputStream salida;
+    private byte[] lectura = new byte[TAMANO_BUFER];
+    private final byte[] escritura = new byte[TAMANO_BUFER];
+    private int usados;
+    private long validos;
+    private long invalidos;
+
+    /**
+     * @param controller El controlador con las reglas.
+     * @param entrada De donde se leen los valores (normalmente la entrada estándar sin búfer).
+     * @param salida Donde se escriben los resultados (normalmente la salida estándar sin búfer).
+     */
+    public PipeView(RegexController controller, InputStream entrada, OutputStream salida) {
+        this.controller = controller;
+        this.entrada = entrada;
+        this.salida = salida;
+    }
+
+    /**
+     * Interpreta los argumentos y valida la entrada completa.
+     * @param args Argumentos del programa, empezando por "--pipe".
+     * @return 0 si la validación terminó, 1 si hubo un error.
+     */
+    public int ejecutar(String[] args) {
+        if (args.length < 2) {
+            mostrarUso();
+            return 1;
+        }
+        String regla = args[1];
+        Salida modo = Salida.RESULTADO;
+        boolean conResumen = false;
+        try {
+            for (int i = 2; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--validos" -> modo = Salida.VALIDOS;
+                    case "--invalidos" -> modo = Salida.INVALIDOS;
+                    case "--resumen" -> conResumen = true;
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            Predicate<String> validacion = controller.obtenerValidacion(regla);
+            ByteValidation validacionBytes = controller.obtenerValidacionAscii(regla);
+            // El proceso termina al cerrarse la entrada: nadie consultaría las métricas,
+            // y medir cada línea costaría tanto como validarla.
+            controller.getMetricas().setActivas(false);
+            procesar(validacion, validacionBytes, modo);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            mostrarUso();
+            return 1;
+        } catch (IOException e) {
+            System.err.println("Error de entrada/salida: " + e.getMessage());
+            return 1;
+        }
+        if (conResumen) {
+            System.err.println("--> Válidas: " + validos);
+            System.err.println("--> Inválidas: " + invalidos);
+        }
+        return 0;
+    }
+
+    /**
+     * Lee la entrada por bloques y valida cada línea completa del bloque; una línea
+     * cortada al final del bloque se mueve al inicio para completarla con la siguiente lectura.
+     */
+    private void procesar(Predicate<String> validacion, ByteValidation validacionBytes, Salida modo) throws IOException {
+        int pendientes = 0;
+        int leidos;
+        while ((leidos = entrada.read(lectura, pendientes, lectura.length - pendientes)) >= 0) {
+            int fin = pendientes + leidos;
+            int inicio = 0;
+            for (int i = pendientes; i < fin; i++) {
+                if (lectura[i] == '\n') {
+                    procesarLinea(inicio, i, validacion, validacionBytes, modo);
+                    inicio = i + 1;
+                }
+            }
+            pendientes = fin - inicio;
+            System.arraycopy(lectura, inicio, lectura, 0, pendientes);
+            if (pendientes == lectura.length) {
+                lectura = Arrays.copyOf(lectura, lectura.length * 2);
+            }
+        }
+        if (pendientes > 0) {
+            procesarLinea(0, pendientes, validacion, validacionBytes, modo);
+        }
+        vaciar();
+        salida.flush();
+    }
+
+    /** Valida la línea [inicio, fin) del búfer de lectura, sin el "\r" final si lo tiene. */
+    private void procesarLinea(int inicio, int fin, Predicate<String> validacion, ByteValidation validacionBytes,
+                               Salida modo) throws IOException {
+        int finValor = fin > inicio && lectura[fin - 1] == '\r' ? fin - 1 : fin;
+        boolean valido = validacionBytes != null
+                ? validacionBytes.test(lectura, inicio, finValor - inicio)
+                : validacion.test(new String(lectura, inicio, finValor - inicio, StandardCharsets.UTF_8));
+        if (valido) {
+            validos++;
+        } else {
+            invalidos++;
+        }
+        switch (modo) {
+            case RESULTADO -> escribir(valido ? VERDADERO : FALSO, 0, valido ? VERDADERO.length : FALSO.length);
+            case VALIDOS -> {
+                if (valido) {
+                    escribirLinea(inicio, finValor);
+                }
+            }
+            case INVALIDOS -> {
+                if (!valido) {
+                    escribirLinea(inicio, finValor);
+                }
+            }
+        }
+    }
+
+    private void escribirLinea(int inicio, int fin) throws IOException {
+        escribir(lectura, inicio, fin - inicio);
+        if (usados == escritura.length) {
+            vaciar();
+        }
+        escritura[usados++] = '\n';
+    }
+
+    private void escribir(byte[] datos, int desde, int longitud) throws IOException {
+        if (longitud > escritura.length - usados) {
+            vaciar();
+            if (longitud > escritura.length) {
+                salida.write(datos, desde, longitud);
+                return;
+            }
+        }
+        System.arraycopy(datos, desde, escritura, usados, longitud);
+        usados += longitud;
+    }
+
+    private void vaciar() throws IOException {
+        salida.write(escritura, 0, usados);
+        usados = 0;
+    }
+
+    private void mostrarUso() {
+        System.err.println("Uso: --pipe <regla> [--validos | --invalidos] [--resumen] < entrada > salida");
+        System.err.println("Reglas disponibles: " + String.join(", ", controller.getIdsReglas()));
+    }
+}
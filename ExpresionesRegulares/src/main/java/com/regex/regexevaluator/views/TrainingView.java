@@ -0,0 +1,132 @@
+package com.regex.regexevaluator.views;
+
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.ByteValidation;
+import com.regex.regexevaluator.model.CatalogRule;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Ejecución de entrenamiento para un archivo AppCDS o una caché AOT: --entrenar [--rondas N]
+ * Valida ejemplos válidos e inválidos de todas las reglas por cada camino (cadenas,
+ * bytes ASCII, clasificador, extracción de texto y vocales) y termina, de modo que la
+ * JVM que registra la ejecución carga y enlaza las mismas clases que luego usan los
+ * procesos cortos. Las rondas adicionales le sirven a la caché AOT, que además guarda
+ * los perfiles de los métodos.
+ */
+public class TrainingView {
+
+    private static final int RONDAS_POR_DEFECTO = 200;
+
+    /** Un ejemplo válido y uno inválido de cada regla propia. */
+    private static final String[][] EJEMPLOS = {
+            {"placa", "ABC123", "AB1234"},
+            {"codigo-postal", "050001", "060001"},
+            {"num-fijo", "6041234567", "6011234567"},
+            {"num-celular", "3001234567", "2001234567"},
+            {"email", "usuario@example.com", "usuario@example"},
+            {"fecha", "29/02/2024", "31/02/2023"},
+            {"hora-24", "23:59:59", "24:00:00"},
+            {"hora-12", "11:59:59 PM", "13:00:00 PM"},
+            {"variable-java", "miVariable_1", "1variable"},
+            {"url", "https://www.example.com/ruta", "http://"},
+            {"isbn", "978-3-16-148410-0", "978-3-16-148410-1"},
+            {"codigo-barras", "7701234567897", "7701234567891"},
+            {"nombre-apellido", "Juan Pérez", "Juan 123"},
+            {"contrasena", "Clave$egura1", "clave"},
+            {"ciclo-for", "for (int i = 0; i < n; i++) {", "while (true) {"},
+            {"numero-double", "-3.14e10", "3.14.15"},
+            {"ley-decreto-articulo", "Ley 100 de 1993", "Ley cien"},
+            {"referencia-ieee", "[1] A. Turing, \"Computing machinery\", Mind Journal, Oxford: Oxford Press, 1950.",
+                    "[1] Turing, Computing machinery"},
+            {"referencia-apa", "Martin, R. C. (2008). Clean code. Prentice Hall.", "Martin (2008) Clean code"},
+            {"precio-producto", "$1.250.000,50", "$1.25"},
+    };
+    private static final String[] PALABRAS = {"teatro", "día", "buey", "ciudad", "libro"};
+    private static final String TEXTO = "Llame al 6041234567 o al 3001234567, escriba a usuario@example.com; "
+            + "vehículo ABC123, código 050001, producto 7701234567897 por $1.250.000,50 según la Ley 100 de 1993.";
+
+    private final RegexController controller;
+    private long validaciones;
+    private long fragmentos;
+
+    public TrainingView(RegexController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Interpreta los argumentos y recorre los caminos de validación.
+     * @param args Argumentos del programa, empezando por "--entrenar".
+     * @return 0 si el entrenamiento terminó, 1 si hubo un error.
+     */
+    public int ejecutar(String[] args) {
+        int rondas = RONDAS_POR_DEFECTO;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--rondas" -> rondas = Integer.parseInt(args[++i]);
+                    default -> throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                }
+            }
+            if (rondas <= 0) {
+                throw new IllegalArgumentException("El número de rondas debe ser positivo.");
+            }
+            long inicio = System.nanoTime();
+            for (int ronda = 0; ronda < rondas; ronda++) {
+                recorrer();
+            }
+            System.err.printf("Entrenamiento: %d validaciones y %d fragmentos en %d rondas, %d ms%n",
+                    validaciones, fragmentos, rondas, (System.nanoTime() - inicio) / 1_000_000);
+            return 0;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Uso: --entrenar [--rondas N]");
+            return 1;
+        } catch (IOException e) {
+            System.err.println("Error de entrada/salida: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private void recorrer() throws IOException {
+        for (String id : controller.getIdsReglas()) {
+            Predicate<String> validacion = controller.obtenerValidacion(id);
+            ByteValidation validacionBytes = controller.obtenerValidacionAscii(id);
+            for (String ejemplo : ejemplos(id)) {
+                validacion.test(ejemplo);
+                if (validacionBytes != null) {
+                    byte[] bytes = ejemplo.getBytes(StandardCharsets.UTF_8);
+                    validacionBytes.test(bytes, 0, bytes.length);
+                }
+                controller.clasificar(ejemplo);
+                validaciones++;
+            }
+        }
+        for (String palabra : PALABRAS) {
+            controller.analizarVocales(palabra);
+            validaciones++;
+        }
+        controller.extraer(new StringReader(TEXTO), fragmento -> fragmentos++);
+    }
+
+    /** @return Los ejemplos de una regla propia, o los que declara una regla del catálogo. */
+    private List<String> ejemplos(String id) {
+        for (String[] ejemplo : EJEMPLOS) {
+            if (ejemplo[0].equals(id)) {
+                return List.of(ejemplo[1], ejemplo[2]);
+            }
+        }
+        List<String> ejemplos = new ArrayList<>();
+        CatalogRule regla = controller.getCatalogo().obtener(id);
+        if (regla != null) {
+            ejemplos.addAll(regla.getValidos());
+            ejemplos.addAll(regla.getInvalidos());
+        }
+        return ejemplos;
+    }
+}
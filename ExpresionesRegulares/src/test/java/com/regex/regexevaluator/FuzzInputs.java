@@ -0,0 +1,106 @@
+package com.regex.regexevaluator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generador de entradas para las pruebas de equivalencia: muta ejemplos válidos
+ * (reemplaza, inserta, borra o duplica caracteres) y agrega cadenas al azar. Con la
+ * misma semilla genera siempre las mismas entradas, así que un fallo se puede repetir.
+ */
+public final class FuzzInputs {
+
+    /** Posición en la que empieza la entrada dentro de {@link #enBytes}. */
+    public static final int DESPLAZAMIENTO = 2;
+
+    /**
+     * Caracteres que se insertan o reemplazan. Los dígitos y los separadores se repiten
+     * para que las mutaciones caigan cerca de los límites de los formatos fijos.
+     */
+    private static final int[] ALFABETO = ("0123456789012345678901234567890123456789"
+            + "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz"
+            + " //::..,,--++eE$@%*?&!_()[]{};\"'#\t\n\r"
+            + "áéíóúÁÉÍÓÚñÑ\u00A0\u0660\uFF10\uD83D\uDE00\uD835\uDFCE").codePoints().toArray();
+
+    private final Random random;
+
+    public FuzzInputs(long semilla) {
+        this.random = new Random(semilla);
+    }
+
+    /**
+     * @param semillas Ejemplos de los que se parte.
+     * @param cantidad Cuántas entradas generar.
+     * @return Los ejemplos tal cual, mutaciones de ellos y algunas cadenas al azar.
+     */
+    public List<String> generar(List<String> semillas, int cantidad) {
+        List<String> entradas = new ArrayList<>(semillas);
+        while (entradas.size() < cantidad) {
+            if (random.nextInt(10) == 0) {
+                entradas.add(aleatoria(24));
+            } else {
+                entradas.add(mutar(semillas.get(random.nextInt(semillas.size()))));
+            }
+        }
+        return entradas;
+    }
+
+    /** Aplica de una a tres mutaciones a la cadena. */
+    public String mutar(String base) {
+        StringBuilder texto = new StringBuilder(base);
+        int mutaciones = 1 + random.nextInt(3);
+        for (int m = 0; m < mutaciones; m++) {
+            int posicion = texto.isEmpty() ? 0 : random.nextInt(texto.length());
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    if (!texto.isEmpty()) {
+                        texto.replace(posicion, posicion + 1, caracter());
+                    }
+                }
+                case 1 -> texto.insert(posicion, caracter());
+                case 2 -> {
+                    if (!texto.isEmpty()) {
+                        texto.deleteCharAt(posicion);
+                    }
+                }
+                default -> {
+                    if (!texto.isEmpty()) {
+                        texto.insert(posicion, texto.charAt(posicion));
+                    }
+                }
+            }
+        }
+        return texto.toString();
+    }
+
+    /** @return Una cadena de hasta maxLongitud caracteres del alfabeto. */
+    public String aleatoria(int maxLongitud) {
+        StringBuilder texto = new StringBuilder();
+        int longitud = random.nextInt(maxLongitud + 1);
+        for (int i = 0; i < longitud; i++) {
+            texto.append(caracter());
+        }
+        return texto.toString();
+    }
+
+    /**
+     * Codifica la entrada en UTF-8 entre bytes de relleno, para probar que las
+     * validaciones sobre bytes respetan el desplazamiento y la longitud.
+     *
+     * @return Los bytes; la entrada empieza en {@link #DESPLAZAMIENTO}.
+     */
+    public static byte[] enBytes(String entrada) {
+        return ("#9" + entrada + "0#").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** @return La longitud en bytes de la entrada dentro de {@link #enBytes}. */
+    public static int longitudEnBytes(String entrada) {
+        return entrada.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private String caracter() {
+        return Character.toString(ALFABETO[random.nextInt(ALFABETO.length)]);
+    }
+}
@@ -0,0 +1,52 @@
+package com.regex.regexevaluator.controller;
+
+import com.regex.regexevaluator.model.PasswordPolicy;
+import com.regex.regexevaluator.model.RuleCatalog;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CachingRegexControllerTest {
+
+    private static RuleCatalog catalogo(String expresion) throws IOException {
+        return RuleCatalog.leer(new StringReader("[codigo]\nexpresion = " + expresion + "\n"), "prueba");
+    }
+
+    private static CachingRegexController crear(RegexController controller) {
+        return new CachingRegexController(controller,
+                new ResultCache.Config(1_000, ResultCache.Politica.LRU, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void recargarElCatalogoDescartaLosResultadosAnteriores() throws IOException {
+        RegexController controller = new RegexController();
+        controller.setCatalogo(catalogo("^\\d{3}$"));
+        CachingRegexController cache = crear(controller);
+        assertTrue(cache.validar("codigo", "123"));
+        assertTrue(cache.validar("codigo", "123"));
+        assertEquals(1, cache.getCache().getAciertos());
+
+        controller.setCatalogo(catalogo("^\\d{4}$"));
+        assertFalse(cache.validar("codigo", "123"));
+        assertTrue(cache.validar("codigo", "1234"));
+    }
+
+    @Test
+    void cambiarLaPoliticaDeContrasenasDescartaLosResultadosAnteriores() {
+        RegexController controller = new RegexController();
+        CachingRegexController cache = crear(controller);
+        assertTrue(cache.validar("contrasena", "Clave123!"));
+        assertTrue(cache.validar("contrasena", "Clave123!"));
+        assertEquals(1, cache.getCache().getAciertos());
+
+        controller.setPoliticaContrasena(PasswordPolicy.POR_DEFECTO.conLongitudMaxima(8));
+        assertFalse(cache.validar("contrasena", "Clave123!"));
+        assertTrue(cache.validar("contrasena", "Clave12!"));
+    }
+}
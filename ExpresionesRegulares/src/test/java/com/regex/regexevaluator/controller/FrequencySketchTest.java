@@ -0,0 +1,51 @@
+package com.regex.regexevaluator.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FrequencySketchTest {
+
+    @Test
+    void losContadoresSaturanEnQuince() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        for (int i = 0; i < 40; i++) {
+            sketch.incrementar(42);
+        }
+        assertEquals(15, sketch.frecuencia(42));
+    }
+
+    @Test
+    void nuncaSubestimaAntesDeEnvejecer() {
+        FrequencySketch sketch = new FrequencySketch(1_000);
+        Random random = new Random(7);
+        int[] conteos = new int[200];
+        // Menos accesos que la muestra (10 x capacidad), para que no se dividan.
+        for (int i = 0; i < 5_000; i++) {
+            int clave = random.nextInt(conteos.length);
+            conteos[clave]++;
+            sketch.incrementar(Integer.hashCode(clave * 0x9E3779B9));
+        }
+        for (int clave = 0; clave < conteos.length; clave++) {
+            int estimado = sketch.frecuencia(Integer.hashCode(clave * 0x9E3779B9));
+            assertTrue(estimado >= Math.min(15, conteos[clave]), "clave " + clave);
+        }
+    }
+
+    @Test
+    void envejecerDivideLosContadoresALaMitad() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 12; i++) {
+            sketch.incrementar(1);
+        }
+        assertEquals(12, sketch.frecuencia(1));
+        // La muestra es de 160 accesos: los demás hash completan la muestra y provocan la división.
+        for (int i = 0; i < 148; i++) {
+            sketch.incrementar(1_000 + i);
+        }
+        assertTrue(sketch.frecuencia(1) <= 7, "tras envejecer: " + sketch.frecuencia(1));
+    }
+}
@@ -0,0 +1,51 @@
+package com.regex.regexevaluator.controller;
+
+import com.regex.regexevaluator.FuzzInputs;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiRuleEvaluatorTest {
+
+    private static final List<String> REGLAS = List.of("email", "num-fijo", "num-celular", "codigo-postal");
+
+    private final RegexController controller = new RegexController();
+
+    @Test
+    void lasCoincidenciasSonLasDeCadaRegla() {
+        MultiRuleEvaluator evaluador = controller.crearEvaluadorMultiple(REGLAS);
+        List<String> entradas = new FuzzInputs(51).generar(
+                List.of("3001234567", "6041234567", "050001", "ana@correo.com"), 50_000);
+        for (String entrada : entradas) {
+            Set<String> esperadas = new LinkedHashSet<>();
+            for (String regla : REGLAS) {
+                if (controller.obtenerValidacion(regla).test(entrada)) {
+                    esperadas.add(regla);
+                }
+            }
+            assertEquals(esperadas, evaluador.coincidencias(entrada), entrada);
+            String primera = evaluador.primeraCoincidencia(entrada);
+            assertEquals(!esperadas.isEmpty(), primera != null, entrada);
+            assertTrue(primera == null || esperadas.contains(primera), entrada);
+        }
+    }
+
+    @Test
+    void laReglaQueMasCoincidePasaAlPrincipio() {
+        MultiRuleEvaluator evaluador = controller.crearEvaluadorMultiple(REGLAS);
+        // Unas 1500 muestras: varios reordenamientos.
+        for (int i = 0; i < 100_000; i++) {
+            assertEquals("num-celular", evaluador.primeraCoincidencia("3001234567"));
+        }
+        assertEquals("num-celular", evaluador.getOrden().get(0));
+        MultiRuleEvaluator.EstadisticaRegla celular = evaluador.getEstadisticas().get(2);
+        // Los contadores se dividen a la mitad en cada reordenamiento.
+        assertTrue(celular.evaluadas() < 2 * MultiRuleEvaluator.MUESTRAS_POR_REORDEN, celular.toString());
+        assertEquals(1.0, celular.getTasaCoincidencia());
+    }
+}
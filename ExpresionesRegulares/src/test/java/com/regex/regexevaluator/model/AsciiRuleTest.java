@@ -0,0 +1,93 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.controller.RegexController;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara las validaciones sobre bytes de {@link AsciiRule} (arreglo, fragmento de un
+ * buffer en heap y buffer directo) y las versiones sobre CharSequence con la validación
+ * sobre String de cada regla, en entradas mutadas en ASCII y en UTF-8.
+ */
+class AsciiRuleTest {
+
+    private static final int ENTRADAS = 50_000;
+
+    private static final Map<String, List<String>> EJEMPLOS = Map.of(
+            "placa", List.of("ABC123", "XYZ999"),
+            "codigo-postal", List.of("050001", "059999"),
+            "num-fijo", List.of("6041234567"),
+            "num-celular", List.of("3001234567"),
+            "fecha", List.of("29/02/2024", "31/12/2023", "30/04/2023"),
+            "hora-24", List.of("23:59:59", "00:00:00"),
+            "hora-12", List.of("11:59:59 PM", "01:00:00 AM"),
+            "codigo-barras", List.of("7701234567897", "7700000000000"),
+            "numero-double", List.of("-3.14e10", ".5", "42", "+1E-3"));
+
+    private final RegexController controller = new RegexController();
+
+    @Test
+    void cadaReglaAsciiEstaCubierta() {
+        for (AsciiRule regla : AsciiRule.values()) {
+            assertTrue(EJEMPLOS.containsKey(regla.getId()), regla.getId());
+        }
+        assertEquals(AsciiRule.values().length, EJEMPLOS.size());
+    }
+
+    @Test
+    void losBytesEquivalenALaCadena() {
+        for (AsciiRule regla : AsciiRule.values()) {
+            Predicate<String> validacion = controller.obtenerValidacion(regla.getId());
+            List<String> entradas = new FuzzInputs(regla.ordinal()).generar(EJEMPLOS.get(regla.getId()), ENTRADAS);
+            for (String entrada : entradas) {
+                boolean esperado = validacion.test(entrada);
+                byte[] bytes = FuzzInputs.enBytes(entrada);
+                int desde = FuzzInputs.DESPLAZAMIENTO;
+                int longitud = FuzzInputs.longitudEnBytes(entrada);
+                String mensaje = regla.getId() + " con \"" + entrada + "\"";
+                assertEquals(esperado, regla.test(bytes, desde, longitud), mensaje);
+                assertEquals(esperado, controller.validarAscii(regla.getId(), bytes, desde, longitud), mensaje);
+
+                ByteBuffer heap = ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice();
+                assertEquals(esperado, regla.test(heap, desde - 1, longitud), mensaje + " (heap)");
+                ByteBuffer directo = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+                assertEquals(esperado, regla.test(directo, desde, longitud), mensaje + " (directo)");
+                assertEquals(0, directo.position(), "la posición no cambia");
+            }
+        }
+    }
+
+    @Test
+    void lasSecuenciasDeCaracteresEquivalenALaCadena() {
+        Map<String, Predicate<CharSequence>> porSecuencia = Map.of(
+                "placa", controller::validarPlacaDeCarro,
+                "codigo-postal", controller::validarCodPostal,
+                "num-fijo", controller::validarNumFijo,
+                "num-celular", controller::validarNumCelular,
+                "fecha", controller::validarFecha,
+                "hora-24", controller::validarHora24,
+                "hora-12", controller::validarHora12,
+                "codigo-barras", controller::validarCodigoBarrasColombia,
+                "numero-double", controller::validarNumeroDouble);
+        for (Map.Entry<String, Predicate<CharSequence>> regla : porSecuencia.entrySet()) {
+            Predicate<String> validacion = controller.obtenerValidacion(regla.getKey());
+            for (String entrada : new FuzzInputs(1).generar(EJEMPLOS.get(regla.getKey()), ENTRADAS / 5)) {
+                boolean esperado = validacion.test(entrada);
+                char[] relleno = ("#" + entrada + "#").toCharArray();
+                assertEquals(esperado, regla.getValue().test(CharBuffer.wrap(relleno, 1, entrada.length())),
+                        regla.getKey() + " con \"" + entrada + "\"");
+                assertEquals(esperado, regla.getValue().test(new StringBuilder(entrada)),
+                        regla.getKey() + " con \"" + entrada + "\"");
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.engine.EvaluationBudget;
+import com.regex.regexevaluator.model.engine.EvaluationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara {@link DateTimeParser}, sobre cadenas y sobre bytes, con {@link LocalDate} y
+ * {@link LocalTime}, y la validación con presupuesto de las fechas con la validación
+ * completa.
+ */
+class DateTimeParserTest {
+
+    private static final int ENTRADAS = 100_000;
+
+    private static final Pattern FECHA = Pattern.compile("([0-9]{2})/([0-9]{2})/([0-9]{4})");
+    private static final Pattern HORA_24 = Pattern.compile("([0-9]{2}):([0-9]{2}):([0-9]{2})");
+    private static final Pattern HORA_12 = Pattern.compile("([0-9]{2}):([0-9]{2}):([0-9]{2}) (AM|PM)");
+
+    @Test
+    void fechaEquivaleALocalDate() {
+        for (String fecha : fechas()) {
+            long esperado = referenciaFecha(fecha);
+            assertEquals(esperado, DateTimeParser.diaEpoca(fecha), () -> "\"" + fecha + "\"");
+            assertEquals(esperado, DateTimeParser.diaEpoca(FuzzInputs.enBytes(fecha), FuzzInputs.DESPLAZAMIENTO,
+                    FuzzInputs.longitudEnBytes(fecha)), () -> "\"" + fecha + "\" en bytes");
+        }
+    }
+
+    @Test
+    void hora24EquivaleALocalTime() {
+        List<String> horas = new FuzzInputs(21).generar(List.of("00:00:00", "14:30:00", "23:59:59", "24:00:00"), ENTRADAS);
+        for (String hora : horas) {
+            int esperado = referenciaHora(HORA_24.matcher(hora), false);
+            assertEquals(esperado, DateTimeParser.segundoDelDia24(hora), () -> "\"" + hora + "\"");
+            assertEquals(esperado, DateTimeParser.segundoDelDia24(FuzzInputs.enBytes(hora), FuzzInputs.DESPLAZAMIENTO,
+                    FuzzInputs.longitudEnBytes(hora)), () -> "\"" + hora + "\" en bytes");
+        }
+    }
+
+    @Test
+    void hora12EquivaleALocalTime() {
+        List<String> horas = new FuzzInputs(22).generar(
+                List.of("12:00:00 AM", "12:59:59 PM", "01:00:00 AM", "11:59:59 PM", "00:30:00 AM"), ENTRADAS);
+        for (String hora : horas) {
+            int esperado = referenciaHora(HORA_12.matcher(hora), true);
+            assertEquals(esperado, DateTimeParser.segundoDelDia12(hora), () -> "\"" + hora + "\"");
+            assertEquals(esperado, DateTimeParser.segundoDelDia12(FuzzInputs.enBytes(hora), FuzzInputs.DESPLAZAMIENTO,
+                    FuzzInputs.longitudEnBytes(hora)), () -> "\"" + hora + "\" en bytes");
+        }
+    }
+
+    @Test
+    void laValidacionConPresupuestoRevisaElCalendario() {
+        RegexController controller = new RegexController();
+        assertEquals(EvaluationResult.NO_COINCIDE,
+                controller.validarConPresupuesto("fecha", "31/02/2023", EvaluationBudget.SIN_LIMITE));
+        for (EvaluationMode modo : EvaluationMode.values()) {
+            controller.setModoEvaluacion("fecha", modo);
+            for (String fecha : fechas().subList(0, ENTRADAS / 10)) {
+                boolean esperado = controller.validarFecha(fecha);
+                assertEquals(esperado ? EvaluationResult.COINCIDE : EvaluationResult.NO_COINCIDE,
+                        controller.validarConPresupuesto("fecha", fecha, EvaluationBudget.SIN_LIMITE),
+                        () -> modo + " con \"" + fecha + "\"");
+            }
+        }
+    }
+
+    /** Todos los días y meses de dos dígitos de algunos años límite, seguidos de entradas mutadas. */
+    private static List<String> fechas() {
+        List<String> fechas = new ArrayList<>();
+        for (String anio : List.of("0000", "1900", "2000", "2023", "2024", "9999")) {
+            for (int mes = 0; mes < 14; mes++) {
+                for (int dia = 0; dia < 33; dia++) {
+                    fechas.add(String.format("%02d/%02d/%s", dia, mes, anio));
+                }
+            }
+        }
+        fechas.addAll(new FuzzInputs(20).generar(
+                List.of("29/02/2024", "29/02/2023", "31/04/2023", "31/12/1999", "01/01/0000"), ENTRADAS));
+        return fechas;
+    }
+
+    private static long referenciaFecha(String fecha) {
+        Matcher m = FECHA.matcher(fecha);
+        if (!m.matches()) {
+            return DateTimeParser.FECHA_INVALIDA;
+        }
+        try {
+            return LocalDate.of(Integer.parseInt(m.group(3)), Integer.parseInt(m.group(2)),
+                    Integer.parseInt(m.group(1))).toEpochDay();
+        } catch (DateTimeException e) {
+            return DateTimeParser.FECHA_INVALIDA;
+        }
+    }
+
+    private static int referenciaHora(Matcher m, boolean doceHoras) {
+        if (!m.matches()) {
+            return DateTimeParser.HORA_INVALIDA;
+        }
+        int horas = Integer.parseInt(m.group(1));
+        if (doceHoras) {
+            if (horas < 1 || horas > 12) {
+                return DateTimeParser.HORA_INVALIDA;
+            }
+            horas = horas % 12 + (m.group(4).equals("PM") ? 12 : 0);
+        }
+        try {
+            return LocalTime.of(horas, Integer.parseInt(m.group(2)), Integer.parseInt(m.group(3))).toSecondOfDay();
+        } catch (DateTimeException e) {
+            return DateTimeParser.HORA_INVALIDA;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.regex.regexevaluator.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que la validación vectorial de columnas acepta exactamente lo mismo que la
+ * escalar, en todos los formatos, con cualquier número de registros (también los que
+ * no llenan el último vector) y con códigos de barras de dígito de control errado.
+ */
+class DigitColumnValidatorTest {
+
+    private static final int COLUMNAS = 2_000;
+    private static final int MAXIMO_REGISTROS = 300;
+
+    private final DigitColumnValidator vectorial = DigitColumnValidator.crear();
+    private final DigitColumnValidator escalar = DigitColumnValidator.escalar();
+
+    @Test
+    void laVectorialSeCargaConElModulo() {
+        // Si no, la prueba compararía la escalar consigo misma.
+        assertEquals("vectorial", vectorial.getNombre());
+    }
+
+    @Test
+    void todosLosLargosDeColumnaDanLoMismo() {
+        Random azar = new Random(81);
+        for (DigitColumnFormat formato : DigitColumnFormat.values()) {
+            // Cada cantidad hasta varios vectores completos más una cola.
+            for (int registros = 0; registros <= 3 * 64 / formato.getAncho() + 2; registros++) {
+                for (int desde = 0; desde < 3; desde++) {
+                    comparar(columna(azar, formato, desde, registros, 0), desde, registros, formato);
+                    comparar(columna(azar, formato, desde, registros, 7), desde, registros, formato);
+                }
+            }
+        }
+    }
+
+    @Test
+    void columnasAleatoriasDanLoMismo() {
+        Random azar = new Random(82);
+        for (int i = 0; i < COLUMNAS; i++) {
+            DigitColumnFormat formato = DigitColumnFormat.values()[azar.nextInt(DigitColumnFormat.values().length)];
+            int registros = azar.nextInt(MAXIMO_REGISTROS);
+            int desde = azar.nextInt(formato.getAncho());
+            comparar(columna(azar, formato, desde, registros, azar.nextInt(2) * 64), desde, registros, formato);
+        }
+    }
+
+    @Test
+    void elDigitoDeControlErradoSeRechazaEnAmbas() {
+        Random azar = new Random(83);
+        DigitColumnFormat formato = DigitColumnFormat.CODIGO_BARRAS;
+        int registros = 100;
+        byte[] columna = new byte[registros * formato.getAncho()];
+        for (int i = 0; i < registros; i++) {
+            escribirValido(azar, formato, columna, i * formato.getAncho());
+            if (i % 2 == 1) {
+                int control = i * formato.getAncho() + formato.getAncho() - 1;
+                columna[control] = (byte) ('0' + (columna[control] - '0' + 1 + azar.nextInt(9)) % 10);
+            }
+        }
+        long[] esperado = new long[(registros + 63) / 64];
+        for (int i = 0; i < registros; i += 2) {
+            esperado[i >>> 6] |= 1L << i;
+        }
+        assertEquals(registros / 2, comparar(columna, 0, registros, formato));
+        long[] resultado = new long[esperado.length];
+        vectorial.validar(columna, 0, registros, formato, resultado);
+        assertArrayEquals(esperado, resultado);
+    }
+
+    /** @return El número de registros válidos, igual en ambas implementaciones. */
+    private int comparar(byte[] columna, int desde, int registros, DigitColumnFormat formato) {
+        long[] esperado = new long[(registros + 63) / 64];
+        long[] resultado = new long[esperado.length];
+        int validos = escalar.validar(columna, desde, registros, formato, esperado);
+        String descripcion = formato + ", " + registros + " registros desde " + desde + " en " + columna.length;
+        assertEquals(validos, vectorial.validar(columna, desde, registros, formato, resultado), descripcion);
+        assertArrayEquals(esperado, resultado, descripcion);
+        assertEquals(validos, vectorial.validar(columna, desde, registros, formato, null), descripcion);
+        return validos;
+    }
+
+    /**
+     * Crea una columna con registros válidos, con un byte cambiado o con el dígito de
+     * control errado, precedida de desde bytes y seguida de sobrante bytes cualesquiera.
+     */
+    private static byte[] columna(Random azar, DigitColumnFormat formato, int desde, int registros, int sobrante) {
+        int ancho = formato.getAncho();
+        byte[] columna = new byte[desde + registros * ancho + sobrante];
+        azar.nextBytes(columna);
+        for (int i = 0, posicion = desde; i < registros; i++, posicion += ancho) {
+            escribirValido(azar, formato, columna, posicion);
+            int cambio = azar.nextInt(4);
+            if (cambio == 1) {
+                // Justo fuera del rango de los dígitos o cualquier otro byte.
+                byte[] fuera = {'0' - 1, '9' + 1, (byte) azar.nextInt(256)};
+                columna[posicion + azar.nextInt(ancho)] = fuera[azar.nextInt(fuera.length)];
+            } else if (cambio == 2) {
+                columna[posicion + ancho - 1] = (byte) ('0' + azar.nextInt(10));
+            }
+        }
+        return columna;
+    }
+
+    /** Escribe un registro con el prefijo, dígitos y, si aplica, el dígito de control correcto. */
+    private static void escribirValido(Random azar, DigitColumnFormat formato, byte[] columna, int posicion) {
+        byte[] minimos = formato.minimos();
+        byte[] maximos = formato.maximos();
+        for (int j = 0; j < formato.getAncho(); j++) {
+            columna[posicion + j] = (byte) (minimos[j] + azar.nextInt(maximos[j] - minimos[j] + 1));
+        }
+        if (formato.requiereConfirmacion()) {
+            int control = posicion + formato.getAncho() - 1;
+            columna[control] = '0';
+            while (!formato.confirmar(columna, posicion)) {
+                columna[control]++;
+            }
+        }
+        assertTrue(formato.coincide(columna, posicion), () -> Arrays.toString(columna));
+    }
+}
@@ -0,0 +1,72 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara cada validador de {@link FastMatchers}, sobre cadenas y sobre bytes, con la
+ * expresión de {@link RegexRule} que reemplaza, en entradas mutadas a partir de
+ * ejemplos válidos.
+ */
+class FastMatchersTest {
+
+    private static final int ENTRADAS = 100_000;
+
+    /** Validación sobre un fragmento de bytes, como las sobrecargas de FastMatchers. */
+    private interface ValidacionBytes {
+        boolean test(byte[] b, int desde, int longitud);
+    }
+
+    @Test
+    void placaEquivaleALaExpresion() {
+        comparar(RegexRule.PLACA_CARRO, List.of("ABC123", "XYZ999", "AAA000"),
+                FastMatchers::esPlaca, FastMatchers::esPlaca);
+    }
+
+    @Test
+    void codigoPostalEquivaleALaExpresion() {
+        comparar(RegexRule.COD_POSTAL, List.of("050001", "055555", "059999"),
+                FastMatchers::esCodPostal, FastMatchers::esCodPostal);
+    }
+
+    @Test
+    void numeroFijoEquivaleALaExpresion() {
+        comparar(RegexRule.NUM_FIJO, List.of("6041234567", "6040000000"),
+                FastMatchers::esNumFijo, FastMatchers::esNumFijo);
+    }
+
+    @Test
+    void numeroCelularEquivaleALaExpresion() {
+        comparar(RegexRule.NUM_CELULAR, List.of("3001234567", "3219876543"),
+                FastMatchers::esNumCelular, FastMatchers::esNumCelular);
+    }
+
+    @Test
+    void codigoBarrasEquivaleALaExpresion() {
+        comparar(RegexRule.CODIGO_BARRAS, List.of("7701234567897", "7700000000000"),
+                FastMatchers::esCodigoBarras, FastMatchers::esCodigoBarras);
+    }
+
+    @Test
+    void numeroDoubleEquivaleALaExpresion() {
+        comparar(RegexRule.NUMERO_DOUBLE, List.of("3.14159", "-0.5", "+12", ".5e-3", "1E10", "42"),
+                RegexRule.NUMERO_DOUBLE::coincide, FastMatchers::esNumeroDouble);
+    }
+
+    private static void comparar(RegexRule regla, List<String> ejemplos, Predicate<CharSequence> validacion,
+                                 ValidacionBytes validacionBytes) {
+        List<String> entradas = new FuzzInputs(regla.ordinal()).generar(ejemplos, ENTRADAS);
+        for (String entrada : entradas) {
+            boolean esperado = regla.getPatron().matcher(entrada).matches();
+            assertEquals(esperado, validacion.test(entrada), () -> regla.getId() + " con \"" + entrada + "\"");
+            byte[] bytes = FuzzInputs.enBytes(entrada);
+            assertEquals(esperado, validacionBytes.test(bytes, FuzzInputs.DESPLAZAMIENTO,
+                    FuzzInputs.longitudEnBytes(entrada)), () -> regla.getId() + " en bytes con \"" + entrada + "\"");
+        }
+    }
+}
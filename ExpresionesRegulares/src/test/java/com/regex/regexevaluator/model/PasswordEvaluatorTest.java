@@ -0,0 +1,40 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara {@link PasswordEvaluator} con la expresión de {@link RegexRule#CONTRASENA}, con
+ * la política por defecto y con un tope de longitud.
+ */
+class PasswordEvaluatorTest {
+
+    private static final int ENTRADAS = 100_000;
+
+    private static final List<String> EJEMPLOS = List.of("Clave123!", "aB3$aB3$", "Zz9?Zz9?Zz9?Zz9?", "P@ssw0rd");
+
+    @Test
+    void laPoliticaPorDefectoEquivaleALaExpresion() {
+        PasswordEvaluator evaluador = new PasswordEvaluator(PasswordPolicy.POR_DEFECTO);
+        for (String contrasena : new FuzzInputs(31).generar(EJEMPLOS, ENTRADAS)) {
+            boolean esperado = RegexRule.CONTRASENA.getPatron().matcher(contrasena).matches();
+            assertEquals(esperado, evaluador.esSegura(contrasena), () -> "\"" + contrasena + "\"");
+            assertEquals(esperado, evaluador.evaluar(contrasena).esSegura(), () -> "evaluar \"" + contrasena + "\"");
+        }
+    }
+
+    @Test
+    void elTopeDeLongitudSeSumaALaExpresion() {
+        PasswordEvaluator evaluador = new PasswordEvaluator(PasswordPolicy.POR_DEFECTO.conLongitudMaxima(10));
+        for (String contrasena : new FuzzInputs(32).generar(EJEMPLOS, ENTRADAS)) {
+            boolean esperado = contrasena.length() <= 10
+                    && RegexRule.CONTRASENA.getPatron().matcher(contrasena).matches();
+            assertEquals(esperado, evaluador.esSegura(contrasena), () -> "\"" + contrasena + "\"");
+            assertEquals(esperado, evaluador.evaluar(contrasena).esSegura(), () -> "evaluar \"" + contrasena + "\"");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.engine.EvaluationBudget;
+import com.regex.regexevaluator.model.engine.EvaluationResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Compara {@link ProductCodeValidator} con una implementación de referencia escrita con
+ * expresiones regulares, y las distintas rutas de validación del código de barras
+ * colombiano entre sí.
+ */
+class ProductCodeValidatorTest {
+
+    private static final int ENTRADAS = 100_000;
+
+    private static final Pattern PREFIJO = Pattern.compile("^ISBN(-10|-13)?:?");
+    private static final Pattern CUERPO = Pattern.compile("[0-9](?:[- ]?[0-9])*(?:[- ]?X)?");
+
+    private final RegexController controller = new RegexController();
+
+    @Test
+    void detectarEquivaleALaReferencia() {
+        List<String> ejemplos = List.of("978-3-16-148410-0", "ISBN 978-0-306-40615-7", "ISBN-13: 9780306406157",
+                "0-306-40615-2", "ISBN-10: 0-8044-2957-X", "080442957X", "7701234567897", "4006381333931");
+        for (String codigo : new FuzzInputs(11).generar(ejemplos, ENTRADAS)) {
+            assertEquals(referencia(codigo), ProductCodeValidator.detectar(codigo), () -> "\"" + codigo + "\"");
+        }
+    }
+
+    @Test
+    void detectarTodosEnParaleloEquivaleADetectar() {
+        List<String> codigos = new FuzzInputs(12).generar(
+                List.of("9780306406157", "0-306-40615-2", "7701234567897"), ProductCodeValidator.UMBRAL_PARALELO * 2);
+        ProductCodeType[] esperados = codigos.stream().map(ProductCodeValidator::detectar).toArray(ProductCodeType[]::new);
+        assertArrayEquals(esperados, ProductCodeValidator.detectarTodos(codigos));
+    }
+
+    @Test
+    void lasRutasDelCodigoDeBarrasCoinciden() {
+        Random random = new Random(13);
+        for (int i = 0; i < ENTRADAS / 10; i++) {
+            StringBuilder codigo = new StringBuilder("770");
+            for (int d = 0; d < 10; d++) {
+                codigo.append((char) ('0' + random.nextInt(10)));
+            }
+            comprobarCodigoBarras(codigo.toString());
+        }
+        comprobarCodigoBarras("7701234567897");
+        comprobarCodigoBarras("7701234567890");
+        assertFalse(controller.validarCodigoBarrasColombia("7701234567890"));
+    }
+
+    private void comprobarCodigoBarras(String codigo) {
+        boolean esperado = sumaEan13(codigo) % 10 == 0;
+        String mensaje = "\"" + codigo + "\"";
+        assertEquals(esperado, controller.validarCodigoBarrasColombia(codigo), mensaje);
+        assertEquals(esperado, AsciiRule.CODIGO_BARRAS.test(FuzzInputs.enBytes(codigo),
+                FuzzInputs.DESPLAZAMIENTO, codigo.length()), mensaje + " en bytes");
+        assertEquals(esperado, controller.clasificar(codigo).contains("codigo-barras"), mensaje + " al clasificar");
+        assertEquals(esperado ? EvaluationResult.COINCIDE : EvaluationResult.NO_COINCIDE,
+                controller.validarConPresupuesto("codigo-barras", codigo, EvaluationBudget.SIN_LIMITE),
+                mensaje + " con presupuesto");
+    }
+
+    /** Detección escrita a partir de la descripción del formato, sin recorrer carácter a carácter. */
+    private static ProductCodeType referencia(String codigo) {
+        String resto = codigo;
+        String declarado = null;
+        Matcher prefijo = PREFIJO.matcher(codigo);
+        boolean conPrefijo = prefijo.find();
+        if (conPrefijo) {
+            declarado = prefijo.group(1);
+            resto = codigo.substring(prefijo.end());
+            int i = 0;
+            while (i < resto.length() && Character.isWhitespace(resto.charAt(i))) {
+                i++;
+            }
+            resto = resto.substring(i);
+        }
+        if (!CUERPO.matcher(resto).matches()) {
+            return ProductCodeType.INVALIDO;
+        }
+        String digitos = resto.replaceAll("[- ]", "");
+        ProductCodeType tipo = ProductCodeType.INVALIDO;
+        if (digitos.length() == 13 && digitos.indexOf('X') < 0 && sumaEan13(digitos) % 10 == 0) {
+            tipo = digitos.startsWith("978") || digitos.startsWith("979") ? ProductCodeType.ISBN_13 : ProductCodeType.EAN_13;
+        } else if (digitos.length() == 10 && sumaIsbn10(digitos) % 11 == 0) {
+            tipo = ProductCodeType.ISBN_10;
+        }
+        if (conPrefijo && (tipo == ProductCodeType.EAN_13
+                || "-10".equals(declarado) && tipo != ProductCodeType.ISBN_10
+                || "-13".equals(declarado) && tipo != ProductCodeType.ISBN_13)) {
+            return ProductCodeType.INVALIDO;
+        }
+        return tipo;
+    }
+
+    private static int sumaEan13(String digitos) {
+        int suma = 0;
+        for (int i = 0; i < 13; i++) {
+            suma += (digitos.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return suma;
+    }
+
+    private static int sumaIsbn10(String digitos) {
+        int suma = 0;
+        for (int i = 0; i < 10; i++) {
+            char c = digitos.charAt(i);
+            suma += (c == 'X' ? 10 : c - '0') * (10 - i);
+        }
+        return suma;
+    }
+}
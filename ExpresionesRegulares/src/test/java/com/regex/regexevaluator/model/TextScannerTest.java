@@ -0,0 +1,146 @@
+package com.regex.regexevaluator.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba las posiciones y el texto de los fragmentos que encuentra
+ * {@link TextScanner}, también cuando cruzan el borde de un bloque o la zona de
+ * {@link TextScanner#MAXIMO_COINCIDENCIA} caracteres que se conserva entre bloques.
+ */
+class TextScannerTest {
+
+    /** El tamaño de bloque de TextScanner. */
+    private static final int BLOQUE = 64 * 1024;
+    private static final int MAXIMO = TextScanner.MAXIMO_COINCIDENCIA;
+
+    /**
+     * Posiciones del texto donde cambia algo entre bloques: donde termina el primer
+     * bloque, hasta donde se revisa antes de leer más, donde termina lo leído y el
+     * límite de revisión del segundo bloque.
+     */
+    private static final int[] CORTES = {BLOQUE, BLOQUE + MAXIMO, BLOQUE + 2 * MAXIMO, 2 * BLOQUE + MAXIMO};
+
+    private static final List<TextMatch> FRAGMENTOS = List.of(
+            fragmento(TextScanner.Tipo.NUM_FIJO, "6041234567"),
+            fragmento(TextScanner.Tipo.NUM_CELULAR, "3001234567"),
+            fragmento(TextScanner.Tipo.EMAIL, "ana.perez@correo.com"),
+            fragmento(TextScanner.Tipo.EMAIL, "a".repeat(3000) + "@correo.com"),
+            fragmento(TextScanner.Tipo.PLACA, "ABC123"),
+            fragmento(TextScanner.Tipo.CODIGO_BARRAS, "7701234567897"),
+            fragmento(TextScanner.Tipo.LEY_DECRETO_ARTICULO, "Ley 100 de 1993, artículo 5"),
+            fragmento(TextScanner.Tipo.PRECIO_PRODUCTO, "$1.234.567,89"));
+
+    private final TextScanner scanner = new TextScanner();
+
+    @Test
+    void encuentraFragmentosConocidos() {
+        assertEquals(List.of(
+                        new TextMatch(TextScanner.Tipo.NUM_FIJO, 5, 15, "6041234567"),
+                        new TextMatch(TextScanner.Tipo.EMAIL, 24, 44, "ana.perez@correo.com")),
+                scanner.buscar("Tel. 6041234567, correo ana.perez@correo.com."));
+    }
+
+    @Test
+    void elCorreoEmpiezaDondeTerminaSuParteLocal() {
+        assertEquals(List.of(new TextMatch(TextScanner.Tipo.EMAIL, 10, 30, "ana.perez@correo.com")),
+                scanner.buscar("escriba a:ana.perez@correo.com"));
+        assertEquals(List.of(new TextMatch(TextScanner.Tipo.EMAIL, 1, 9, "ana@b.co")), scanner.buscar("(ana@b.co)"));
+        assertEquals(List.of(), scanner.buscar("sin correo: @correo.com"));
+    }
+
+    @Test
+    void losFragmentosNoSeSolapanYGanaElMasLargo() {
+        // El teléfono y el correo empiezan en el mismo lugar: gana el correo, que es más largo.
+        assertEquals(List.of(new TextMatch(TextScanner.Tipo.EMAIL, 0, 21, "6041234567@correo.com")),
+                scanner.buscar("6041234567@correo.com"));
+        // El celular empieza dentro del precio, que empieza antes.
+        assertEquals(List.of(new TextMatch(TextScanner.Tipo.PRECIO_PRODUCTO, 0, 11, "$3001234567")),
+                scanner.buscar("$3001234567"));
+        assertEquals(List.of(
+                        new TextMatch(TextScanner.Tipo.NUM_FIJO, 0, 10, "6041234567"),
+                        new TextMatch(TextScanner.Tipo.NUM_CELULAR, 11, 21, "3001234567")),
+                scanner.buscar("6041234567 3001234567"));
+    }
+
+    @Test
+    void unFragmentoDebeEstarSeparadoDeLetrasYDigitos() {
+        assertEquals(List.of(), scanner.buscar("56041234567"));
+        assertEquals(List.of(), scanner.buscar("6041234567x"));
+        assertEquals(List.of(), scanner.buscar("x6041234567"));
+        assertEquals(List.of(), scanner.buscar("ABC1234"));
+        assertEquals(List.of(new TextMatch(TextScanner.Tipo.PLACA, 1, 7, "ABC123")), scanner.buscar("(ABC123)"));
+    }
+
+    @Test
+    void losFragmentosQueCruzanElBordeDeUnBloqueSeEncuentran() {
+        for (int corte : CORTES) {
+            for (TextMatch fragmento : FRAGMENTOS) {
+                int longitud = fragmento.texto().length();
+                for (int antes : new int[]{0, 1, longitud / 2, longitud - 1, longitud, longitud + 1}) {
+                    int inicio = corte - antes;
+                    String texto = " ".repeat(inicio) + fragmento.texto() + " ".repeat(MAXIMO);
+                    assertEquals(List.of(en(fragmento, inicio)), scanner.buscar(texto),
+                            () -> fragmento.tipo() + " en " + inicio);
+                }
+            }
+        }
+    }
+
+    @Test
+    void unLectorQueEntregaUnCaracterALaVezDaLosMismosFragmentos() throws IOException {
+        for (int corte : CORTES) {
+            for (TextMatch fragmento : FRAGMENTOS) {
+                // Un número antes del fragmento, que cruza el corte por la mitad.
+                int inicio = corte - fragmento.texto().length() / 2;
+                String texto = "Tel. 6041234567" + " ".repeat(inicio - 15) + fragmento.texto() + ".";
+                List<TextMatch> esperados = List.of(
+                        new TextMatch(TextScanner.Tipo.NUM_FIJO, 5, 15, "6041234567"), en(fragmento, inicio));
+
+                List<TextMatch> encontrados = new ArrayList<>();
+                scanner.buscar(new LectorDeUnCaracter(texto), encontrados::add);
+                assertEquals(esperados, encontrados, () -> fragmento.tipo() + " en " + inicio);
+            }
+        }
+    }
+
+    private static TextMatch fragmento(TextScanner.Tipo tipo, String texto) {
+        return new TextMatch(tipo, 0, texto.length(), texto);
+    }
+
+    private static TextMatch en(TextMatch fragmento, long inicio) {
+        return new TextMatch(fragmento.tipo(), inicio, inicio + fragmento.texto().length(), fragmento.texto());
+    }
+
+    /** Entrega el texto de a un carácter por llamada, como un flujo lento. */
+    private static final class LectorDeUnCaracter extends Reader {
+        private final String texto;
+        private int posicion;
+
+        LectorDeUnCaracter(String texto) {
+            this.texto = texto;
+        }
+
+        @Override
+        public int read(char[] destino, int desde, int cantidad) {
+            if (posicion == texto.length()) {
+                return -1;
+            }
+            if (cantidad == 0) {
+                return 0;
+            }
+            destino[desde] = texto.charAt(posicion++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
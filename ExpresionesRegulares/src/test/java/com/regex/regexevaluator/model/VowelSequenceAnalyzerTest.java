@@ -0,0 +1,55 @@
+package com.regex.regexevaluator.model;
+
+import com.regex.regexevaluator.FuzzInputs;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Comprueba algunas palabras conocidas y que los métodos por lotes, en paralelo,
+ * devuelven lo mismo que {@link VowelSequenceAnalyzer#analizar} palabra por palabra.
+ */
+class VowelSequenceAnalyzerTest {
+
+    private static final List<String> PALABRAS = List.of("día", "baúl", "teatro", "chiita", "buey", "Uruguay",
+            "ciudad", "búho", "prohibir", "queso", "guiso", "pingüino", "rey", "reyes", "murciélago", "casa");
+
+    private final RegexValidator validator = new RegexValidator();
+
+    @Test
+    void clasificaPalabrasConocidas() {
+        assertEquals(List.of(new VowelSequence(VowelSequenceType.HIATO_ACENTUAL, 1, 3)),
+                VowelSequenceAnalyzer.analizar("día"));
+        assertEquals(List.of(new VowelSequence(VowelSequenceType.TRIPTONGO, 1, 4)),
+                VowelSequenceAnalyzer.analizar("buey"));
+        assertEquals(List.of(new VowelSequence(VowelSequenceType.HIATO_ACENTUAL, 1, 4)),
+                VowelSequenceAnalyzer.analizar("búho"));
+        assertEquals(List.of(), VowelSequenceAnalyzer.analizar("queso"));
+        assertEquals(List.of(new VowelSequence(VowelSequenceType.DIPTONGO, 4, 6)),
+                VowelSequenceAnalyzer.analizar("pingüino"));
+        assertEquals("Hiato Simple", validator.clasificarDiptongoHiato("teatro"));
+        assertEquals(RegexValidator.SIN_SECUENCIA_VOCALICA, validator.clasificarDiptongoHiato("casa"));
+    }
+
+    @Test
+    void losLotesEnParaleloEquivalenAAnalizarCadaPalabra() {
+        List<String> palabras = new FuzzInputs(41).generar(PALABRAS, VowelSequenceAnalyzer.UMBRAL_PARALELO * 2);
+        List<List<VowelSequence>> todas = VowelSequenceAnalyzer.analizarTodos(palabras);
+        long[] esperados = new long[VowelSequenceType.values().length];
+        assertEquals(palabras.size(), todas.size());
+        for (int i = 0; i < palabras.size(); i++) {
+            List<VowelSequence> secuencias = VowelSequenceAnalyzer.analizar(palabras.get(i));
+            assertEquals(secuencias, todas.get(i), palabras.get(i));
+            int mascara = 0;
+            for (VowelSequence secuencia : secuencias) {
+                esperados[secuencia.tipo().ordinal()]++;
+                mascara |= 1 << secuencia.tipo().ordinal();
+            }
+            assertEquals(mascara, VowelSequenceAnalyzer.tipos(palabras.get(i)), palabras.get(i));
+        }
+        assertArrayEquals(esperados, VowelSequenceAnalyzer.contarTodos(palabras));
+    }
+}
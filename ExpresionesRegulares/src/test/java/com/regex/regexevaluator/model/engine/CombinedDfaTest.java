@@ -0,0 +1,126 @@
+package com.regex.regexevaluator.model.engine;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.model.RegexRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara la máscara de {@link CombinedDfa} con {@code Pattern.matcher(x).matches()}
+ * de cada regla, para las reglas incluidas y para expresiones como las de un catálogo,
+ * con entradas aleatorias y casos límite (cadena vacía, caracteres fuera del plano
+ * básico, mayúsculas y minúsculas).
+ */
+class CombinedDfaTest {
+
+    private static final int ENTRADAS = 20_000;
+
+    /** Expresiones al estilo de reglas.catalogo, algunas sin distinguir mayúsculas. */
+    private static final List<Pattern> CATALOGO = List.of(
+            Pattern.compile("^[A-Z]{3}\\d{2}[A-Z]$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("^\\d{9}-\\d$"),
+            Pattern.compile("^\\d{6,10}$"),
+            Pattern.compile("^\\d{1,2}\\.\\d{3}\\.\\d{3}-[\\dkK]$"),
+            Pattern.compile("^(\\+34 ?)?[6789]\\d{8}$"),
+            Pattern.compile("^ES\\d{2}( ?\\d{4}){5}$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("^[a-zñ]+(-[a-zñ]+)*$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("^[^@\\s]+@[^@\\s]+$"),
+            Pattern.compile("^.*$"),
+            Pattern.compile("^(ab|a.)c?$"),
+            Pattern.compile("^.{1,3}$"),
+            Pattern.compile("^[^x]{2}\\W?$"),
+            Pattern.compile("^$"));
+
+    private static final List<String> EJEMPLOS = List.of("ABC12D", "abc12d", "900123456-7", "1234567",
+            "12.345.678-k", "+34 612345678", "es91 2100 0418 4502 0005 1332", "ES9121000418450200051332",
+            "peña-Ñandú", "ana.perez@correo.com", "a😀c", "abc", "3001234567", "29/02/2024", "11:59:59 PM",
+            "https://www.ejemplo.com/a b", "$1.234.567,89", "María José", "-3.14e10");
+
+    /** Incluye sustitutos sueltos, que java.util.regex cuenta como un carácter cada uno. */
+    private static final List<String> LIMITES = List.of("", "😀", "😀😀", "a😀", "😀@😀", "peña😀", "😀\uDE00",
+            "\uD83D", "\uDE00", "a\uD83D", "\uDE00\uD83D", "\uFFFF", "K", "k", "ÑANDÚ", "ñandú", "abc12D", "aBc",
+            "ac", "a\nc");
+
+    private static List<Pattern> reglasCompatibles() {
+        List<Pattern> patrones = new ArrayList<>();
+        for (RegexRule regla : RegexRule.values()) {
+            if (CombinedDfa.esCompatible(regla.getPatron())) {
+                patrones.add(regla.getPatron());
+            }
+        }
+        return patrones;
+    }
+
+    @Test
+    void lasReglasIncluidasCoincidenConJavaUtilRegex() {
+        List<Pattern> patrones = reglasCompatibles();
+        assertFalse(patrones.isEmpty());
+        comprobar(patrones, entradas(71));
+    }
+
+    @Test
+    void lasExpresionesDeCatalogoCoincidenConJavaUtilRegex() {
+        CATALOGO.forEach(patron -> assertTrue(CombinedDfa.esCompatible(patron), patron.pattern()));
+        comprobar(CATALOGO, entradas(72));
+    }
+
+    @Test
+    void todasJuntasEnUnSoloAutomata() {
+        List<Pattern> patrones = new ArrayList<>(reglasCompatibles());
+        patrones.addAll(CATALOGO);
+        comprobar(patrones, entradas(73));
+    }
+
+    @Test
+    void laCadenaVaciaSoloCoincideConLasQueLaAceptan() {
+        CombinedDfa automata = CombinedDfa.compilar(CATALOGO);
+        long esperada = 0;
+        for (int i = 0; i < CATALOGO.size(); i++) {
+            if (CATALOGO.get(i).matcher("").matches()) {
+                esperada |= 1L << i;
+            }
+        }
+        assertEquals(esperada, automata.coincidencias(""));
+        assertTrue(esperada != 0);
+    }
+
+    @Test
+    void lasExpresionesNoRegularesSeRechazan() {
+        assertFalse(CombinedDfa.esCompatible(Pattern.compile("^(?=a)a$")));
+        assertFalse(CombinedDfa.esCompatible(Pattern.compile("^(a)\\1$")));
+        assertFalse(CombinedDfa.esCompatible(Pattern.compile("^a*?b$")));
+        assertThrows(UnsupportedRegexException.class,
+                () -> CombinedDfa.compilar(List.of(Pattern.compile("^a$"), RegexRule.CONTRASENA.getPatron())));
+        List<Pattern> demasiadas = new ArrayList<>();
+        for (int i = 0; i <= CombinedDfa.MAXIMO_REGLAS; i++) {
+            demasiadas.add(Pattern.compile("^a{" + i + "}$"));
+        }
+        assertThrows(IllegalArgumentException.class, () -> CombinedDfa.compilar(demasiadas));
+    }
+
+    private static List<String> entradas(long semilla) {
+        List<String> entradas = new ArrayList<>(LIMITES);
+        entradas.addAll(new FuzzInputs(semilla).generar(EJEMPLOS, ENTRADAS));
+        return entradas;
+    }
+
+    private static void comprobar(List<Pattern> patrones, List<String> entradas) {
+        CombinedDfa automata = CombinedDfa.compilar(patrones);
+        for (String entrada : entradas) {
+            long mascara = automata.coincidencias(entrada);
+            for (int i = 0; i < patrones.size(); i++) {
+                Pattern patron = patrones.get(i);
+                boolean esperado = patron.matcher(entrada).matches();
+                assertEquals(esperado, (mascara & 1L << i) != 0, () -> patron.pattern() + " con \"" + entrada + "\"");
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.regex.regexevaluator.model.engine;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.model.RegexRule;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara {@link PikeVm} con java.util.regex y comprueba que el presupuesto detiene
+ * a tiempo las entradas adversarias.
+ */
+class PikeVmTest {
+
+    private static final int ENTRADAS = 20_000;
+
+    /** Margen sobre el presupuesto: el reloj solo se consulta cada cierto número de pasos. */
+    private static final Duration MARGEN = Duration.ofSeconds(2);
+
+    private static final List<Pattern> PATRONES = List.of(
+            Pattern.compile("^(a|ab)*c$"),
+            Pattern.compile("^(a*)*b$"),
+            Pattern.compile("^x.*?y.*?z$"),
+            Pattern.compile("^.{1,3}$"),
+            Pattern.compile("^[^@\\s]+@\\S+$"),
+            Pattern.compile("^(\\w+\\s?)+$"),
+            Pattern.compile("^[a-zñ]{2,}\\d{0,2}$", Pattern.CASE_INSENSITIVE),
+            Pattern.compile("^$"));
+
+    private static final List<String> EJEMPLOS = List.of("ababc", "aaab", "x1y2z", "a😀c", "ana@correo.com",
+            "hola mundo", "Ñandú12", "for (int i = 0; i < n; i++) {", "https://www.ejemplo.com/a b", "-3.14e10",
+            "Perez, J. (2020). Titulo del libro. Editorial Universidad.", "$1.234.567,89");
+
+    private static final List<String> LIMITES = List.of("", "😀", "😀😀", "a😀", "😀@😀", "\uD83D", "\uDE00",
+            "a\uD83D", "\uDE00\uD83D", "x😀y😀z", "ÑANDÚ", "aBC");
+
+    /**
+     * Entradas adversarias de benchmarks/Corpus. Con java.util.regex, la de url hace un
+     * trabajo cuadrático y las de ciclo-for uno cúbico (cientos de milisegundos).
+     */
+    private static final List<Map.Entry<RegexRule, String>> ADVERSARIAS = List.of(
+            Map.entry(RegexRule.URL, "http://a.com/" + "a/".repeat(64) + "!"),
+            Map.entry(RegexRule.CICLO_FOR, "for(" + ";".repeat(512)),
+            Map.entry(RegexRule.CICLO_FOR, "for (" + "; ".repeat(512)));
+
+    /** Pasos por carácter de la entrada que se permiten en las pruebas de presupuesto. */
+    private static final int PASOS_POR_CARACTER = 10;
+
+    @Test
+    void lasReglasIncluidasCoincidenConJavaUtilRegex() {
+        int lineales = 0;
+        for (RegexRule regla : RegexRule.values()) {
+            PikeVm motor = compilarLineal(regla.getPatron());
+            if (motor != null) {
+                lineales++;
+                comprobar(regla.getPatron(), motor, entradas(regla.ordinal()));
+            }
+        }
+        assertTrue(lineales > 0);
+    }
+
+    @Test
+    void otrasExpresionesCoincidenConJavaUtilRegex() {
+        for (Pattern patron : PATRONES) {
+            comprobar(patron, PikeVm.compilar(patron), entradas(patron.pattern().hashCode()));
+        }
+    }
+
+    @Test
+    void losLookaroundsSeRechazan() {
+        assertThrows(UnsupportedRegexException.class, () -> PikeVm.compilar(Pattern.compile("^(?=.*\\d)\\w+$")));
+        assertThrows(UnsupportedRegexException.class, () -> PikeVm.compilar(Pattern.compile("^\\w+(?<!_)$")));
+        assertThrows(UnsupportedRegexException.class, () -> PikeVm.compilar(RegexRule.CONTRASENA.getPatron()));
+    }
+
+    @Test
+    void lasEntradasAdversariasNoDetienenAlMotorLineal() {
+        assertTimeoutPreemptively(MARGEN, () -> {
+            for (Map.Entry<RegexRule, String> adversaria : ADVERSARIAS) {
+                PikeVm motor = adversaria.getKey().getMotorLineal();
+                assertEquals(EvaluationResult.NO_COINCIDE, motor.evaluar(adversaria.getValue(), EvaluationBudget.SIN_LIMITE));
+                assertEquals(EvaluationResult.TIEMPO_AGOTADO,
+                        motor.evaluar(adversaria.getValue(), EvaluationBudget.dePasos(100)));
+            }
+        });
+    }
+
+    @Test
+    void elPresupuestoDePasosDetieneAlMotorDeRetroceso() {
+        for (Map.Entry<RegexRule, String> adversaria : ADVERSARIAS) {
+            EvaluationBudget presupuesto = EvaluationBudget.dePasos((long) PASOS_POR_CARACTER * adversaria.getValue().length());
+            assertEquals(EvaluationResult.TIEMPO_AGOTADO, adversaria.getKey().evaluar(adversaria.getValue(), presupuesto),
+                    adversaria.getKey().getId());
+        }
+    }
+
+    @Test
+    void elPresupuestoDeTiempoDetieneAlMotorDeRetroceso() {
+        Duration presupuesto = Duration.ofMillis(20);
+        for (Map.Entry<RegexRule, String> adversaria : ADVERSARIAS) {
+            if (adversaria.getKey() != RegexRule.CICLO_FOR) {
+                continue;
+            }
+            EvaluationResult resultado = assertTimeoutPreemptively(presupuesto.plus(MARGEN),
+                    () -> adversaria.getKey().evaluar(adversaria.getValue(), EvaluationBudget.deTiempo(presupuesto)));
+            assertEquals(EvaluationResult.TIEMPO_AGOTADO, resultado, adversaria.getValue());
+        }
+    }
+
+    private static List<String> entradas(long semilla) {
+        List<String> entradas = new ArrayList<>(LIMITES);
+        entradas.addAll(new FuzzInputs(semilla).generar(EJEMPLOS, ENTRADAS));
+        return entradas;
+    }
+
+    private static void comprobar(Pattern patron, PikeVm motor, List<String> entradas) {
+        for (String entrada : entradas) {
+            boolean esperado = patron.matcher(entrada).matches();
+            assertEquals(esperado, motor.coincide(entrada), () -> patron.pattern() + " con \"" + entrada + "\"");
+            assertEquals(esperado ? EvaluationResult.COINCIDE : EvaluationResult.NO_COINCIDE,
+                    motor.evaluar(entrada, EvaluationBudget.SIN_LIMITE), () -> patron.pattern() + " con \"" + entrada + "\"");
+        }
+    }
+
+    private static PikeVm compilarLineal(Pattern patron) {
+        try {
+            return PikeVm.compilar(patron);
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+}
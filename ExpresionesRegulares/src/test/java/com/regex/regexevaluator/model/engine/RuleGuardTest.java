@@ -0,0 +1,80 @@
+package com.regex.regexevaluator.model.engine;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.model.RegexRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Comprueba que {@link RuleGuard} nunca descarta una entrada que la expresión acepta,
+ * incluidas las que tienen caracteres fuera del plano básico (pares sustitutos) y
+ * mitades sueltas de un par.
+ */
+class RuleGuardTest {
+
+    private static final int ENTRADAS = 20_000;
+
+    private static final List<Pattern> PATRONES = List.of(
+            Pattern.compile("^.{1,3}$"),
+            Pattern.compile("^a.b$"),
+            Pattern.compile("^[^x]{2}$"),
+            Pattern.compile("^\\D{1,2}\\d$"),
+            Pattern.compile("^\\S\\s?\\W$"),
+            Pattern.compile("^[\\w\\D]{2}$"),
+            Pattern.compile("^[^\\W]{2,4}$"),
+            Pattern.compile("^(ab|a.)c$"),
+            Pattern.compile("^x[^y]*z$"),
+            Pattern.compile("^[^\\x00-\\uFFFE]$"),
+            Pattern.compile("^ISBN(-1[03])?:?.{0,2}\\d$"),
+            Pattern.compile("^a.?B$", Pattern.CASE_INSENSITIVE));
+
+    private static final List<String> EJEMPLOS = List.of("ab", "abc", "a😀b", "😀😀",
+            "x😀z", "😀𝟎1", "ISBN-10:😀5", "aXb", "\uFFFF", "1😀2");
+
+    @Test
+    void admiteCaracteresFueraDelPlanoBasico() {
+        assertTrue(RuleGuard.de(Pattern.compile("^.{1,3}$")).admite("😀😀"));
+        assertEquals(6, RuleGuard.de(Pattern.compile("^.{1,3}$")).getLongitudMaxima());
+        assertEquals(3, RuleGuard.de(Pattern.compile("^[a-c]{1,3}$")).getLongitudMaxima());
+        assertTrue(RuleGuard.de(Pattern.compile("^[^\\x00-\\uFFFE]$")).admite("😀"));
+    }
+
+    @Test
+    void losParesSustitutosEnLaExpresionNoSeAnalizan() {
+        RuleGuard filtro = RuleGuard.de(Pattern.compile("^😀{2}$"));
+        assertTrue(filtro.esTrivial());
+        assertTrue(filtro.admite("😀😀"));
+        assertTrue(RuleGuard.de(Pattern.compile("^\\uD83D\\uDE00{2}$")).esTrivial());
+    }
+
+    @Test
+    void nuncaDescartaUnaCoincidencia() {
+        for (Pattern patron : PATRONES) {
+            RuleGuard filtro = RuleGuard.de(patron);
+            assertFalse(filtro.esTrivial(), patron.pattern());
+            comprobar(patron, filtro, new FuzzInputs(patron.pattern().hashCode()).generar(EJEMPLOS, ENTRADAS));
+        }
+    }
+
+    @Test
+    void nuncaDescartaUnaCoincidenciaDeLasReglasIncluidas() {
+        for (RegexRule regla : RegexRule.values()) {
+            List<String> entradas = new FuzzInputs(regla.ordinal()).generar(EJEMPLOS, ENTRADAS);
+            comprobar(regla.getPatron(), regla.getFiltro(), entradas);
+        }
+    }
+
+    private static void comprobar(Pattern patron, RuleGuard filtro, List<String> entradas) {
+        for (String entrada : entradas) {
+            if (patron.matcher(entrada).matches()) {
+                assertTrue(filtro.admite(entrada), () -> patron.pattern() + " (" + filtro + ") con \"" + entrada + "\"");
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.regex.regexevaluator.model.engine;
+
+import com.regex.regexevaluator.FuzzInputs;
+import com.regex.regexevaluator.controller.RegexController;
+import com.regex.regexevaluator.model.RegexRule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Comprueba que una {@link RuleSnapshot} escrita y leída de nuevo da los mismos
+ * resultados que compilar las expresiones en el momento, y que un archivo dañado se
+ * rechaza.
+ */
+class RuleSnapshotTest {
+
+    private static final int ENTRADAS = 20_000;
+
+    private static final List<String> EJEMPLOS = List.of("ABC123", "050001", "6041234567", "3001234567",
+            "ana.perez@correo.com", "29/02/2024", "23:59:59", "11:59:59 PM", "variable_1", "https://www.ejemplo.com/a b",
+            "7701234567897", "María José", "Clave123!", "for (int i = 0; i < n; i++) {", "-3.14e10",
+            "Ley 100 de 1993, artículo 5", "$1.234.567,89", "[1] A. Perez, \"Titulo\", Revista, Ciudad: Editorial, 2020.");
+
+    @TempDir
+    Path carpeta;
+
+    private static List<Pattern> patrones() {
+        List<Pattern> patrones = new ArrayList<>();
+        for (RegexRule regla : RegexRule.values()) {
+            patrones.add(regla.getPatron());
+        }
+        return patrones;
+    }
+
+    private static List<Pattern> compatibles() {
+        return patrones().stream().filter(CombinedDfa::esCompatible).limit(CombinedDfa.MAXIMO_REGLAS).toList();
+    }
+
+    private Path escribir(RuleSnapshot instantanea) throws IOException {
+        Path archivo = carpeta.resolve("reglas.snapshot");
+        instantanea.escribir(archivo);
+        return archivo;
+    }
+
+    @Test
+    void lasTablasLeidasEquivalenACompilarLasExpresiones() throws IOException {
+        RuleSnapshot original = RuleSnapshot.compilar(patrones(), compatibles());
+        RuleSnapshot leida = RuleSnapshot.leer(escribir(original));
+        assertEquals(original.tamano(), leida.tamano());
+        assertEquals(original.getNumEstadosAutomata(), leida.getNumEstadosAutomata());
+
+        List<String> entradas = new FuzzInputs(61).generar(EJEMPLOS, ENTRADAS);
+        for (Pattern patron : patrones()) {
+            RuleGuard filtro = RuleGuard.de(patron);
+            RuleGuard filtroLeido = leida.filtro(patron);
+            assertEquals(filtro.toString(), filtroLeido.toString(), patron.pattern());
+            assertEquals(filtro.esTrivial(), filtroLeido.esTrivial(), patron.pattern());
+            assertEquals(CombinedDfa.esCompatible(patron), leida.esCompatible(patron), patron.pattern());
+            PikeVm motor = compilarLineal(patron);
+            PikeVm motorLeido = motor == null ? null : leida.motorLineal(patron);
+            for (String entrada : entradas) {
+                assertEquals(filtro.admite(entrada), filtroLeido.admite(entrada), patron.pattern() + " con " + entrada);
+                if (motor != null) {
+                    assertEquals(motor.coincide(entrada), motorLeido.coincide(entrada), patron.pattern() + " con " + entrada);
+                }
+            }
+        }
+
+        CombinedDfa automata = CombinedDfa.compilar(compatibles());
+        CombinedDfa automataLeido = leida.automata(compatibles());
+        for (String entrada : entradas) {
+            assertEquals(automata.coincidencias(entrada), automataLeido.coincidencias(entrada), entrada);
+        }
+    }
+
+    @Test
+    void elClasificadorDaLoMismoConLaInstantaneaInstalada() throws IOException {
+        RegexController sinInstantanea = new RegexController();
+        RuleSnapshot leida = RuleSnapshot.leer(escribir(sinInstantanea.generarInstantanea()));
+        RuleSnapshot.instalar(leida);
+        try {
+            RegexController conInstantanea = new RegexController();
+            for (String entrada : new FuzzInputs(62).generar(EJEMPLOS, ENTRADAS)) {
+                assertEquals(sinInstantanea.clasificar(entrada), conInstantanea.clasificar(entrada), entrada);
+            }
+        } finally {
+            RuleSnapshot.instalar(RuleSnapshot.VACIA);
+        }
+    }
+
+    @Test
+    void unArchivoIncompletoSeRechaza() throws IOException {
+        Path archivo = escribir(RuleSnapshot.compilar(patrones(), compatibles()));
+        byte[] bytes = Files.readAllBytes(archivo);
+        Files.write(archivo, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(EOFException.class, () -> RuleSnapshot.leer(archivo));
+    }
+
+    @Test
+    void otroArchivoUOtraVersionSeRechazan() throws IOException {
+        Path archivo = escribir(RuleSnapshot.compilar(patrones(), compatibles()));
+        byte[] bytes = Files.readAllBytes(archivo);
+
+        byte[] otroMagico = bytes.clone();
+        otroMagico[0] ^= 1;
+        Files.write(archivo, otroMagico);
+        assertThrows(IllegalArgumentException.class, () -> RuleSnapshot.leer(archivo));
+
+        byte[] otraVersion = bytes.clone();
+        otraVersion[7] ^= 1;
+        Files.write(archivo, otraVersion);
+        assertThrows(IllegalArgumentException.class, () -> RuleSnapshot.leer(archivo));
+    }
+
+    private static PikeVm compilarLineal(Pattern patron) {
+        try {
+            return PikeVm.compilar(patron);
+        } catch (UnsupportedRegexException e) {
+            return null;
+        }
+    }
+}